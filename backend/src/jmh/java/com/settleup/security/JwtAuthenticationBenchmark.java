@@ -0,0 +1,72 @@
+package com.settleup.security;
+
+import com.settleup.domain.user.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import javax.crypto.SecretKey;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 인증 필터 경로 벤치마크
+ * - legacyDoubleParse: 기존 방식 (요청마다 파서 생성 + validate/getAuthentication 2회 파싱)
+ * - singleParseMiss: 공유 파서 1회 파싱 (캐시 미스)
+ * - cachedHit: 다이제스트 캐시 히트
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtAuthenticationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-must-be-at-least-256-bits-long-for-hs256";
+
+    private JwtTokenProvider cachedProvider;
+    private JwtTokenProvider uncachedProvider;
+    private SecretKey secretKey;
+    private String token;
+
+    @Setup
+    public void setup() {
+        cachedProvider = newProvider(10000);
+        uncachedProvider = newProvider(0);
+        secretKey = Keys.hmacShaKeyFor(SECRET.getBytes());
+
+        User user = User.builder().id(UUID.randomUUID()).build();
+        token = cachedProvider.createAccessToken(user);
+        cachedProvider.resolveAuthentication(token);
+    }
+
+    @Benchmark
+    public Authentication legacyDoubleParse() {
+        // validateToken
+        Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token);
+        // getAuthentication
+        Claims claims = Jwts.parser().verifyWith(secretKey).build().parseSignedClaims(token).getPayload();
+        return new UsernamePasswordAuthenticationToken(UUID.fromString(claims.getSubject()), "", List.of());
+    }
+
+    @Benchmark
+    public Authentication singleParseMiss() {
+        return uncachedProvider.resolveAuthentication(token);
+    }
+
+    @Benchmark
+    public Authentication cachedHit() {
+        return cachedProvider.resolveAuthentication(token);
+    }
+
+    private static JwtTokenProvider newProvider(long cacheSize) {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(SECRET);
+        properties.setPrincipalCacheSize(cacheSize);
+        JwtTokenProvider provider = new JwtTokenProvider(properties);
+        provider.init();
+        return provider;
+    }
+}
@@ -0,0 +1,111 @@
+package com.settleup.service;
+
+import com.settleup.SettleUpApplication;
+import com.settleup.domain.settlement.Settlement;
+import com.settleup.domain.settlement.SettlementInviteCode;
+import com.settleup.domain.settlement.SettlementStatus;
+import com.settleup.domain.settlement.SettlementType;
+import com.settleup.domain.user.User;
+import com.settleup.exception.BusinessException;
+import com.settleup.repository.SettlementInviteCodeRepository;
+import com.settleup.repository.SettlementRepository;
+import com.settleup.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 초대 코드 참가 폭주 처리량 벤치마크 (단톡방에 공유된 코드 1개에 다수가 동시에 참가 시도)
+ * application.yml 의 DB 설정으로 애플리케이션 컨텍스트를 띄우므로 PostgreSQL 이 필요
+ * 실행: ./gradlew jmh -Pjmh.includes=InviteJoinBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+public class InviteJoinBenchmark {
+
+    private static final int USER_POOL = 256;
+
+    private ConfigurableApplicationContext context;
+    private SettlementMemberService memberService;
+    private SettlementInviteCodeRepository inviteCodeRepository;
+    private JdbcTemplate jdbcTemplate;
+
+    private Settlement settlement;
+    private final List<UUID> userIds = new ArrayList<>();
+    private final AtomicInteger next = new AtomicInteger();
+    private volatile String code;
+
+    @Setup(Level.Trial)
+    public void startContext() {
+        context = new SpringApplicationBuilder(SettleUpApplication.class)
+                .web(WebApplicationType.NONE)
+                .run();
+        memberService = context.getBean(SettlementMemberService.class);
+        inviteCodeRepository = context.getBean(SettlementInviteCodeRepository.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        String run = UUID.randomUUID().toString().substring(0, 8);
+        for (int i = 0; i < USER_POOL; i++) {
+            userIds.add(userRepository.save(User.builder()
+                    .name("bench-" + i)
+                    .email("bench-" + i + "-" + run + "@example.com")
+                    .build()).getId());
+        }
+        settlement = context.getBean(SettlementRepository.class).save(Settlement.builder()
+                .title("join storm")
+                .type(SettlementType.GAME)
+                .status(SettlementStatus.ACTIVE)
+                .creatorId(userIds.get(0))
+                .currency("KRW")
+                .build());
+    }
+
+    /**
+     * 반복마다 새 코드 발급, 기존 참가 기록 정리
+     */
+    @Setup(Level.Iteration)
+    public void issueCode() {
+        jdbcTemplate.update("DELETE FROM settlement_members WHERE settlement_id = ?", settlement.getId());
+        code = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        inviteCodeRepository.save(SettlementInviteCode.builder()
+                .settlementId(settlement.getId())
+                .code(code)
+                .createdBy(userIds.get(0))
+                .expiresAt(LocalDateTime.now().plusHours(1))
+                .build());
+    }
+
+    @Benchmark
+    public boolean joinStorm() {
+        UUID userId = userIds.get(Math.floorMod(next.getAndIncrement(), USER_POOL));
+        try {
+            memberService.joinByInviteCode(code, userId);
+            return true;
+        } catch (BusinessException e) {
+            return false;
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopContext() {
+        jdbcTemplate.update("DELETE FROM settlement_members WHERE settlement_id = ?", settlement.getId());
+        jdbcTemplate.update("DELETE FROM settlement_invite_codes WHERE settlement_id = ?", settlement.getId());
+        jdbcTemplate.update("DELETE FROM settlements WHERE id = ?", settlement.getId());
+        for (UUID userId : userIds) {
+            jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+        }
+        context.close();
+    }
+}
@@ -0,0 +1,56 @@
+package com.settleup.service.ai;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분류 클라이언트 모드별 지연 비교 (로컬 stub 서버, 지연 5ms)
+ * blocking: 호출마다 HttpURLConnection / async: JDK HttpClient 커넥션 풀
+ * 실행: ./gradlew jmh -Pjmh.includes=AiClassifierClientBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.AverageTime, Mode.Throughput})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(32)
+public class AiClassifierClientBenchmark {
+
+    private StubClassifierServer server;
+    private AiClassifierClient blockingClient;
+    private AiClassifierClient asyncClient;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        server = new StubClassifierServer();
+        server.setLatencyMillis(5);
+        blockingClient = client(AiClassifierProperties.ClientMode.BLOCKING);
+        asyncClient = client(AiClassifierProperties.ClientMode.ASYNC);
+    }
+
+    private AiClassifierClient client(AiClassifierProperties.ClientMode mode) {
+        AiClassifierProperties properties = new AiClassifierProperties();
+        properties.setUrl(server.url());
+        properties.setMode(mode);
+        properties.setMaxInFlight(256);
+        AiClassifierClient client = new AiClassifierClient(properties, new ObjectMapper(), new SimpleMeterRegistry());
+        client.init();
+        return client;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        server.close();
+    }
+
+    @Benchmark
+    public Object blocking() {
+        return blockingClient.predictCategory("점심");
+    }
+
+    @Benchmark
+    public Object async() {
+        return asyncClient.predictCategoryAsync("점심").join();
+    }
+}
@@ -0,0 +1,62 @@
+package com.settleup.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.StatelessSession;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JDBC 로 직접 변경한 테이블의 2차 캐시 무효화
+ * Hibernate 를 거치지 않은 변경은 엔티티 캐시와 쿼리 캐시에 반영되지 않으므로 변경한 쪽에서 호출
+ * 리전 전체가 아니라 변경된 엔티티 id 와 해당 테이블(query space) 의 쿼리 결과만 무효화
+ */
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheEvictor {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 변경된 엔티티 항목과 그 테이블을 참조하는 쿼리 캐시 결과 무효화 - 진행 중인 트랜잭션이 있으면 커밋 이후
+     * (커밋 전에 비우면 다른 트랜잭션이 변경 전 데이터를 다시 캐시할 수 있음)
+     */
+    public void evictAfterCommit(Class<?> entityClass, Collection<?> ids) {
+        List<?> snapshot = List.copyOf(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(entityClass, snapshot);
+                }
+            });
+        } else {
+            evict(entityClass, snapshot);
+        }
+    }
+
+    private void evict(Class<?> entityClass, List<?> ids) {
+        SessionFactoryImplementor sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        ids.forEach(id -> sessionFactory.getCache().evictEntityData(entityClass, id));
+
+        // 쿼리 캐시는 결과 저장 시각과 테이블별 마지막 변경 시각을 비교하므로 해당 테이블만 변경 시각 갱신
+        Serializable[] querySpaces = sessionFactory.getMappingMetamodel()
+                .getEntityDescriptor(entityClass)
+                .getQuerySpaces();
+        String[] spaces = new String[querySpaces.length];
+        for (int i = 0; i < querySpaces.length; i++) {
+            spaces[i] = (String) querySpaces[i];
+        }
+        try (StatelessSession session = sessionFactory.openStatelessSession()) {
+            sessionFactory.getCache().getTimestampsCache()
+                    .invalidate(spaces, (SharedSessionContractImplementor) session);
+        }
+    }
+}
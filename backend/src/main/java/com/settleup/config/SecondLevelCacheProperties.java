@@ -0,0 +1,27 @@
+package com.settleup.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Component
+@ConfigurationProperties(prefix = "jpa.second-level-cache")
+@Getter
+@Setter
+public class SecondLevelCacheProperties {
+    private boolean enabled = true;
+    private boolean statistics = true; // hibernate.generate_statistics - actuator metrics 의 hibernate.* 지표
+    private Map<String, Region> regions = new LinkedHashMap<>(); // 리전 이름 → 크기/TTL (엔티티 @Cache region 과 일치)
+
+    @Getter
+    @Setter
+    public static class Region {
+        private long maxSize = 10_000;
+        private Duration ttl = Duration.ofMinutes(5); // 다중 인스턴스 환경에서 다른 서버의 변경 반영 상한
+    }
+}
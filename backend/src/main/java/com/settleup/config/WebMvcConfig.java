@@ -0,0 +1,28 @@
+package com.settleup.config;
+
+import com.settleup.security.AdminApiKeyInterceptor;
+import com.settleup.security.SettlementAccessInterceptor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Web MVC 설정
+ * 정산 범위 API 에 멤버십 검사, 관리자 API 에 API 키 검사 인터셉터 적용
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final SettlementAccessInterceptor settlementAccessInterceptor;
+    private final AdminApiKeyInterceptor adminApiKeyInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(settlementAccessInterceptor)
+                .addPathPatterns("/settlements/*", "/settlements/*/**");
+        registry.addInterceptor(adminApiKeyInterceptor)
+                .addPathPatterns("/admin/**");
+    }
+}
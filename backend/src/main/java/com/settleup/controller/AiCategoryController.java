@@ -1,7 +1,7 @@
 package com.settleup.controller;
 
 import com.settleup.dto.AiCategoryDto;
-import com.settleup.service.ai.AiClassifierClient;
+import com.settleup.service.ai.CategoryPredictionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -13,6 +13,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @RestController
 @RequestMapping("/expenses")
@@ -20,7 +22,7 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "AI Category", description = "AI 카테고리 추천 API")
 public class AiCategoryController {
 
-    private final AiClassifierClient aiClassifierClient;
+    private final CategoryPredictionService categoryPredictionService;
 
     @Operation(
             summary = "AI 카테고리 예측",
@@ -28,20 +30,28 @@ public class AiCategoryController {
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "예측 성공"),
-            @ApiResponse(responseCode = "503", description = "AI 분류 서비스 불가")
+            @ApiResponse(responseCode = "503", description = "AI 분류 서비스 불가 (폴백 분류기도 응답 불가)")
     })
     @PostMapping("/predict-category")
-    public ResponseEntity<AiCategoryDto.PredictResponse> predictCategory(
+    public CompletableFuture<ResponseEntity<AiCategoryDto.PredictResponse>> predictCategory(
             @Valid @RequestBody AiCategoryDto.PredictRequest request) {
 
-        var result = aiClassifierClient.predictCategory(request.getDescription());
-        if (result == null) {
-            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
-        }
-        var response = AiCategoryDto.PredictResponse.builder()
-                .category(result.getCategory())
-                .confidence(result.getConfidence())
-                .build();
-        return ResponseEntity.ok(response);
+        // 분류 서비스 응답을 기다리는 동안 요청 스레드 반환 (MVC 비동기 처리)
+        return categoryPredictionService.predictAsync(request.getDescription())
+                .thenApply(result -> result != null
+                        ? ResponseEntity.ok(result)
+                        : ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).<AiCategoryDto.PredictResponse>build());
+    }
+
+    @Operation(
+            summary = "AI 카테고리 일괄 예측",
+            description = "가져온 지출 목록 등 여러 설명을 한 번에 예측합니다. 결과는 요청 순서와 같고, 예측에 실패한 항목은 category 가 null 입니다."
+    )
+    @PostMapping("/predict-category/batch")
+    public CompletableFuture<ResponseEntity<AiCategoryDto.BatchPredictResponse>> predictCategories(
+            @Valid @RequestBody AiCategoryDto.BatchPredictRequest request) {
+
+        return categoryPredictionService.predictAllAsync(request.getDescriptions())
+                .thenApply(ResponseEntity::ok);
     }
 }
@@ -139,7 +139,7 @@ public class ExpenseController {
 
         log.info("GET /settlements/{}/expenses/{} - Getting expense", settlementId, expenseId);
 
-        ExpenseResponse response = expenseService.getExpense(expenseId);
+        ExpenseResponse response = expenseService.getExpense(settlementId, expenseId);
 
         return ResponseEntity.ok(response);
     }
@@ -184,7 +184,7 @@ public class ExpenseController {
 
         log.info("PUT /settlements/{}/expenses/{} - Updating expense", settlementId, expenseId);
 
-        ExpenseResponse response = expenseService.updateExpense(expenseId, request);
+        ExpenseResponse response = expenseService.updateExpense(settlementId, expenseId, request);
 
         return ResponseEntity.ok(response);
     }
@@ -217,7 +217,7 @@ public class ExpenseController {
 
         log.info("DELETE /settlements/{}/expenses/{} - Deleting expense", settlementId, expenseId);
 
-        expenseService.deleteExpense(expenseId);
+        expenseService.deleteExpense(settlementId, expenseId);
 
         return ResponseEntity.noContent().build();
     }
@@ -297,7 +297,7 @@ public class ExpenseController {
         log.info("PUT /settlements/{}/expenses/{}/splits - Setting expense splits: type={}",
                 settlementId, expenseId, request.getSplitType());
 
-        ExpenseResponse response = expenseService.setExpenseSplits(expenseId, request);
+        ExpenseResponse response = expenseService.setExpenseSplits(settlementId, expenseId, request);
 
         return ResponseEntity.ok(response);
     }
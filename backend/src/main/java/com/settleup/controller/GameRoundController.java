@@ -5,10 +5,12 @@ import com.settleup.service.GameRoundService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -32,6 +34,30 @@ public class GameRoundController {
         return ResponseEntity.ok(rounds);
     }
 
+    @Operation(summary = "참가자별 누적 금액 조회", description = "라운드에서 제외된 참가자의 엔트리를 뺀 참가자별 합계를 조회합니다.")
+    @GetMapping("/settlements/{settlementId}/game-rounds/totals")
+    public ResponseEntity<List<ParticipantTotalResponse>> getParticipantTotals(
+            @Parameter(description = "정산 ID", required = true)
+            @PathVariable UUID settlementId) {
+        log.info("GET /settlements/{}/game-rounds/totals", settlementId);
+        return ResponseEntity.ok(gameRoundService.getParticipantTotals(settlementId));
+    }
+
+    @Operation(summary = "라운드별 누적 순위표 조회",
+            description = "라운드 구간(fromRound~toRound, 최대 200라운드)의 참가자별 누적 금액을 조회합니다.")
+    @GetMapping("/settlements/{settlementId}/game-rounds/leaderboard")
+    public ResponseEntity<LeaderboardResponse> getLeaderboard(
+            @Parameter(description = "정산 ID", required = true)
+            @PathVariable UUID settlementId,
+            @Parameter(description = "시작 라운드 번호 (기본 1)")
+            @RequestParam(required = false) Integer fromRound,
+            @Parameter(description = "끝 라운드 번호")
+            @RequestParam(required = false) Integer toRound) {
+        log.info("GET /settlements/{}/game-rounds/leaderboard - fromRound={}, toRound={}",
+                settlementId, fromRound, toRound);
+        return ResponseEntity.ok(gameRoundService.getLeaderboard(settlementId, fromRound, toRound));
+    }
+
     @Operation(summary = "게임 라운드 생성", description = "새로운 게임 라운드를 생성합니다.")
     @PostMapping("/settlements/{settlementId}/game-rounds")
     public ResponseEntity<GameRoundResponse> createGameRound(
@@ -43,14 +69,27 @@ public class GameRoundController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @Operation(summary = "게임 라운드 일괄 업로드",
+            description = "여러 라운드와 엔트리를 한 번에 생성/수정합니다. roundId 가 없는 라운드는 새로 생성됩니다.")
+    @PostMapping("/settlements/{settlementId}/game-rounds/bulk")
+    public ResponseEntity<List<GameRoundWithEntriesResponse>> bulkUpsertRounds(
+            @Parameter(description = "정산 ID", required = true)
+            @PathVariable UUID settlementId,
+            @Valid @RequestBody BulkRoundsRequest request) {
+        log.info("POST /settlements/{}/game-rounds/bulk", settlementId);
+        List<GameRoundWithEntriesResponse> response = gameRoundService.bulkUpsertRounds(settlementId, request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
     @Operation(summary = "라운드 엔트리 일괄 업데이트", description = "라운드의 엔트리를 일괄 교체합니다.")
     @PutMapping("/game-rounds/{roundId}/entries")
     public ResponseEntity<GameRoundWithEntriesResponse> updateRoundEntries(
             @Parameter(description = "라운드 ID", required = true)
             @PathVariable UUID roundId,
-            @RequestBody UpdateEntriesRequest request) {
+            @Valid @RequestBody UpdateEntriesRequest request,
+            @AuthenticationPrincipal UUID userId) {
         log.info("PUT /game-rounds/{}/entries", roundId);
-        GameRoundWithEntriesResponse response = gameRoundService.updateRoundEntries(roundId, request);
+        GameRoundWithEntriesResponse response = gameRoundService.updateRoundEntries(roundId, request, userId);
         return ResponseEntity.ok(response);
     }
 
@@ -58,9 +97,10 @@ public class GameRoundController {
     @DeleteMapping("/game-rounds/{roundId}")
     public ResponseEntity<Void> deleteGameRound(
             @Parameter(description = "라운드 ID", required = true)
-            @PathVariable UUID roundId) {
+            @PathVariable UUID roundId,
+            @AuthenticationPrincipal UUID userId) {
         log.info("DELETE /game-rounds/{}", roundId);
-        gameRoundService.deleteGameRound(roundId);
+        gameRoundService.deleteGameRound(roundId, userId);
         return ResponseEntity.noContent().build();
     }
 }
@@ -137,7 +137,7 @@ public class ParticipantController {
 
         log.info("GET /settlements/{}/participants/{} - Getting participant", settlementId, participantId);
 
-        ParticipantResponse response = participantService.getParticipant(participantId);
+        ParticipantResponse response = participantService.getParticipant(settlementId, participantId);
 
         return ResponseEntity.ok(response);
     }
@@ -179,7 +179,7 @@ public class ParticipantController {
                 settlementId, participantId, request.getIsActive());
 
         ParticipantResponse response = participantService.toggleParticipantStatus(
-                participantId, request.getIsActive());
+                settlementId, participantId, request.getIsActive());
 
         return ResponseEntity.ok(response);
     }
@@ -212,7 +212,7 @@ public class ParticipantController {
 
         log.info("DELETE /settlements/{}/participants/{} - Deleting participant", settlementId, participantId);
 
-        participantService.deleteParticipant(participantId);
+        participantService.deleteParticipant(settlementId, participantId);
 
         return ResponseEntity.noContent().build();
     }
@@ -2,6 +2,7 @@ package com.settleup.controller;
 
 import com.settleup.domain.settlement.SettlementInviteCode;
 import com.settleup.domain.settlement.SettlementMember;
+import com.settleup.security.SettlementAccess;
 import com.settleup.service.SettlementMemberService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -50,25 +51,29 @@ public class SettlementMemberController {
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "초대 코드 생성")
+    @Operation(summary = "초대 코드 생성", description = "maxUses 를 지정하면 여러 명이 같은 코드로 참가 가능 (기본 1회)")
     @PostMapping("/invite")
     public ResponseEntity<Map<String, Object>> generateInviteCode(
             @PathVariable UUID settlementId,
+            @RequestBody(required = false) Map<String, Integer> request,
             @AuthenticationPrincipal UUID userId) {
-        log.info("POST /settlements/{}/members/invite - userId={}", settlementId, userId);
+        int maxUses = request != null && request.get("maxUses") != null ? request.get("maxUses") : 1;
+        log.info("POST /settlements/{}/members/invite - userId={}, maxUses={}", settlementId, userId, maxUses);
 
-        SettlementInviteCode inviteCode = memberService.generateInviteCode(settlementId, userId);
+        SettlementInviteCode inviteCode = memberService.generateInviteCode(settlementId, userId, maxUses);
 
         Map<String, Object> response = new HashMap<>();
         response.put("code", inviteCode.getCode());
         response.put("expiresAt", inviteCode.getExpiresAt());
         response.put("settlementId", inviteCode.getSettlementId());
+        response.put("maxUses", inviteCode.getMaxUses());
 
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
     @Operation(summary = "초대 코드로 참가")
     @PostMapping("/join")
+    @SettlementAccess(required = false)
     public ResponseEntity<Map<String, Object>> joinByInviteCode(
             @PathVariable UUID settlementId,
             @RequestBody Map<String, String> request,
@@ -0,0 +1,37 @@
+package com.settleup.controller.admin;
+
+import com.settleup.dto.AiCategoryDto;
+import com.settleup.service.ai.CategoryPredictionService;
+import com.settleup.service.ai.FallbackCategoryClassifier;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 관리자 API - AI 카테고리 예측 운영 지표 (X-Admin-Api-Key 필요)
+ */
+@RestController
+@RequestMapping("/admin/ai-category")
+@RequiredArgsConstructor
+@Tag(name = "Admin", description = "관리자 API")
+public class AiCategoryAdminController {
+
+    private final CategoryPredictionService categoryPredictionService;
+    private final FallbackCategoryClassifier fallbackCategoryClassifier;
+
+    @Operation(summary = "AI 카테고리 예측 캐시 통계", description = "캐시 적중률, 크기, 현재 모델 버전을 조회합니다.")
+    @GetMapping("/cache-stats")
+    public ResponseEntity<AiCategoryDto.CacheStatsResponse> getCacheStats() {
+        return ResponseEntity.ok(categoryPredictionService.stats());
+    }
+
+    @Operation(summary = "폴백 분류기 상태", description = "JVM 내 폴백 분류기의 학습 현황과 원격 예측과의 일치율을 조회합니다.")
+    @GetMapping("/fallback-stats")
+    public ResponseEntity<AiCategoryDto.FallbackStatsResponse> getFallbackStats() {
+        return ResponseEntity.ok(fallbackCategoryClassifier.stats());
+    }
+}
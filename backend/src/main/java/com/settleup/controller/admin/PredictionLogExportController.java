@@ -0,0 +1,65 @@
+package com.settleup.controller.admin;
+
+import com.settleup.service.ai.PredictionLogExportService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 관리자 API - 예측 로그 내보내기 (X-Admin-Api-Key 필요)
+ */
+@RestController
+@RequestMapping("/admin/prediction-logs")
+@RequiredArgsConstructor
+@Tag(name = "Admin", description = "관리자 API")
+public class PredictionLogExportController {
+
+    private static final DateTimeFormatter FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
+    private final PredictionLogExportService predictionLogExportService;
+
+    @Operation(
+            summary = "예측 로그 내보내기",
+            description = "재학습용 예측 로그를 gzip 압축 NDJSON 으로 스트리밍합니다. "
+                    + "incremental=true 이면 consumer 별로 마지막 내보내기 이후 행만 내보냅니다."
+    )
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> export(
+            @Parameter(description = "시작 시각 (포함, ISO-8601)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @Parameter(description = "종료 시각 (제외, ISO-8601)")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @Parameter(description = "예측 로그 출처")
+            @RequestParam(required = false) String source,
+            @RequestParam(defaultValue = "false") boolean incremental,
+            @Parameter(description = "증분 내보내기 소비자 이름 (워터마크 구분)")
+            @RequestParam(required = false) String consumer) {
+
+        PredictionLogExportService.ExportRequest request =
+                new PredictionLogExportService.ExportRequest(from, to, source, incremental, consumer);
+        // 스트리밍 시작 후에는 상태 코드를 바꿀 수 없으므로 미리 검증
+        predictionLogExportService.validate(request);
+
+        String filename = "prediction-logs-" + LocalDateTime.now().format(FILE_TIMESTAMP) + ".ndjson.gz";
+        StreamingResponseBody body = out -> predictionLogExportService.export(request, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/gzip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
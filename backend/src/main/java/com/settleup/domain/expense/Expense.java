@@ -53,6 +53,10 @@ public class Expense {
     @Size(max = 50, message = "AI 카테고리는 최대 50자입니다")
     private String categoryAi;
 
+    // AI 자동 분류 배치의 마지막 시도 시각 (설명 변경 시 초기화)
+    @Column(name = "category_ai_attempted_at")
+    private LocalDateTime categoryAiAttemptedAt;
+
     @Column(nullable = false, length = 200)
     @NotBlank(message = "지출 설명은 필수입니다")
     @Size(min = 1, max = 200, message = "지출 설명은 1-200자 사이여야 합니다")
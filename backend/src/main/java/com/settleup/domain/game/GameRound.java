@@ -1,19 +1,18 @@
 package com.settleup.domain.game;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
-import java.util.Collections;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "game_rounds")
+@Table(name = "game_rounds",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"settlement_id", "round_number"}))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -21,8 +20,6 @@ import java.util.UUID;
 @Builder
 public class GameRound {
 
-    private static final ObjectMapper objectMapper = new ObjectMapper();
-
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
     private UUID id;
@@ -40,10 +37,11 @@ public class GameRound {
     @Builder.Default
     private Boolean isCompleted = false;
 
-    @Column(name = "excluded_participant_ids", columnDefinition = "jsonb")
-    @JdbcTypeCode(SqlTypes.JSON)
+    // Postgres uuid[] (집계 쿼리에서 participant_id <> ALL(excluded_participant_ids) 로 필터링)
+    @Column(name = "excluded_participant_ids", columnDefinition = "uuid[]", nullable = false)
+    @JdbcTypeCode(SqlTypes.ARRAY)
     @Builder.Default
-    private String excludedParticipantIds = "[]";
+    private List<UUID> excludedParticipantIds = new ArrayList<>();
 
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -65,29 +63,4 @@ public class GameRound {
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
     }
-
-    public List<UUID> getExcludedParticipantIdList() {
-        if (excludedParticipantIds == null || excludedParticipantIds.isBlank()) {
-            return Collections.emptyList();
-        }
-        try {
-            List<String> ids = objectMapper.readValue(excludedParticipantIds, new TypeReference<>() {});
-            return ids.stream().map(UUID::fromString).toList();
-        } catch (Exception e) {
-            return Collections.emptyList();
-        }
-    }
-
-    public void setExcludedParticipantIdList(List<UUID> ids) {
-        if (ids == null || ids.isEmpty()) {
-            this.excludedParticipantIds = "[]";
-            return;
-        }
-        try {
-            List<String> stringIds = ids.stream().map(UUID::toString).toList();
-            this.excludedParticipantIds = objectMapper.writeValueAsString(stringIds);
-        } catch (Exception e) {
-            this.excludedParticipantIds = "[]";
-        }
-    }
 }
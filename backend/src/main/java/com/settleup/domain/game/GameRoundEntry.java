@@ -9,7 +9,8 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "game_round_entries")
+@Table(name = "game_round_entries",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"round_id", "participant_id"}))
 @Getter
 @Setter
 @NoArgsConstructor
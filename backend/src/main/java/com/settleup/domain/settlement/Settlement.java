@@ -4,6 +4,8 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -14,6 +16,8 @@ import java.util.UUID;
  * 여행 정산 또는 게임 정산 세션
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "settlement")
 @Table(name = "settlements")
 @Getter
 @Setter
@@ -71,6 +75,15 @@ public class Settlement {
     @Builder.Default
     private String syncStatus = "SYNCED";
 
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    /**
+     * 콜드 스토리지 보관 시각 (null이 아니면 하위 데이터는 settlement_archives 번들에 있음)
+     */
+    @Column(name = "archived_at")
+    private LocalDateTime archivedAt;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -85,6 +98,22 @@ public class Settlement {
         updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * 상태 변경 (완료 시각 기록 포함)
+     */
+    public void changeStatus(SettlementStatus newStatus) {
+        if (newStatus == SettlementStatus.COMPLETED && status != SettlementStatus.COMPLETED) {
+            completedAt = LocalDateTime.now();
+        } else if (newStatus == SettlementStatus.ACTIVE) {
+            completedAt = null;
+        }
+        status = newStatus;
+    }
+
+    public boolean isArchived() {
+        return archivedAt != null;
+    }
+
     /**
      * 종료일이 시작일 이후인지 검증
      */
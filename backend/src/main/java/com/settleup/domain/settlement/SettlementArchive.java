@@ -0,0 +1,56 @@
+package com.settleup.domain.settlement;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * SettlementArchive Entity
+ * 완료 정산의 하위 데이터를 압축 보관하는 콜드 스토리지 행
+ */
+@Entity
+@Table(name = "settlement_archives")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SettlementArchive {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID id;
+
+    @Column(name = "settlement_id", nullable = false, unique = true)
+    private UUID settlementId;
+
+    @Column(name = "format_version", nullable = false)
+    private Integer formatVersion;
+
+    @Column(name = "bundle", nullable = false, columnDefinition = "bytea")
+    @Convert(converter = SettlementArchiveBundleConverter.class)
+    private SettlementArchiveBundle bundle;
+
+    // 목록 화면 집계용 요약 (번들 해제 없이 조회)
+    @Column(name = "total_expense", nullable = false, precision = 12, scale = 2)
+    private BigDecimal totalExpense;
+
+    @Column(name = "participant_count", nullable = false)
+    private Integer participantCount;
+
+    @Column(name = "round_count", nullable = false)
+    private Integer roundCount;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        if (archivedAt == null) {
+            archivedAt = LocalDateTime.now();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.settleup.domain.settlement;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import lombok.*;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 정산 아카이브 번들
+ * 완료 정산의 참가자/지출/분담/라운드/결과 스냅샷 (gzip JSON으로 저장)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SettlementArchiveBundle {
+
+    // 2: GameRoundRecord.excludedParticipantIds 를 JSON 문자열 대신 UUID 배열로 저장
+    public static final int FORMAT_VERSION = 2;
+
+    private UUID settlementId;
+    private List<ParticipantRecord> participants;
+    private List<ExpenseRecord> expenses;
+    private List<ExpenseSplitRecord> splits;
+    private List<GameRoundRecord> rounds;
+    private List<GameRoundEntryRecord> entries;
+    private List<ResultRecord> results;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ParticipantRecord {
+        private UUID id;
+        private UUID userId;
+        private String name;
+        private Boolean isActive;
+        private LocalDateTime joinedAt;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ExpenseRecord {
+        private UUID id;
+        private UUID payerId;
+        private BigDecimal amount;
+        private String category;
+        private String categoryAi;
+        private String description;
+        private LocalDateTime expenseDate;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+        private Integer version;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ExpenseSplitRecord {
+        private UUID id;
+        private UUID expenseId;
+        private UUID participantId;
+        private BigDecimal share;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class GameRoundRecord {
+        private UUID id;
+        private Integer roundNumber;
+        private String title;
+        private Boolean isCompleted;
+        @JsonDeserialize(using = ExcludedParticipantIdsDeserializer.class)
+        private List<UUID> excludedParticipantIds;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class GameRoundEntryRecord {
+        private UUID id;
+        private UUID roundId;
+        private UUID participantId;
+        private BigDecimal amount;
+        private String memo;
+        private LocalDateTime createdAt;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ResultRecord {
+        private UUID id;
+        private BigDecimal totalAmount;
+        private SettlementResultData resultData;
+        private LocalDateTime calculatedAt;
+        private LocalDateTime createdAt;
+    }
+
+    /**
+     * 제외 참가자 목록 역직렬화 - 버전 1 번들의 JSON 문자열("[\"uuid\", ...]")도 읽음
+     */
+    static class ExcludedParticipantIdsDeserializer extends JsonDeserializer<List<UUID>> {
+
+        private static final ObjectMapper LEGACY_MAPPER = new ObjectMapper();
+
+        @Override
+        public List<UUID> deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+            JsonNode node = parser.readValueAsTree();
+            if (node.isTextual()) {
+                String legacy = node.asText();
+                node = legacy.isBlank() ? LEGACY_MAPPER.createArrayNode() : LEGACY_MAPPER.readTree(legacy);
+            }
+            List<UUID> ids = new ArrayList<>();
+            for (JsonNode id : node) {
+                ids.add(UUID.fromString(id.asText()));
+            }
+            return ids;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.settleup.domain.settlement;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * SettlementArchiveBundle <-> gzip 압축 JSON 변환
+ */
+@Slf4j
+@Converter(autoApply = false)
+public class SettlementArchiveBundleConverter implements AttributeConverter<SettlementArchiveBundle, byte[]> {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    @Override
+    public byte[] convertToDatabaseColumn(SettlementArchiveBundle attribute) {
+        if (attribute == null) return null;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            objectMapper.writeValue(gzip, attribute);
+        } catch (IOException e) {
+            log.error("Error compressing SettlementArchiveBundle", e);
+            throw new RuntimeException("아카이브 번들 압축 실패", e);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public SettlementArchiveBundle convertToEntityAttribute(byte[] dbData) {
+        if (dbData == null || dbData.length == 0) return null;
+        try (GZIPInputStream gzip = new GZIPInputStream(new ByteArrayInputStream(dbData))) {
+            return objectMapper.readValue(gzip, SettlementArchiveBundle.class);
+        } catch (IOException e) {
+            log.error("Error decompressing SettlementArchiveBundle", e);
+            throw new RuntimeException("아카이브 번들 해제 실패", e);
+        }
+    }
+}
@@ -31,6 +31,15 @@ public class SettlementInviteCode {
     @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt;
 
+    @Column(name = "max_uses", nullable = false)
+    @Builder.Default
+    private Integer maxUses = 1;
+
+    @Column(name = "use_count", nullable = false)
+    @Builder.Default
+    private Integer useCount = 0;
+
+    // 마지막 사용자 (다회용 코드는 최근 사용 1건만 유지, 전체 이력은 settlement_invite_redemptions)
     @Column(name = "used_by")
     private UUID usedBy;
 
@@ -52,7 +61,11 @@ public class SettlementInviteCode {
     }
 
     public boolean isUsed() {
-        return usedBy != null;
+        return useCount >= maxUses;
+    }
+
+    public boolean isMultiUse() {
+        return maxUses > 1;
     }
 
     public boolean isValid() {
@@ -2,11 +2,15 @@ package com.settleup.domain.settlement;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "settlement-member")
 @Table(name = "settlement_members",
         uniqueConstraints = @UniqueConstraint(columnNames = {"settlement_id", "user_id"}))
 @Getter
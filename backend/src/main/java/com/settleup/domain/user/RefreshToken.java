@@ -9,7 +9,7 @@ import java.util.UUID;
 
 /**
  * RefreshToken Entity
- * JWT 리프레시 토큰 관리
+ * JWT 리프레시 토큰 관리 (원문 대신 SHA-256 해시 저장)
  */
 @Entity
 @Table(name = "refresh_tokens")
@@ -29,8 +29,12 @@ public class RefreshToken {
     private User user;
 
     @NotBlank
-    @Column(name = "token", nullable = false, columnDefinition = "TEXT")
-    private String token;
+    @Column(name = "token_hash", nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    // 최초 로그인에서 회전으로 이어진 토큰 묶음 (재사용 탐지 시 일괄 폐기)
+    @Column(name = "family_id", nullable = false)
+    private UUID familyId;
 
     @Column(name = "expires_at", nullable = false)
     private LocalDateTime expiresAt;
@@ -42,6 +46,10 @@ public class RefreshToken {
     @Column(name = "revoked", nullable = false)
     private Boolean revoked = false;
 
+    // 정리 배치의 폐기 토큰 보존 기간 기준
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
@@ -57,5 +65,6 @@ public class RefreshToken {
 
     public void revoke() {
         this.revoked = true;
+        this.revokedAt = LocalDateTime.now();
     }
 }
\ No newline at end of file
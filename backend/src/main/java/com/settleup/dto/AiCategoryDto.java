@@ -1,8 +1,14 @@
 package com.settleup.dto;
 
+import com.fasterxml.jackson.annotation.JsonAlias;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
 import lombok.*;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 public class AiCategoryDto {
 
     @Getter
@@ -12,12 +18,53 @@ public class AiCategoryDto {
         private String description;
     }
 
+    @Getter
+    @Setter
+    public static class BatchPredictRequest {
+        @NotEmpty(message = "설명 목록은 필수입니다")
+        @Size(max = 500, message = "한 번에 최대 500건까지 예측할 수 있습니다")
+        private List<@NotBlank(message = "설명은 필수입니다") String> descriptions;
+    }
+
     @Getter
     @Setter
     @Builder
     public static class PredictResponse {
         private String category;
         private Double confidence;
+        private boolean cached;
+        private boolean fallback; // 원격 분류 대신 JVM 내 폴백 분류기 결과
+    }
+
+    /**
+     * 요청 순서대로 예측 결과, 분류 실패 항목은 category/confidence 가 null
+     */
+    @Getter
+    @Builder
+    public static class BatchPredictResponse {
+        private List<PredictResponse> predictions;
+    }
+
+    @Getter
+    @Builder
+    public static class CacheStatsResponse {
+        private String modelVersion;
+        private long size;
+        private long hitCount;
+        private long missCount;
+        private double hitRatio;
+    }
+
+    @Getter
+    @Builder
+    public static class FallbackStatsResponse {
+        private boolean trained;
+        private LocalDateTime trainedAt;
+        private int sampleCount;
+        private int categoryCount;
+        private int vocabularySize;
+        private long comparedCount; // 원격 예측과 비교한 건수
+        private double agreementRate; // 원격 예측과 카테고리가 일치한 비율
     }
 
     @Getter
@@ -26,5 +73,13 @@ public class AiCategoryDto {
         private String description;
         private String category;
         private Double confidence;
+        @JsonAlias("model_version")
+        private String modelVersion;
+    }
+
+    @Getter
+    @Setter
+    public static class ClassifierBatchResponse {
+        private List<ClassifierResponse> predictions;
     }
 }
@@ -3,6 +3,8 @@ package com.settleup.dto;
 import com.settleup.domain.game.GameRound;
 import com.settleup.domain.game.GameRoundEntry;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
@@ -35,10 +37,47 @@ public class GameRoundDto {
     public static class UpdateEntriesRequest {
 
         @Schema(description = "참가자별 엔트리 목록", required = true)
-        private List<EntryData> entries;
+        private List<@NotNull @Valid EntryData> entries;
 
         @Schema(description = "제외된 참가자 ID 목록")
-        private List<UUID> excludedParticipantIds;
+        private List<@NotNull UUID> excludedParticipantIds;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "라운드 일괄 업로드 요청")
+    public static class BulkRoundsRequest {
+
+        @NotEmpty(message = "업로드할 라운드가 없습니다.")
+        @Schema(description = "라운드 목록 (요청 순서대로 새 라운드 번호 부여)", required = true)
+        private List<@NotNull @Valid BulkRoundData> rounds;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "일괄 업로드 라운드 데이터")
+    public static class BulkRoundData {
+
+        @Schema(description = "기존 라운드 ID (없으면 새 라운드 생성)")
+        private UUID roundId;
+
+        @Schema(description = "새 라운드의 클라이언트 생성 ID (같은 ID 로 재시도하면 새로 만들지 않고 기존 라운드 갱신)")
+        private UUID clientRoundId;
+
+        @Schema(description = "라운드 제목 (선택)")
+        private String title;
+
+        @Schema(description = "참가자별 엔트리 목록")
+        private List<@NotNull @Valid EntryData> entries;
+
+        @Schema(description = "제외된 참가자 ID 목록")
+        private List<@NotNull UUID> excludedParticipantIds;
     }
 
     @Getter
@@ -177,7 +216,7 @@ public class GameRoundDto {
                     .map(GameRoundEntry::getAmount)
                     .reduce(BigDecimal.ZERO, BigDecimal::add);
 
-            List<String> excludedIds = round.getExcludedParticipantIdList().stream()
+            List<String> excludedIds = round.getExcludedParticipantIds().stream()
                     .map(UUID::toString)
                     .toList();
 
@@ -190,4 +229,73 @@ public class GameRoundDto {
                     .build();
         }
     }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "참가자별 누적 금액 응답 (제외된 라운드 엔트리 미포함)")
+    public static class ParticipantTotalResponse {
+
+        @Schema(description = "참가자 ID")
+        private UUID participantId;
+
+        @Schema(description = "참가자 이름")
+        private String participantName;
+
+        @Schema(description = "누적 금액")
+        private BigDecimal totalAmount;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "라운드별 누적 순위표 응답")
+    public static class LeaderboardResponse {
+
+        @Schema(description = "조회 시작 라운드 번호")
+        private Integer fromRound;
+
+        @Schema(description = "조회 끝 라운드 번호")
+        private Integer toRound;
+
+        @Schema(description = "참가자 목록 (마지막 라운드 누적 금액 내림차순, totals 배열 순서와 동일)")
+        private List<LeaderboardParticipant> participants;
+
+        @Schema(description = "라운드별 누적 금액")
+        private List<LeaderboardRound> rounds;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "순위표 참가자")
+    public static class LeaderboardParticipant {
+
+        @Schema(description = "참가자 ID")
+        private UUID id;
+
+        @Schema(description = "참가자 이름")
+        private String name;
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "라운드별 누적 금액")
+    public static class LeaderboardRound {
+
+        @Schema(description = "라운드 번호")
+        private Integer roundNumber;
+
+        @Schema(description = "참가자별 누적 금액 (participants 순서)")
+        private List<BigDecimal> totals;
+    }
 }
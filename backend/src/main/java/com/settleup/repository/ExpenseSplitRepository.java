@@ -49,6 +49,12 @@ public interface ExpenseSplitRepository extends JpaRepository<ExpenseSplit, UUID
         @Param("settlementId") UUID settlementId
     );
 
+    /**
+     * 특정 정산의 모든 분담 내역 조회
+     */
+    @Query("SELECT es FROM ExpenseSplit es WHERE es.expense.settlement.id = :settlementId")
+    List<ExpenseSplit> findBySettlementId(@Param("settlementId") UUID settlementId);
+
     /**
      * 특정 지출 삭제 시 관련 분담 내역도 삭제 (Cascade)
      */
@@ -2,6 +2,8 @@ package com.settleup.repository;
 
 import com.settleup.domain.game.GameRoundEntry;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -17,4 +19,37 @@ public interface GameRoundEntryRepository extends JpaRepository<GameRoundEntry,
     void deleteByRoundId(UUID roundId);
 
     void deleteByRoundIdIn(List<UUID> roundIds);
+
+    /**
+     * 참가자별 누적 금액 (라운드에서 제외된 참가자의 엔트리는 SQL 에서 제외)
+     *
+     * @return [participantId, sum(amount)]
+     */
+    @Query(value = "SELECT e.participant_id, SUM(e.amount) " +
+            "FROM game_round_entries e JOIN game_rounds r ON r.id = e.round_id " +
+            "WHERE r.settlement_id = :settlementId " +
+            "AND e.participant_id <> ALL (r.excluded_participant_ids) " +
+            "GROUP BY e.participant_id", nativeQuery = true)
+    List<Object[]> sumIncludedAmountsByParticipant(@Param("settlementId") UUID settlementId);
+
+    /**
+     * 라운드별 참가자 누적 금액 (SUM OVER 윈도우) - fromRound~toRound 구간만 반환
+     * 누적은 첫 라운드부터 계산하며, 엔트리가 없거나 제외된 라운드는 0 으로 이어감
+     *
+     * @return [roundNumber, participantId, cumulativeAmount] (라운드 번호 순)
+     */
+    @Query(value = "SELECT round_number, participant_id, cumulative FROM (" +
+            "SELECT r.round_number, p.participant_id, " +
+            "SUM(COALESCE(e.amount, 0)) OVER (PARTITION BY p.participant_id ORDER BY r.round_number) AS cumulative " +
+            "FROM game_rounds r " +
+            "CROSS JOIN (SELECT DISTINCT pe.participant_id FROM game_round_entries pe " +
+            "JOIN game_rounds pr ON pr.id = pe.round_id WHERE pr.settlement_id = :settlementId) p " +
+            "LEFT JOIN game_round_entries e ON e.round_id = r.id AND e.participant_id = p.participant_id " +
+            "AND e.participant_id <> ALL (r.excluded_participant_ids) " +
+            "WHERE r.settlement_id = :settlementId AND r.round_number <= :toRound) standings " +
+            "WHERE round_number >= :fromRound " +
+            "ORDER BY round_number", nativeQuery = true)
+    List<Object[]> findCumulativeStandings(@Param("settlementId") UUID settlementId,
+                                           @Param("fromRound") int fromRound,
+                                           @Param("toRound") int toRound);
 }
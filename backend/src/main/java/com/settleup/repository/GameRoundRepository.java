@@ -16,8 +16,6 @@ public interface GameRoundRepository extends JpaRepository<GameRound, UUID> {
 
     void deleteBySettlementId(UUID settlementId);
 
-    int countBySettlementId(UUID settlementId);
-
     /**
      * 정산별 라운드 수 배치 조회
      */
@@ -1,8 +1,11 @@
 package com.settleup.repository;
 
 import com.settleup.domain.participant.Participant;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -18,13 +21,15 @@ import java.util.UUID;
 public interface ParticipantRepository extends JpaRepository<Participant, UUID> {
 
     /**
-     * 정산 ID로 참가자 목록 조회
+     * 정산 ID로 참가자 목록 조회 (쿼리 캐시 - participants 변경 시 자동 무효화)
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Participant> findBySettlementId(UUID settlementId);
 
     /**
-     * 정산 ID와 활성 상태로 조회
+     * 정산 ID와 활성 상태로 조회 (쿼리 캐시)
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Participant> findBySettlementIdAndIsActive(UUID settlementId, Boolean isActive);
 
     /**
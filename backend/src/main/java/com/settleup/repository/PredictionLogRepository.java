@@ -1,10 +1,17 @@
 package com.settleup.repository;
 
 import com.settleup.domain.prediction.PredictionLog;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * PredictionLog Repository
@@ -12,4 +19,22 @@ import java.util.UUID;
  */
 @Repository
 public interface PredictionLogRepository extends JpaRepository<PredictionLog, UUID> {
+
+    /**
+     * 폴백 분류기 학습 데이터 (설명 → 최종 카테고리), 최신순 커서 스트리밍
+     * 읽기 트랜잭션 안에서 호출하고 사용 후 close 해야 함
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p.description AS description, p.finalCategory AS finalCategory " +
+            "FROM PredictionLog p WHERE p.createdAt >= :since ORDER BY p.createdAt DESC")
+    Stream<TrainingSample> streamTrainingSamples(@Param("since") LocalDateTime since);
+
+    interface TrainingSample {
+        String getDescription();
+
+        String getFinalCategory();
+    }
 }
@@ -2,10 +2,15 @@ package com.settleup.repository;
 
 import com.settleup.domain.user.RefreshToken;
 import com.settleup.domain.user.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -15,15 +20,36 @@ import java.util.UUID;
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
 
-    Optional<RefreshToken> findByTokenAndRevokedFalse(String token);
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
 
     @Modifying
     @Transactional
-    @Query("UPDATE RefreshToken rt SET rt.revoked = true WHERE rt.user = :user")
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true, rt.revokedAt = CURRENT_TIMESTAMP " +
+            "WHERE rt.user = :user AND rt.revoked = false")
     void revokeAllByUser(User user);
 
+    /**
+     * 토큰 패밀리 전체 폐기 (재사용 탐지)
+     * 호출 측 트랜잭션이 예외로 롤백되어도 폐기는 유지되도록 별도 트랜잭션에서 커밋
+     */
+    @Modifying
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Query("UPDATE RefreshToken rt SET rt.revoked = true, rt.revokedAt = CURRENT_TIMESTAMP " +
+            "WHERE rt.familyId = :familyId AND rt.revoked = false")
+    int revokeFamily(@Param("familyId") UUID familyId);
+
+    /**
+     * 만료된 토큰을 최대 limit 건 삭제 (호출 1회 = 트랜잭션 1개)
+     * 폐기된 토큰도 만료 전까지는 남겨둠 - 탈취 후 회전된 토큰이 만료 전에 재사용되면 패밀리 폐기로 탐지
+     * 네이티브 DML 이 2차 캐시 전체를 비우지 않도록 대상 테이블만 동기화 공간으로 지정
+     *
+     * @return 삭제된 행 수
+     */
     @Modifying
     @Transactional
-    @Query("DELETE FROM RefreshToken rt WHERE rt.expiresAt < :now OR rt.revoked = true")
-    void deleteExpiredAndRevoked(LocalDateTime now);
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "refresh_tokens"))
+    @Query(value = "DELETE FROM refresh_tokens WHERE id IN (" +
+            "SELECT id FROM refresh_tokens WHERE expires_at < :now LIMIT :limit)",
+            nativeQuery = true)
+    int deleteExpiredChunk(@Param("now") LocalDateTime now, @Param("limit") int limit);
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package com.settleup.repository;
+
+import com.settleup.domain.settlement.SettlementArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface SettlementArchiveRepository extends JpaRepository<SettlementArchive, UUID> {
+
+    Optional<SettlementArchive> findBySettlementId(UUID settlementId);
+
+    /**
+     * 정산별 아카이브 요약 배치 조회 (번들 미로딩)
+     * [settlementId, totalExpense, participantCount, roundCount]
+     */
+    @Query("SELECT a.settlementId, a.totalExpense, a.participantCount, a.roundCount " +
+           "FROM SettlementArchive a WHERE a.settlementId IN :settlementIds")
+    List<Object[]> findSummariesBySettlementIds(@Param("settlementIds") List<UUID> settlementIds);
+
+    void deleteBySettlementId(UUID settlementId);
+}
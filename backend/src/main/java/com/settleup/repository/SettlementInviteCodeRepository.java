@@ -1,9 +1,17 @@
 package com.settleup.repository;
 
 import com.settleup.domain.settlement.SettlementInviteCode;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,5 +20,47 @@ public interface SettlementInviteCodeRepository extends JpaRepository<Settlement
 
     Optional<SettlementInviteCode> findByCode(String code);
 
+    /**
+     * 초대 코드 사용 처리 (남은 횟수·미만료 코드만 조건부 UPDATE 1회로 원자적 처리)
+     * 동시 사용 시 행 잠금으로 직렬화되어 use_count 는 max_uses 를 넘지 않음
+     *
+     * @return 참가할 정산 ID (사용할 수 없는 코드면 empty)
+     */
+    @Query(value = "UPDATE settlement_invite_codes " +
+            "SET use_count = use_count + 1, used_by = :userId, used_at = NOW() " +
+            "WHERE code = :code AND use_count < max_uses AND expires_at > NOW() " +
+            "RETURNING settlement_id", nativeQuery = true)
+    Optional<UUID> redeem(@Param("code") String code, @Param("userId") UUID userId);
+
+    /**
+     * 초대 코드 사용 처리 + 사용 이력 기록 (CTE 로 한 문장 처리)
+     *
+     * @return 참가할 정산 ID (사용할 수 없는 코드면 empty)
+     */
+    @Query(value = "WITH redeemed AS (" +
+            "UPDATE settlement_invite_codes " +
+            "SET use_count = use_count + 1, used_by = :userId, used_at = NOW() " +
+            "WHERE code = :code AND use_count < max_uses AND expires_at > NOW() " +
+            "RETURNING id, settlement_id) " +
+            "INSERT INTO settlement_invite_redemptions (invite_code_id, settlement_id, user_id) " +
+            "SELECT id, settlement_id, :userId FROM redeemed " +
+            "RETURNING settlement_id", nativeQuery = true)
+    Optional<UUID> redeemAndLog(@Param("code") String code, @Param("userId") UUID userId);
+
+    /**
+     * cutoff 이전에 만료되었거나 모두 사용된 코드를 최대 limit 건 삭제 (호출 1회 = 트랜잭션 1개)
+     * 네이티브 DML 이 2차 캐시 전체를 비우지 않도록 대상 테이블만 동기화 공간으로 지정
+     *
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "settlement_invite_codes"))
+    @Query(value = "DELETE FROM settlement_invite_codes WHERE id IN (" +
+            "SELECT id FROM settlement_invite_codes WHERE expires_at < :cutoff " +
+            "OR (use_count >= max_uses AND used_at < :cutoff) LIMIT :limit)",
+            nativeQuery = true)
+    int deleteStaleChunk(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
     void deleteBySettlementId(UUID settlementId);
 }
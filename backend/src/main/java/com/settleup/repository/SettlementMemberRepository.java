@@ -2,8 +2,11 @@ package com.settleup.repository;
 
 import com.settleup.domain.settlement.SettlementMember;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -20,4 +23,18 @@ public interface SettlementMemberRepository extends JpaRepository<SettlementMemb
     boolean existsBySettlementIdAndUserId(UUID settlementId, UUID userId);
 
     void deleteBySettlementId(UUID settlementId);
+
+    /**
+     * 멤버 추가 (이미 멤버면 아무것도 하지 않음)
+     *
+     * @return 추가된 멤버 ID (이미 멤버면 empty)
+     */
+    @Query(value = "INSERT INTO settlement_members (settlement_id, user_id, role, joined_at) " +
+            "VALUES (:settlementId, :userId, :role, :joinedAt) " +
+            "ON CONFLICT (settlement_id, user_id) DO NOTHING " +
+            "RETURNING id", nativeQuery = true)
+    Optional<UUID> insertIfAbsent(@Param("settlementId") UUID settlementId,
+                                  @Param("userId") UUID userId,
+                                  @Param("role") String role,
+                                  @Param("joinedAt") LocalDateTime joinedAt);
 }
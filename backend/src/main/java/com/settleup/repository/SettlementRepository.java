@@ -5,13 +5,18 @@ import com.settleup.domain.settlement.SettlementStatus;
 import com.settleup.domain.settlement.SettlementType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.SpecHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -21,6 +26,17 @@ import java.util.UUID;
 @Repository
 public interface SettlementRepository extends JpaRepository<Settlement, UUID> {
 
+    /**
+     * 쓰기 경로 검증용 조회 - 2차 캐시를 거치지 않고 DB 에서 읽은 뒤 캐시 항목도 갱신
+     * 다른 인스턴스에서 완료·보관된 정산을 캐시 TTL 동안 수정 가능으로 판단하지 않도록 상태 검증에 사용
+     */
+    @QueryHints({
+            @QueryHint(name = SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, value = "BYPASS"),
+            @QueryHint(name = SpecHints.HINT_SPEC_CACHE_STORE_MODE, value = "REFRESH")
+    })
+    @Query("SELECT s FROM Settlement s WHERE s.id = :id")
+    Optional<Settlement> findByIdBypassingCache(@Param("id") UUID id);
+
     /**
      * 생성자 ID로 정산 목록 조회 (페이징)
      */
@@ -136,4 +152,19 @@ public interface SettlementRepository extends JpaRepository<Settlement, UUID> {
            "WHERE s.creatorId = :userId OR sm.userId = :userId " +
            "ORDER BY s.updatedAt DESC")
     Page<Settlement> findByUserAccessPaged(@Param("userId") UUID userId, Pageable pageable);
+
+    /**
+     * 콜드 스토리지 아카이브 대상 조회 (완료 후 cutoff 이전, 미보관)
+     */
+    @Query("SELECT s.id FROM Settlement s " +
+           "WHERE s.status = com.settleup.domain.settlement.SettlementStatus.COMPLETED " +
+           "AND s.archivedAt IS NULL AND s.completedAt < :cutoff " +
+           "ORDER BY s.completedAt ASC")
+    List<UUID> findArchiveCandidateIds(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    /**
+     * 사용자가 생성한 정산 ID 목록 (접근 권한 캐시 로딩용)
+     */
+    @Query("SELECT s.id FROM Settlement s WHERE s.creatorId = :userId")
+    List<UUID> findIdsByCreatorId(@Param("userId") UUID userId);
 }
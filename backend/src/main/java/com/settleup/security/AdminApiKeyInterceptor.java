@@ -0,0 +1,39 @@
+package com.settleup.security;
+
+import com.settleup.exception.ForbiddenException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * /admin/** 요청의 관리자 API 키 검사 (재학습 파이프라인 등 서버 간 호출용)
+ * admin.api-key 가 비어 있으면 모든 관리자 API 차단
+ */
+@Component
+public class AdminApiKeyInterceptor implements HandlerInterceptor {
+
+    static final String API_KEY_HEADER = "X-Admin-Api-Key";
+
+    private final byte[] apiKey;
+
+    public AdminApiKeyInterceptor(@Value("${admin.api-key:}") String apiKey) {
+        this.apiKey = apiKey.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String provided = request.getHeader(API_KEY_HEADER);
+        // 길이 차이 외에는 타이밍으로 키를 추측할 수 없도록 상수 시간 비교
+        if (apiKey.length == 0 || !StringUtils.hasText(provided)
+                || !MessageDigest.isEqual(apiKey, provided.getBytes(StandardCharsets.UTF_8))) {
+            throw new ForbiddenException("관리자 API 키가 올바르지 않습니다.");
+        }
+        return true;
+    }
+}
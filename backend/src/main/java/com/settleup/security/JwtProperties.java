@@ -13,4 +13,5 @@ public class JwtProperties {
     private String secret;
     private long accessTokenExpiry = 1800000; // 30분
     private long refreshTokenExpiry = 1209600000; // 14일
+    private long principalCacheSize = 10000; // 검증된 access token 캐시 최대 개수
 }
\ No newline at end of file
@@ -1,5 +1,8 @@
 package com.settleup.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.settleup.domain.user.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
@@ -12,21 +15,50 @@ import org.springframework.stereotype.Component;
 
 import jakarta.annotation.PostConstruct;
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class JwtTokenProvider {
 
+    private static final List<SimpleGrantedAuthority> USER_AUTHORITIES =
+            List.of(new SimpleGrantedAuthority("ROLE_USER"));
+
+    private static final ThreadLocal<MessageDigest> SHA256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    });
+
     private final JwtProperties jwtProperties;
     private SecretKey secretKey;
 
+    // 불변 파서 (스레드 안전) - 요청마다 Jwts.parser() 빌드하지 않음
+    private JwtParser jwtParser;
+
+    // 토큰 다이제스트 -> 검증된 사용자 (토큰 만료 시각까지만 유지)
+    private Cache<String, VerifiedPrincipal> principalCache;
+
     @PostConstruct
     protected void init() {
         secretKey = Keys.hmacShaKeyFor(jwtProperties.getSecret().getBytes());
+        jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
+        principalCache = Caffeine.newBuilder()
+                .maximumSize(jwtProperties.getPrincipalCacheSize())
+                .expireAfter(new TokenExpiry())
+                .build();
     }
 
     public String createAccessToken(User user) {
@@ -50,13 +82,33 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * 토큰 검증 + 인증 객체 생성 (서명 검증은 토큰당 1회, 이후 캐시 조회)
+     *
+     * @return 유효하지 않은 토큰이면 null
+     */
+    public Authentication resolveAuthentication(String token) {
+        String key = digest(token);
+        VerifiedPrincipal cached = principalCache.getIfPresent(key);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return toAuthentication(cached.userId());
+        }
+
+        Claims claims = parseClaims(token);
+        if (claims == null) {
+            return null;
+        }
+
+        UUID userId = UUID.fromString(claims.getSubject());
+        principalCache.put(key, new VerifiedPrincipal(userId, claims.getExpiration().getTime()));
+        return toAuthentication(userId);
+    }
+
     public Authentication getAuthentication(String token) {
         Claims claims = getClaims(token);
         UUID userId = UUID.fromString(claims.getSubject());
 
-        List<SimpleGrantedAuthority> authorities = List.of(new SimpleGrantedAuthority("ROLE_USER"));
-
-        return new UsernamePasswordAuthenticationToken(userId, "", authorities);
+        return toAuthentication(userId);
     }
 
     public UUID getUserIdFromToken(String token) {
@@ -65,35 +117,77 @@ public class JwtTokenProvider {
     }
 
     public boolean validateToken(String token) {
+        return parseClaims(token) != null;
+    }
+
+    public boolean isTokenExpired(String token) {
         try {
-            getClaims(token);
+            Claims claims = getClaims(token);
+            return claims.getExpiration().before(new Date());
+        } catch (ExpiredJwtException e) {
             return true;
+        }
+    }
+
+    /**
+     * 서명 검증 후 Claims 반환 (실패 시 로그 후 null)
+     */
+    private Claims parseClaims(String token) {
+        try {
+            return getClaims(token);
         } catch (ExpiredJwtException e) {
             log.warn("JWT token is expired: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
             log.warn("JWT token is unsupported: {}", e.getMessage());
         } catch (MalformedJwtException e) {
             log.warn("JWT token is malformed: {}", e.getMessage());
+        } catch (JwtException e) {
+            log.warn("JWT token is invalid: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             log.warn("JWT token compact of handler are invalid: {}", e.getMessage());
         }
-        return false;
-    }
-
-    public boolean isTokenExpired(String token) {
-        try {
-            Claims claims = getClaims(token);
-            return claims.getExpiration().before(new Date());
-        } catch (ExpiredJwtException e) {
-            return true;
-        }
+        return null;
     }
 
     private Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
-}
\ No newline at end of file
+
+    private Authentication toAuthentication(UUID userId) {
+        return new UsernamePasswordAuthenticationToken(userId, "", USER_AUTHORITIES);
+    }
+
+    private static String digest(String token) {
+        MessageDigest md = SHA256.get();
+        md.reset();
+        byte[] hash = md.digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+    }
+
+    private record VerifiedPrincipal(UUID userId, long expiresAtMillis) {
+    }
+
+    /**
+     * 캐시 항목 수명 = 토큰 exp 까지 남은 시간
+     */
+    private static class TokenExpiry implements Expiry<String, VerifiedPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String key, VerifiedPrincipal value, long currentTime) {
+            long remainingMillis = value.expiresAtMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, VerifiedPrincipal value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, VerifiedPrincipal value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
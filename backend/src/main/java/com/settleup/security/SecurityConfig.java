@@ -1,5 +1,6 @@
 package com.settleup.security;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
@@ -25,6 +26,23 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    /**
+     * 인증 없이 접근 가능한 경로 (context-path /api/v1 이후 경로)
+     * JwtAuthenticationFilter 도 이 목록으로 토큰 파싱을 생략하므로 permitAll 경로는 여기에만 추가
+     */
+    static final String[] PUBLIC_PATHS = {
+            // 로그인/토큰 갱신
+            "/auth/login/**", "/auth/refresh", "/auth/dev-login",
+            // Dev endpoints
+            "/dev/**",
+            // 관리자 API - AdminApiKeyInterceptor 에서 API 키 검사
+            "/admin/**",
+            // Swagger/OpenAPI endpoints
+            "/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html", "/api-docs/**",
+            // Health check endpoints
+            "/actuator/health", "/settlements/health"
+    };
+
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final Environment environment;
 
@@ -35,18 +53,14 @@ public class SecurityConfig {
             .cors(cors -> cors.configurationSource(corsConfigurationSource()))
             .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
             .authorizeHttpRequests(authz -> authz
+                // 비동기 응답 재디스패치 (인가는 최초 요청에서 완료)
+                .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                 // Public endpoints - 인증 불필요
                 // context-path가 /api/v1이므로 Security 매칭은 context-path 이후 경로 사용
-                .requestMatchers("/auth/**").permitAll()
-                .requestMatchers("/dev/**").permitAll() // Dev endpoints
-
-                // Swagger/OpenAPI endpoints
-                .requestMatchers("/swagger-ui/**", "/v3/api-docs/**", "/swagger-ui.html").permitAll()
-                .requestMatchers("/api-docs/**").permitAll()
-
-                // Health check endpoints
-                .requestMatchers("/actuator/health").permitAll()
-                .requestMatchers("/settlements/health").permitAll()
+                .requestMatchers(PUBLIC_PATHS).permitAll()
+                // 로그아웃은 토큰이 만료되어도 허용하되, 유효한 토큰이면 principal 을 사용하므로 JWT 필터는 통과
+                .requestMatchers("/auth/logout").permitAll()
 
                 // 인증 필요 API - 만료 토큰 시 401 반환 → 클라이언트 토큰 갱신 트리거
                 .requestMatchers("/settlements/**").authenticated()
@@ -0,0 +1,28 @@
+package com.settleup.security;
+
+import com.settleup.domain.settlement.SettlementMember.MemberRole;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 정산 범위 API 권한 지정
+ * /settlements/{settlementId}/** 경로는 기본적으로 멤버 권한이 필요하며,
+ * 이 어노테이션으로 필요한 역할을 높이거나 검사를 생략할 수 있음
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SettlementAccess {
+
+    /**
+     * 필요한 최소 역할
+     */
+    MemberRole value() default MemberRole.MEMBER;
+
+    /**
+     * false 면 멤버십 검사 생략 (예: 초대 코드로 참가)
+     */
+    boolean required() default true;
+}
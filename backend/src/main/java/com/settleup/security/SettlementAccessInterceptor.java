@@ -0,0 +1,82 @@
+package com.settleup.security;
+
+import com.settleup.domain.settlement.SettlementMember.MemberRole;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * /settlements/{settlementId}/** 요청의 정산 멤버십 검사
+ * 인증 여부는 SecurityConfig 에서 처리하고, 여기서는 인증된 사용자의 정산 접근 권한만 확인
+ */
+@Component
+@RequiredArgsConstructor
+public class SettlementAccessInterceptor implements HandlerInterceptor {
+
+    // SettlementController 는 {id}, 하위 리소스 컨트롤러는 {settlementId}
+    private static final List<String> SETTLEMENT_ID_VARIABLES = List.of("settlementId", "id");
+
+    private final SettlementAccessService settlementAccessService;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+
+        SettlementAccess access = handlerMethod.getMethodAnnotation(SettlementAccess.class);
+        if (access != null && !access.required()) {
+            return true;
+        }
+
+        UUID settlementId = resolveSettlementId(request);
+        UUID userId = currentUserId();
+        if (settlementId == null || userId == null) {
+            return true;
+        }
+
+        MemberRole requiredRole = access != null ? access.value() : MemberRole.MEMBER;
+        settlementAccessService.checkAccess(settlementId, userId, requiredRole);
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private UUID resolveSettlementId(HttpServletRequest request) {
+        Map<String, String> variables =
+                (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (variables == null) {
+            return null;
+        }
+
+        for (String name : SETTLEMENT_ID_VARIABLES) {
+            String value = variables.get(name);
+            if (value != null) {
+                try {
+                    return UUID.fromString(value);
+                } catch (IllegalArgumentException e) {
+                    // 형식 오류는 컨트롤러 바인딩에서 400 처리
+                    return null;
+                }
+            }
+        }
+        return null;
+    }
+
+    private UUID currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UUID userId) {
+            return userId;
+        }
+        return null;
+    }
+}
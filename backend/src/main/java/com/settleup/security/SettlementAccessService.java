@@ -0,0 +1,119 @@
+package com.settleup.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.settleup.domain.settlement.SettlementMember;
+import com.settleup.domain.settlement.SettlementMember.MemberRole;
+import com.settleup.exception.ForbiddenException;
+import com.settleup.exception.ResourceNotFoundException;
+import com.settleup.repository.SettlementMemberRepository;
+import com.settleup.repository.SettlementRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 정산 접근 권한 판별
+ * 사용자별 (정산 ID -> 역할) 맵을 한 번 조회해 캐시 → 캐시 히트 시 DB 조회 없이 해시 조회만 수행
+ * 정산 생성자는 멤버 행이 없어도 OWNER 로 간주 (findByUserAccess 와 동일한 기준)
+ * 같은 인스턴스의 참가/탈퇴는 evict 로 즉시 반영, 캐시에 없는 정산의 재조회는 miss-reload-interval 에 한 번으로 제한
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SettlementAccessService {
+
+    private final SettlementMemberRepository memberRepository;
+    private final SettlementRepository settlementRepository;
+
+    @Value("${settlement.access-cache.max-users:50000}")
+    private long maxUsers;
+
+    // 다중 인스턴스 환경에서 다른 서버의 탈퇴/삭제 반영 상한
+    @Value("${settlement.access-cache.ttl:10m}")
+    private Duration ttl;
+
+    // 권한 없는 정산을 반복 요청해도 DB 재조회는 이 간격에 한 번
+    @Value("${settlement.access-cache.miss-reload-interval:5s}")
+    private Duration missReloadInterval;
+
+    private Cache<UUID, Memberships> membershipCache;
+
+    @PostConstruct
+    void init() {
+        membershipCache = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /**
+     * 접근 권한 확인
+     * 정산이 없으면 ResourceNotFoundException, 권한이 없으면 ForbiddenException
+     */
+    public void checkAccess(UUID settlementId, UUID userId, MemberRole requiredRole) {
+        MemberRole role = findRole(settlementId, userId);
+        if (role == null) {
+            if (!settlementRepository.existsById(settlementId)) {
+                throw new ResourceNotFoundException("Settlement", "id", settlementId);
+            }
+            throw new ForbiddenException("해당 정산에 접근 권한이 없습니다.");
+        }
+        if (requiredRole == MemberRole.OWNER && role != MemberRole.OWNER) {
+            throw new ForbiddenException("소유자만 이 작업을 수행할 수 있습니다.");
+        }
+    }
+
+    /**
+     * 사용자의 정산 내 역할 (권한 없으면 null)
+     * 캐시에 없는 정산이면 다른 인스턴스에서 참가했을 수 있으므로 다시 조회
+     * 단, 방금 조회한 멤버십이면 (캐시 미스 직후 포함) 재조회하지 않음
+     */
+    public MemberRole findRole(UUID settlementId, UUID userId) {
+        Memberships memberships = membershipCache.get(userId, this::loadMemberships);
+        MemberRole role = memberships.roles().get(settlementId);
+        if (role != null || System.nanoTime() - memberships.loadedAt() < missReloadInterval.toNanos()) {
+            return role;
+        }
+
+        Memberships reloaded = loadMemberships(userId);
+        membershipCache.put(userId, reloaded);
+        return reloaded.roles().get(settlementId);
+    }
+
+    /**
+     * 멤버십 변경 시 (참가/탈퇴/정산 생성·삭제) 해당 사용자 캐시 무효화
+     */
+    public void evict(UUID userId) {
+        membershipCache.invalidate(userId);
+    }
+
+    public void evictAll(Collection<UUID> userIds) {
+        membershipCache.invalidateAll(userIds);
+    }
+
+    private Memberships loadMemberships(UUID userId) {
+        Map<UUID, MemberRole> roles = new HashMap<>();
+        for (SettlementMember member : memberRepository.findByUserId(userId)) {
+            roles.put(member.getSettlementId(), member.getRole());
+        }
+        for (UUID settlementId : settlementRepository.findIdsByCreatorId(userId)) {
+            roles.put(settlementId, MemberRole.OWNER);
+        }
+        return new Memberships(Map.copyOf(roles), System.nanoTime());
+    }
+
+    /**
+     * 사용자의 (정산 ID -> 역할) 맵과 조회 시각 (System.nanoTime)
+     */
+    private record Memberships(Map<UUID, MemberRole> roles, long loadedAt) {
+    }
+}
@@ -11,8 +11,10 @@ import com.settleup.domain.prediction.PredictionLog;
 import com.settleup.repository.ExpenseRepository;
 import com.settleup.repository.ExpenseSplitRepository;
 import com.settleup.repository.ParticipantRepository;
-import com.settleup.repository.PredictionLogRepository;
 import com.settleup.repository.SettlementRepository;
+import com.settleup.service.archive.ArchivedSettlement;
+import com.settleup.service.ai.PredictionLogWriter;
+import com.settleup.service.archive.SettlementArchiveService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -37,7 +39,8 @@ public class ExpenseService {
     private final SettlementRepository settlementRepository;
     private final ParticipantRepository participantRepository;
     private final SettlementService settlementService;
-    private final PredictionLogRepository predictionLogRepository;
+    private final PredictionLogWriter predictionLogWriter;
+    private final SettlementArchiveService settlementArchiveService;
 
     /**
      * 지출 생성
@@ -47,12 +50,10 @@ public class ExpenseService {
         log.info("Creating expense: settlementId={}, description={}, amount={}",
                 settlementId, request.getDescription(), request.getAmount());
 
-        // 완료된 정산 수정 차단
-        settlementService.validateSettlementNotCompleted(settlementId);
-
-        // 정산 조회
-        Settlement settlement = settlementRepository.findById(settlementId)
+        // 정산 조회 및 완료된 정산 수정 차단 (조회한 엔티티 재사용, 2차 캐시 우회)
+        Settlement settlement = settlementRepository.findByIdBypassingCache(settlementId)
                 .orElseThrow(() -> new ResourceNotFoundException("Settlement", "id", settlementId));
+        settlementService.validateSettlementNotCompleted(settlement);
 
         // 지출자 조회 및 검증
         Participant payer = participantRepository.findById(request.getPayerId())
@@ -78,7 +79,7 @@ public class ExpenseService {
 
         Expense savedExpense = expenseRepository.save(expense);
 
-        // AI 예측 로그 저장
+        // AI 예측 로그 기록 (커밋 후 비동기 배치 INSERT)
         if (request.getSource() != null && userId != null) {
             PredictionLog predictionLog = PredictionLog.builder()
                     .description(request.getDescription())
@@ -88,8 +89,8 @@ public class ExpenseService {
                     .source(request.getSource())
                     .userId(userId)
                     .build();
-            predictionLogRepository.save(predictionLog);
-            log.info("PredictionLog saved: source={}, userId={}", request.getSource(), userId);
+            predictionLogWriter.submit(predictionLog);
+            log.info("PredictionLog submitted: source={}, userId={}", request.getSource(), userId);
         }
 
         // 분담 내역 생성 (선택사항)
@@ -114,11 +115,10 @@ public class ExpenseService {
     /**
      * 지출 조회 (분담 내역 포함)
      */
-    public ExpenseResponse getExpense(UUID expenseId) {
+    public ExpenseResponse getExpense(UUID settlementId, UUID expenseId) {
         log.info("Getting expense: id={}", expenseId);
 
-        Expense expense = expenseRepository.findById(expenseId)
-                .orElseThrow(() -> new ResourceNotFoundException("Expense", "id", expenseId));
+        Expense expense = findExpenseInSettlement(settlementId, expenseId);
 
         List<ExpenseSplit> splits = expenseSplitRepository.findByExpenseId(expenseId);
 
@@ -131,13 +131,18 @@ public class ExpenseService {
     public List<ExpenseResponse> getExpensesBySettlement(UUID settlementId) {
         log.info("Getting expenses by settlement: settlementId={}", settlementId);
 
-        // 정산 존재 확인
-        if (!settlementRepository.existsById(settlementId)) {
-            throw new ResourceNotFoundException("Settlement", "id", settlementId);
+        Settlement settlement = settlementRepository.findById(settlementId)
+                .orElseThrow(() -> new ResourceNotFoundException("Settlement", "id", settlementId));
+
+        // 콜드 스토리지로 이동한 정산은 아카이브 번들에서 조회
+        Optional<ArchivedSettlement> archived = settlementArchiveService.findArchived(settlement);
+        if (archived.isPresent()) {
+            return archived.get().getExpenses().stream()
+                    .map(expense -> ExpenseResponse.fromWithSplits(expense, archived.get().getSplits(expense.getId())))
+                    .collect(Collectors.toList());
         }
 
         List<Expense> expenses = expenseRepository.findBySettlementIdOrderByExpenseDateDesc(settlementId);
-
         return expenses.stream()
                 .map(expense -> {
                     List<ExpenseSplit> splits = expenseSplitRepository.findByExpenseId(expense.getId());
@@ -150,11 +155,10 @@ public class ExpenseService {
      * 지출 수정
      */
     @Transactional
-    public ExpenseResponse updateExpense(UUID expenseId, ExpenseUpdateRequest request) {
+    public ExpenseResponse updateExpense(UUID settlementId, UUID expenseId, ExpenseUpdateRequest request) {
         log.info("Updating expense: id={}", expenseId);
 
-        Expense expense = expenseRepository.findById(expenseId)
-                .orElseThrow(() -> new ResourceNotFoundException("Expense", "id", expenseId));
+        Expense expense = findExpenseInSettlement(settlementId, expenseId);
 
         // 완료된 정산 수정 차단
         settlementService.validateSettlementNotCompleted(expense.getSettlement().getId());
@@ -166,8 +170,9 @@ public class ExpenseService {
         if (request.getCategory() != null) {
             expense.setCategory(request.getCategory());
         }
-        if (request.getDescription() != null) {
+        if (request.getDescription() != null && !request.getDescription().equals(expense.getDescription())) {
             expense.setDescription(request.getDescription());
+            expense.setCategoryAiAttemptedAt(null); // 다음 자동 분류 순회에서 다시 분류
         }
         if (request.getExpenseDate() != null) {
             expense.setExpenseDate(request.getExpenseDate());
@@ -187,11 +192,10 @@ public class ExpenseService {
      * 지출 삭제
      */
     @Transactional
-    public void deleteExpense(UUID expenseId) {
+    public void deleteExpense(UUID settlementId, UUID expenseId) {
         log.info("Deleting expense: id={}", expenseId);
 
-        Expense expense = expenseRepository.findById(expenseId)
-                .orElseThrow(() -> new ResourceNotFoundException("Expense", "id", expenseId));
+        Expense expense = findExpenseInSettlement(settlementId, expenseId);
 
         // 완료된 정산 수정 차단
         settlementService.validateSettlementNotCompleted(expense.getSettlement().getId());
@@ -231,13 +235,18 @@ public class ExpenseService {
         log.info("Getting expenses by category: settlementId={}, category={}",
                 settlementId, category);
 
-        // 정산 존재 확인
-        if (!settlementRepository.existsById(settlementId)) {
-            throw new ResourceNotFoundException("Settlement", "id", settlementId);
+        Settlement settlement = settlementRepository.findById(settlementId)
+                .orElseThrow(() -> new ResourceNotFoundException("Settlement", "id", settlementId));
+
+        Optional<ArchivedSettlement> archived = settlementArchiveService.findArchived(settlement);
+        if (archived.isPresent()) {
+            return archived.get().getExpenses().stream()
+                    .filter(expense -> category.equals(expense.getCategory()) || category.equals(expense.getCategoryAi()))
+                    .map(expense -> ExpenseResponse.fromWithSplits(expense, archived.get().getSplits(expense.getId())))
+                    .collect(Collectors.toList());
         }
 
         List<Expense> expenses = expenseRepository.findBySettlementIdAndCategory(settlementId, category);
-
         return expenses.stream()
                 .map(expense -> {
                     List<ExpenseSplit> splits = expenseSplitRepository.findByExpenseId(expense.getId());
@@ -281,13 +290,12 @@ public class ExpenseService {
      * 지출 분담 설정
      */
     @Transactional
-    public ExpenseResponse setExpenseSplits(UUID expenseId, ExpenseSplitRequest request) {
+    public ExpenseResponse setExpenseSplits(UUID settlementId, UUID expenseId, ExpenseSplitRequest request) {
         log.info("[setExpenseSplits] Setting splits for expense: {}, type: {}",
                 expenseId, request.getSplitType());
 
         // 1. 지출 조회
-        Expense expense = expenseRepository.findById(expenseId)
-                .orElseThrow(() -> new ResourceNotFoundException("Expense", "id", expenseId));
+        Expense expense = findExpenseInSettlement(settlementId, expenseId);
 
         // 완료된 정산 수정 차단
         settlementService.validateSettlementNotCompleted(expense.getSettlement().getId());
@@ -395,6 +403,19 @@ public class ExpenseService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 경로의 정산에 속한 지출 조회 - 다른 정산의 지출이면 존재하지 않는 것으로 처리 (404)
+     * 접근 권한은 경로의 settlementId 기준으로만 검사되므로 지출 id 만으로 다른 정산에 접근하지 못하도록
+     */
+    private Expense findExpenseInSettlement(UUID settlementId, UUID expenseId) {
+        Expense expense = expenseRepository.findById(expenseId)
+                .orElseThrow(() -> new ResourceNotFoundException("Expense", "id", expenseId));
+        if (!expense.getSettlement().getId().equals(settlementId)) {
+            throw new ResourceNotFoundException("Expense", "id", expenseId);
+        }
+        return expense;
+    }
+
     /**
      * 분담 금액 합계 검증 (헬퍼 메서드)
      */
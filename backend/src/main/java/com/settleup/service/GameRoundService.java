@@ -3,6 +3,8 @@ package com.settleup.service;
 import com.settleup.domain.game.GameRound;
 import com.settleup.domain.game.GameRoundEntry;
 import com.settleup.domain.participant.Participant;
+import com.settleup.domain.settlement.Settlement;
+import com.settleup.domain.settlement.SettlementMember.MemberRole;
 import com.settleup.dto.GameRoundDto.*;
 import com.settleup.exception.BusinessException;
 import com.settleup.exception.ResourceNotFoundException;
@@ -10,11 +12,22 @@ import com.settleup.repository.GameRoundEntryRepository;
 import com.settleup.repository.GameRoundRepository;
 import com.settleup.repository.ParticipantRepository;
 import com.settleup.repository.SettlementRepository;
+import com.settleup.security.SettlementAccessService;
+import com.settleup.service.archive.ArchivedSettlement;
+import com.settleup.service.archive.SettlementArchiveService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -28,12 +41,69 @@ public class GameRoundService {
     private final GameRoundEntryRepository gameRoundEntryRepository;
     private final SettlementRepository settlementRepository;
     private final ParticipantRepository participantRepository;
+    private final SettlementArchiveService settlementArchiveService;
+    private final SettlementAccessService settlementAccessService;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    // 변경된 참가자 엔트리만 반영 (동시 편집으로 같은 참가자가 먼저 추가되어도 덮어씀)
+    private static final String UPSERT_ENTRY_SQL =
+            "INSERT INTO game_round_entries (id, round_id, participant_id, amount, memo, created_at) " +
+            "VALUES (:id, :roundId, :participantId, :amount, :memo, :createdAt) " +
+            "ON CONFLICT (round_id, participant_id) " +
+            "DO UPDATE SET amount = EXCLUDED.amount, memo = EXCLUDED.memo";
+
+    // 정산 카운터 증가와 라운드 삽입을 한 문장으로 처리 (삭제된 번호는 재사용하지 않음)
+    // settlements.next_round_number 는 엔티티에 매핑하지 않음 (JPA UPDATE 가 덮어쓰지 않도록)
+    // 보관 여부도 같은 UPDATE 에서 확인 - 행 잠금 후 재평가되므로 동시에 보관된 정산에는 삽입되지 않음
+    private static final String INSERT_ROUND_SQL =
+            "WITH numbered AS (" +
+            "UPDATE settlements SET next_round_number = next_round_number + 1 " +
+            "WHERE id = :settlementId AND archived_at IS NULL " +
+            "RETURNING next_round_number - 1 AS round_number) " +
+            "INSERT INTO game_rounds (settlement_id, round_number, title, is_completed) " +
+            "SELECT :settlementId, round_number, COALESCE(:title, round_number || '라운드'), FALSE " +
+            "FROM numbered " +
+            "RETURNING id, round_number, title, created_at, updated_at";
+
+    // 새 라운드 번호 count 개 예약
+    private static final String RESERVE_ROUND_NUMBERS_SQL =
+            "UPDATE settlements SET next_round_number = next_round_number + :count " +
+            "WHERE id = :settlementId " +
+            "RETURNING next_round_number - :count AS first_number";
+
+    // 새 라운드 다중 행 INSERT - VALUES 목록은 라운드 수만큼 생성
+    // 같은 clientRoundId 로 동시에 재시도된 요청은 먼저 삽입된 라운드만 유지하고, 실제 삽입된 id 만 반환
+    private static final String INSERT_ROUNDS_SQL_PREFIX =
+            "INSERT INTO game_rounds (id, settlement_id, round_number, title, is_completed, " +
+            "excluded_participant_ids, created_at, updated_at) VALUES ";
+    private static final String INSERT_ROUNDS_SQL_SUFFIX = " ON CONFLICT (id) DO NOTHING RETURNING id";
+
+    // 일괄 업로드 1회 최대 라운드 수
+    static final int MAX_BULK_ROUNDS = 100;
+
+    // 순위표 1회 조회 최대 라운드 수
+    static final int MAX_LEADERBOARD_ROUNDS = 200;
+
+    // 요청당 insert/update/delete 된 엔트리 행 수
+    private DistributionSummary entryRowsTouched;
+
+    @PostConstruct
+    void initMetrics() {
+        entryRowsTouched = DistributionSummary.builder("settleup.game_round_entries.rows_touched")
+                .description("라운드 엔트리 수정 요청당 변경된 행 수")
+                .register(meterRegistry);
+    }
 
     public List<GameRoundWithEntriesResponse> getGameRounds(UUID settlementId) {
         log.info("Getting game rounds for settlement: {}", settlementId);
 
-        if (!settlementRepository.existsById(settlementId)) {
-            throw new ResourceNotFoundException("Settlement", "id", settlementId);
+        Settlement settlement = findSettlement(settlementId);
+
+        // 콜드 스토리지로 이동한 정산은 아카이브 번들에서 조회
+        Optional<ArchivedSettlement> archived = settlementArchiveService.findArchived(settlement);
+        if (archived.isPresent()) {
+            return toArchivedRoundResponses(archived.get());
         }
 
         List<GameRound> rounds = gameRoundRepository.findBySettlementIdOrderByRoundNumberAsc(settlementId);
@@ -57,69 +127,115 @@ public class GameRoundService {
                 .toList();
     }
 
+    /**
+     * 참가자별 누적 금액 - 제외 참가자 필터링과 합산을 DB 에서 처리
+     */
+    public List<ParticipantTotalResponse> getParticipantTotals(UUID settlementId) {
+        Settlement settlement = findSettlement(settlementId);
+
+        Optional<ArchivedSettlement> archived = settlementArchiveService.findArchived(settlement);
+        if (archived.isPresent()) {
+            return toArchivedTotals(archived.get());
+        }
+
+        List<Object[]> rows = gameRoundEntryRepository.sumIncludedAmountsByParticipant(settlementId);
+        Map<UUID, String> participantNames = getParticipantNames(settlementId);
+        return rows.stream()
+                .map(row -> ParticipantTotalResponse.builder()
+                        .participantId((UUID) row[0])
+                        .participantName(participantNames.getOrDefault((UUID) row[0], "Unknown"))
+                        .totalAmount((BigDecimal) row[1])
+                        .build())
+                .sorted(Comparator.comparing(ParticipantTotalResponse::getTotalAmount).reversed())
+                .toList();
+    }
+
+    /**
+     * 라운드별 누적 순위표 - 누적 합계는 DB 윈도우 함수로 계산
+     * 라운드 구간은 최대 MAX_LEADERBOARD_ROUNDS 개로 제한
+     */
+    public LeaderboardResponse getLeaderboard(UUID settlementId, Integer fromRound, Integer toRound) {
+        Settlement settlement = findSettlement(settlementId);
+
+        int from = fromRound != null ? Math.max(1, fromRound) : 1;
+        int maxTo = from + MAX_LEADERBOARD_ROUNDS - 1;
+        int to = toRound != null ? Math.min(toRound, maxTo) : maxTo;
+        if (to < from) {
+            throw new BusinessException("조회할 라운드 구간이 올바르지 않습니다.");
+        }
+
+        Optional<ArchivedSettlement> archived = settlementArchiveService.findArchived(settlement);
+        if (archived.isPresent()) {
+            Map<UUID, String> participantNames = archived.get().getParticipants().stream()
+                    .collect(Collectors.toMap(Participant::getId, Participant::getName));
+            return toLeaderboard(from, to, toArchivedStandings(archived.get(), from, to), participantNames);
+        }
+
+        List<StandingRow> rows = gameRoundEntryRepository.findCumulativeStandings(settlementId, from, to).stream()
+                .map(row -> new StandingRow(((Number) row[0]).intValue(), (UUID) row[1], (BigDecimal) row[2]))
+                .toList();
+        if (rows.isEmpty()) {
+            return toLeaderboard(from, to, rows, Collections.emptyMap());
+        }
+        return toLeaderboard(from, to, rows, getParticipantNames(settlementId));
+    }
+
     @Transactional
     public GameRoundResponse createGameRound(UUID settlementId, CreateGameRoundRequest request) {
         log.info("Creating game round for settlement: {}", settlementId);
 
-        if (!settlementRepository.existsById(settlementId)) {
-            throw new ResourceNotFoundException("Settlement", "id", settlementId);
-        }
-
-        int nextNumber = gameRoundRepository.countBySettlementId(settlementId) + 1;
         String title = (request != null && request.getTitle() != null && !request.getTitle().isBlank())
                 ? request.getTitle()
-                : nextNumber + "라운드";
-
-        GameRound round = GameRound.builder()
-                .settlementId(settlementId)
-                .roundNumber(nextNumber)
-                .title(title)
-                .isCompleted(false)
-                .excludedParticipantIds("[]")
-                .build();
+                : null;
 
-        GameRound saved = gameRoundRepository.save(round);
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("settlementId", settlementId, Types.OTHER)
+                .addValue("title", title, Types.VARCHAR);
+
+        List<GameRound> inserted = jdbcTemplate.query(INSERT_ROUND_SQL, params,
+                (rs, rowNum) -> GameRound.builder()
+                        .id(rs.getObject("id", UUID.class))
+                        .settlementId(settlementId)
+                        .roundNumber(rs.getInt("round_number"))
+                        .title(rs.getString("title"))
+                        .isCompleted(false)
+                        .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                        .updatedAt(rs.getTimestamp("updated_at").toLocalDateTime())
+                        .build());
+        if (inserted.isEmpty()) {
+            // 갱신된 정산 행이 없을 때만 원인 구분 (정상 경로는 추가 조회 없음)
+            if (!settlementRepository.existsById(settlementId)) {
+                throw new ResourceNotFoundException("Settlement", "id", settlementId);
+            }
+            throw new BusinessException("보관된 정산은 수정할 수 없습니다. 정산을 다시 열어 주세요.");
+        }
+
+        GameRound saved = inserted.get(0);
         log.info("Game round created: id={}, number={}", saved.getId(), saved.getRoundNumber());
 
         return GameRoundResponse.from(saved);
     }
 
     @Transactional
-    public GameRoundWithEntriesResponse updateRoundEntries(UUID roundId, UpdateEntriesRequest request) {
+    public GameRoundWithEntriesResponse updateRoundEntries(UUID roundId, UpdateEntriesRequest request, UUID userId) {
         log.info("Updating entries for round: {}", roundId);
 
-        GameRound round = gameRoundRepository.findById(roundId)
-                .orElseThrow(() -> new ResourceNotFoundException("GameRound", "id", roundId));
-
-        // 기존 엔트리 삭제
-        gameRoundEntryRepository.deleteByRoundId(roundId);
+        GameRound round = findRoundWithAccess(roundId, userId);
+        validateNotArchived(round.getSettlementId());
 
-        // 새 엔트리 일괄 삽입
-        List<GameRoundEntry> newEntries = new ArrayList<>();
-        if (request.getEntries() != null) {
-            for (EntryData data : request.getEntries()) {
-                GameRoundEntry entry = GameRoundEntry.builder()
-                        .roundId(roundId)
-                        .participantId(data.getParticipantId())
-                        .amount(data.getAmount())
-                        .memo(data.getMemo())
-                        .build();
-                newEntries.add(entry);
-            }
-        }
-        List<GameRoundEntry> savedEntries = gameRoundEntryRepository.saveAll(newEntries);
+        List<EntryData> requested = request.getEntries() != null ? request.getEntries() : Collections.emptyList();
+        EntryBatch batch = new EntryBatch();
+        List<GameRoundEntry> savedEntries = diffEntries(roundId, gameRoundEntryRepository.findByRoundId(roundId),
+                requested, batch);
+        writeEntryBatch(batch);
 
         // excludedParticipantIds 저장
         if (request.getExcludedParticipantIds() != null) {
-            List<Participant> activeParticipants = participantRepository
-                    .findBySettlementIdAndIsActive(round.getSettlementId(), true);
-            long includedCount = activeParticipants.size() - request.getExcludedParticipantIds().size();
-            if (includedCount < 2) {
-                throw new BusinessException("라운드에는 최소 2명의 참가자가 필요합니다.");
-            }
-            round.setExcludedParticipantIdList(request.getExcludedParticipantIds());
+            int activeCount = participantRepository.findBySettlementIdAndIsActive(round.getSettlementId(), true).size();
+            validateExclusions(request.getExcludedParticipantIds(), activeCount);
+            round.setExcludedParticipantIds(new ArrayList<>(request.getExcludedParticipantIds()));
         } else {
-            round.setExcludedParticipantIdList(Collections.emptyList());
+            round.setExcludedParticipantIds(new ArrayList<>());
         }
         gameRoundRepository.save(round);
 
@@ -128,20 +244,454 @@ public class GameRoundService {
         return GameRoundWithEntriesResponse.from(round, savedEntries, participantNames);
     }
 
+    /**
+     * 여러 라운드 일괄 생성/수정 (오프라인 기록 동기화용) - 한 트랜잭션
+     * roundId 가 없으면 새 라운드: 번호는 카운터에서 한 번에 예약, 라운드는 다중 행 INSERT 1회, 엔트리는 배치 INSERT
+     * 새 라운드의 clientRoundId 가 이미 저장되어 있으면 (동기화 재시도) 기존 라운드로 취급해 중복 생성하지 않음
+     * 참가자 목록·이름 조회와 기존 엔트리 조회는 요청당 1회
+     */
     @Transactional
-    public void deleteGameRound(UUID roundId) {
-        log.info("Deleting game round: {}", roundId);
+    public List<GameRoundWithEntriesResponse> bulkUpsertRounds(UUID settlementId, BulkRoundsRequest request) {
+        List<BulkRoundData> requestedRounds = request != null && request.getRounds() != null
+                ? request.getRounds()
+                : Collections.emptyList();
+        log.info("Bulk upserting game rounds: settlementId={}, rounds={}", settlementId, requestedRounds.size());
+
+        if (requestedRounds.isEmpty()) {
+            throw new BusinessException("업로드할 라운드가 없습니다.");
+        }
+        if (requestedRounds.size() > MAX_BULK_ROUNDS) {
+            throw new BusinessException("한 번에 최대 " + MAX_BULK_ROUNDS + "개 라운드까지 업로드할 수 있습니다.");
+        }
+        validateNotArchived(settlementId);
+
+        // 기존 라운드 + 이미 저장된 clientRoundId 라운드 일괄 조회 + 소속 확인
+        Set<UUID> requestedIds = new HashSet<>();
+        for (BulkRoundData data : requestedRounds) {
+            UUID id = requestedRoundId(data);
+            if (id != null && !requestedIds.add(id)) {
+                throw new BusinessException("같은 라운드가 중복되었습니다.");
+            }
+        }
+        Map<UUID, GameRound> existingRounds = new HashMap<>();
+        for (GameRound round : gameRoundRepository.findAllById(requestedIds)) {
+            if (!round.getSettlementId().equals(settlementId)) {
+                throw new ResourceNotFoundException("GameRound", "id", round.getId());
+            }
+            existingRounds.put(round.getId(), round);
+        }
+        for (BulkRoundData data : requestedRounds) {
+            if (data.getRoundId() != null && !existingRounds.containsKey(data.getRoundId())) {
+                throw new ResourceNotFoundException("GameRound", "id", data.getRoundId());
+            }
+        }
+        Set<UUID> existingRoundIds = existingRounds.keySet();
+
+        // 정산 참가자 1회 조회 - 엔트리·제외 참가자 소속 확인, 활성 인원, 응답 이름에 함께 사용
+        Map<UUID, Participant> participants = participantRepository.findBySettlementId(settlementId).stream()
+                .collect(Collectors.toMap(Participant::getId, participant -> participant));
+        for (BulkRoundData data : requestedRounds) {
+            validateBulkParticipants(data, participants.keySet());
+        }
+        int activeCount = (int) participants.values().stream()
+                .filter(participant -> Boolean.TRUE.equals(participant.getIsActive()))
+                .count();
+
+        int newCount = requestedRounds.size() - existingRoundIds.size();
+        int nextNumber = newCount > 0 ? reserveRoundNumbers(settlementId, newCount) : 0;
+
+        Map<UUID, List<GameRoundEntry>> existingEntries = existingRoundIds.isEmpty()
+                ? Collections.emptyMap()
+                : gameRoundEntryRepository.findByRoundIdIn(new ArrayList<>(existingRoundIds)).stream()
+                        .collect(Collectors.groupingBy(GameRoundEntry::getRoundId));
+
+        LocalDateTime now = LocalDateTime.now();
+        List<GameRound> rounds = new ArrayList<>(requestedRounds.size());
+        List<GameRound> newRounds = new ArrayList<>();
+        for (BulkRoundData data : requestedRounds) {
+            List<UUID> excluded = data.getExcludedParticipantIds() != null
+                    ? new ArrayList<>(data.getExcludedParticipantIds())
+                    : new ArrayList<>();
+            if (!excluded.isEmpty()) {
+                validateExclusions(excluded, activeCount);
+            }
+            boolean hasTitle = data.getTitle() != null && !data.getTitle().isBlank();
+
+            GameRound existing = existingRounds.get(requestedRoundId(data));
+            if (existing != null) {
+                existing.setExcludedParticipantIds(excluded);
+                if (hasTitle) {
+                    existing.setTitle(data.getTitle());
+                }
+                rounds.add(existing);
+                continue;
+            }
 
-        if (!gameRoundRepository.existsById(roundId)) {
-            throw new ResourceNotFoundException("GameRound", "id", roundId);
+            int roundNumber = nextNumber++;
+            GameRound round = GameRound.builder()
+                    .id(data.getClientRoundId() != null ? data.getClientRoundId() : UUID.randomUUID())
+                    .settlementId(settlementId)
+                    .roundNumber(roundNumber)
+                    .title(hasTitle ? data.getTitle() : roundNumber + "라운드")
+                    .isCompleted(false)
+                    .excludedParticipantIds(excluded)
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .build();
+            rounds.add(round);
+            newRounds.add(round);
         }
 
+        // 엔트리 diff (새 라운드는 기존 엔트리 없음 → 전부 INSERT)
+        EntryBatch batch = new EntryBatch();
+        Map<UUID, List<GameRoundEntry>> entriesByRound = new HashMap<>();
+        for (int i = 0; i < requestedRounds.size(); i++) {
+            GameRound round = rounds.get(i);
+            List<EntryData> requested = requestedRounds.get(i).getEntries() != null
+                    ? requestedRounds.get(i).getEntries()
+                    : Collections.emptyList();
+            entriesByRound.put(round.getId(), diffEntries(round.getId(),
+                    existingEntries.getOrDefault(round.getId(), Collections.emptyList()), requested, batch));
+        }
+
+        // 동시 재시도에 밀려 삽입되지 않은 라운드는 먼저 저장된 행으로 응답 (예약한 번호는 저장되지 않음)
+        Set<UUID> lostIds = new HashSet<>();
+        if (!newRounds.isEmpty()) {
+            Set<UUID> insertedIds = insertRounds(settlementId, newRounds, now);
+            newRounds.stream()
+                    .map(GameRound::getId)
+                    .filter(id -> !insertedIds.contains(id))
+                    .forEach(lostIds::add);
+        }
+        if (!lostIds.isEmpty()) {
+            Map<UUID, GameRound> stored = new HashMap<>();
+            for (GameRound round : gameRoundRepository.findAllById(lostIds)) {
+                if (!round.getSettlementId().equals(settlementId)) {
+                    throw new ResourceNotFoundException("GameRound", "id", round.getId());
+                }
+                stored.put(round.getId(), round);
+            }
+            rounds.replaceAll(round -> stored.getOrDefault(round.getId(), round));
+        }
+        writeEntryBatch(batch);
+        if (!lostIds.isEmpty()) {
+            lostIds.forEach(id -> entriesByRound.put(id, new ArrayList<>()));
+            gameRoundEntryRepository.findByRoundIdIn(new ArrayList<>(lostIds))
+                    .forEach(entry -> entriesByRound.get(entry.getRoundId()).add(entry));
+        }
+
+        Map<UUID, String> participantNames = participants.values().stream()
+                .collect(Collectors.toMap(Participant::getId, Participant::getName));
+        return rounds.stream()
+                .map(round -> GameRoundWithEntriesResponse.from(round, entriesByRound.get(round.getId()), participantNames))
+                .toList();
+    }
+
+    @Transactional
+    public void deleteGameRound(UUID roundId, UUID userId) {
+        log.info("Deleting game round: {}", roundId);
+
+        GameRound round = findRoundWithAccess(roundId, userId);
+        validateNotArchived(round.getSettlementId());
+
         gameRoundEntryRepository.deleteByRoundId(roundId);
         gameRoundRepository.deleteById(roundId);
 
         log.info("Game round deleted: {}", roundId);
     }
 
+    /**
+     * 요청 라운드의 ID - 기존 라운드는 roundId, 새 라운드는 클라이언트가 생성한 clientRoundId (없으면 null)
+     */
+    private static UUID requestedRoundId(BulkRoundData data) {
+        return data.getRoundId() != null ? data.getRoundId() : data.getClientRoundId();
+    }
+
+    /**
+     * 새 라운드를 다중 행 INSERT 1회로 저장
+     *
+     * @return 실제로 삽입된 라운드 id (이미 저장된 clientRoundId 는 제외)
+     */
+    private Set<UUID> insertRounds(UUID settlementId, List<GameRound> newRounds, LocalDateTime now) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("settlementId", settlementId, Types.OTHER)
+                .addValue("createdAt", now);
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = 0; i < newRounds.size(); i++) {
+            GameRound round = newRounds.get(i);
+            values.add("(:id" + i + ", :settlementId, :roundNumber" + i + ", :title" + i + ", FALSE, " +
+                    "CAST(:excluded" + i + " AS uuid[]), :createdAt, :createdAt)");
+            params.addValue("id" + i, round.getId(), Types.OTHER)
+                    .addValue("roundNumber" + i, round.getRoundNumber())
+                    .addValue("title" + i, round.getTitle())
+                    .addValue("excluded" + i, round.getExcludedParticipantIds().stream()
+                            .map(UUID::toString)
+                            .collect(Collectors.joining(",", "{", "}")));
+        }
+        return new HashSet<>(jdbcTemplate.query(INSERT_ROUNDS_SQL_PREFIX + values + INSERT_ROUNDS_SQL_SUFFIX,
+                params, (rs, rowNum) -> rs.getObject("id", UUID.class)));
+    }
+
+    /**
+     * 새 라운드 count 개의 번호를 카운터에서 한 번에 예약
+     *
+     * @return 예약된 첫 번호
+     */
+    private int reserveRoundNumbers(UUID settlementId, int count) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("settlementId", settlementId, Types.OTHER)
+                .addValue("count", count);
+        List<Integer> first = jdbcTemplate.query(RESERVE_ROUND_NUMBERS_SQL, params,
+                (rs, rowNum) -> rs.getInt("first_number"));
+        if (first.isEmpty()) {
+            throw new ResourceNotFoundException("Settlement", "id", settlementId);
+        }
+        return first.get(0);
+    }
+
+    /**
+     * 라운드 ID 경로는 정산 범위 인터셉터 밖이므로 라운드의 정산으로 멤버십 확인
+     */
+    private GameRound findRoundWithAccess(UUID roundId, UUID userId) {
+        GameRound round = gameRoundRepository.findById(roundId)
+                .orElseThrow(() -> new ResourceNotFoundException("GameRound", "id", roundId));
+        settlementAccessService.checkAccess(round.getSettlementId(), userId, MemberRole.MEMBER);
+        return round;
+    }
+
+    private Settlement findSettlement(UUID settlementId) {
+        return settlementRepository.findById(settlementId)
+                .orElseThrow(() -> new ResourceNotFoundException("Settlement", "id", settlementId));
+    }
+
+    /**
+     * 보관된 정산은 라운드 데이터가 아카이브 번들에만 있으므로 수정 불가 (정산을 다시 열면 복원)
+     * 다른 인스턴스에서 보관된 직후일 수 있으므로 2차 캐시를 거치지 않고 조회
+     */
+    private void validateNotArchived(UUID settlementId) {
+        Settlement settlement = settlementRepository.findByIdBypassingCache(settlementId)
+                .orElseThrow(() -> new ResourceNotFoundException("Settlement", "id", settlementId));
+        if (settlement.isArchived()) {
+            throw new BusinessException("보관된 정산은 수정할 수 없습니다. 정산을 다시 열어 주세요.");
+        }
+    }
+
+    /**
+     * 업로드 라운드의 엔트리·제외 참가자가 모두 이 정산의 참가자인지 확인
+     */
+    private void validateBulkParticipants(BulkRoundData data, Set<UUID> participantIds) {
+        if (data.getEntries() != null) {
+            for (EntryData entry : data.getEntries()) {
+                if (!participantIds.contains(entry.getParticipantId())) {
+                    throw new BusinessException("참가자가 해당 정산에 속하지 않습니다: " + entry.getParticipantId());
+                }
+            }
+        }
+        if (data.getExcludedParticipantIds() != null) {
+            for (UUID excludedId : data.getExcludedParticipantIds()) {
+                if (!participantIds.contains(excludedId)) {
+                    throw new BusinessException("참가자가 해당 정산에 속하지 않습니다: " + excludedId);
+                }
+            }
+        }
+    }
+
+    private void validateExclusions(List<UUID> excludedParticipantIds, int activeCount) {
+        if (activeCount - excludedParticipantIds.size() < 2) {
+            throw new BusinessException("라운드에는 최소 2명의 참가자가 필요합니다.");
+        }
+    }
+
+    /**
+     * 기존 엔트리와 비교해 추가·변경분은 upsert, 빠진 참가자는 삭제 대상으로 batch 에 모음 (변경 없는 행은 건드리지 않음)
+     *
+     * @return 요청 순서대로 정렬된 최종 엔트리
+     */
+    private List<GameRoundEntry> diffEntries(UUID roundId, Collection<GameRoundEntry> existingEntries,
+                                             List<EntryData> requested, EntryBatch batch) {
+        Map<UUID, GameRoundEntry> existing = new HashMap<>();
+        for (GameRoundEntry entry : existingEntries) {
+            existing.put(entry.getParticipantId(), entry);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Set<UUID> requestedIds = new HashSet<>();
+        List<GameRoundEntry> result = new ArrayList<>(requested.size());
+
+        for (EntryData data : requested) {
+            if (!requestedIds.add(data.getParticipantId())) {
+                throw new BusinessException("같은 참가자의 엔트리가 중복되었습니다.");
+            }
+
+            GameRoundEntry current = existing.get(data.getParticipantId());
+            if (current != null && current.getAmount().compareTo(data.getAmount()) == 0
+                    && Objects.equals(current.getMemo(), data.getMemo())) {
+                result.add(current);
+                continue;
+            }
+
+            GameRoundEntry entry = GameRoundEntry.builder()
+                    .id(current != null ? current.getId() : UUID.randomUUID())
+                    .roundId(roundId)
+                    .participantId(data.getParticipantId())
+                    .amount(data.getAmount())
+                    .memo(data.getMemo())
+                    .createdAt(current != null ? current.getCreatedAt() : now)
+                    .build();
+            result.add(entry);
+            batch.upserts.add(new MapSqlParameterSource()
+                    .addValue("id", entry.getId(), Types.OTHER)
+                    .addValue("roundId", roundId, Types.OTHER)
+                    .addValue("participantId", entry.getParticipantId(), Types.OTHER)
+                    .addValue("amount", entry.getAmount())
+                    .addValue("memo", entry.getMemo())
+                    .addValue("createdAt", entry.getCreatedAt()));
+        }
+
+        existing.values().stream()
+                .filter(entry -> !requestedIds.contains(entry.getParticipantId()))
+                .map(GameRoundEntry::getId)
+                .forEach(batch.removedIds::add);
+
+        return result;
+    }
+
+    /**
+     * 모아둔 엔트리 변경분 반영 (upsert 배치 1회 + DELETE 1회) 및 변경 행 수 기록
+     */
+    private void writeEntryBatch(EntryBatch batch) {
+        int touched = 0;
+        if (!batch.upserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPSERT_ENTRY_SQL, batch.upserts.toArray(MapSqlParameterSource[]::new));
+            touched += batch.upserts.size();
+        }
+        if (!batch.removedIds.isEmpty()) {
+            touched += jdbcTemplate.update("DELETE FROM game_round_entries WHERE id IN (:ids)",
+                    new MapSqlParameterSource("ids", batch.removedIds));
+        }
+        entryRowsTouched.record(touched);
+        log.debug("Round entries diff applied: upserted={}, deleted={}", batch.upserts.size(), batch.removedIds.size());
+    }
+
+    private static final class EntryBatch {
+        private final List<MapSqlParameterSource> upserts = new ArrayList<>();
+        private final List<UUID> removedIds = new ArrayList<>();
+    }
+
+    private List<GameRoundWithEntriesResponse> toArchivedRoundResponses(ArchivedSettlement archived) {
+        Map<UUID, List<GameRoundEntry>> entriesByRound = archived.getEntries().stream()
+                .collect(Collectors.groupingBy(GameRoundEntry::getRoundId));
+        Map<UUID, String> participantNames = archived.getParticipants().stream()
+                .collect(Collectors.toMap(Participant::getId, Participant::getName));
+
+        return archived.getRounds().stream()
+                .map(round -> GameRoundWithEntriesResponse.from(
+                        round,
+                        entriesByRound.getOrDefault(round.getId(), Collections.emptyList()),
+                        participantNames))
+                .toList();
+    }
+
+    /**
+     * 라운드 번호 순 누적 행 → 라운드별 totals 배열 (참가자는 마지막 라운드 누적 금액 내림차순)
+     */
+    private LeaderboardResponse toLeaderboard(int from, int to, List<StandingRow> rows,
+                                              Map<UUID, String> participantNames) {
+        Map<UUID, BigDecimal> latest = new HashMap<>();
+        for (StandingRow row : rows) {
+            latest.put(row.participantId(), row.cumulative());
+        }
+        List<UUID> order = latest.entrySet().stream()
+                .sorted(Map.Entry.<UUID, BigDecimal>comparingByValue().reversed())
+                .map(Map.Entry::getKey)
+                .toList();
+        Map<UUID, Integer> column = new HashMap<>();
+        for (int i = 0; i < order.size(); i++) {
+            column.put(order.get(i), i);
+        }
+
+        Map<Integer, BigDecimal[]> totalsByRound = new LinkedHashMap<>();
+        for (StandingRow row : rows) {
+            totalsByRound.computeIfAbsent(row.roundNumber(), n -> new BigDecimal[order.size()])
+                    [column.get(row.participantId())] = row.cumulative();
+        }
+
+        return LeaderboardResponse.builder()
+                .fromRound(from)
+                .toRound(to)
+                .participants(order.stream()
+                        .map(id -> LeaderboardParticipant.builder()
+                                .id(id)
+                                .name(participantNames.getOrDefault(id, "Unknown"))
+                                .build())
+                        .toList())
+                .rounds(totalsByRound.entrySet().stream()
+                        .map(e -> LeaderboardRound.builder()
+                                .roundNumber(e.getKey())
+                                .totals(Arrays.asList(e.getValue()))
+                                .build())
+                        .toList())
+                .build();
+    }
+
+    private List<StandingRow> toArchivedStandings(ArchivedSettlement archived, int from, int to) {
+        Map<UUID, List<GameRoundEntry>> entriesByRound = archived.getEntries().stream()
+                .collect(Collectors.groupingBy(GameRoundEntry::getRoundId));
+        Set<UUID> participantIds = archived.getEntries().stream()
+                .map(GameRoundEntry::getParticipantId)
+                .collect(Collectors.toSet());
+
+        Map<UUID, BigDecimal> running = new HashMap<>();
+        participantIds.forEach(id -> running.put(id, BigDecimal.ZERO));
+
+        List<StandingRow> rows = new ArrayList<>();
+        List<GameRound> rounds = archived.getRounds().stream()
+                .sorted(Comparator.comparing(GameRound::getRoundNumber))
+                .toList();
+        for (GameRound round : rounds) {
+            if (round.getRoundNumber() > to) {
+                break;
+            }
+            for (GameRoundEntry entry : entriesByRound.getOrDefault(round.getId(), Collections.emptyList())) {
+                if (!round.getExcludedParticipantIds().contains(entry.getParticipantId())) {
+                    running.merge(entry.getParticipantId(), entry.getAmount(), BigDecimal::add);
+                }
+            }
+            if (round.getRoundNumber() >= from) {
+                running.forEach((id, total) -> rows.add(new StandingRow(round.getRoundNumber(), id, total)));
+            }
+        }
+        return rows;
+    }
+
+    private record StandingRow(int roundNumber, UUID participantId, BigDecimal cumulative) {
+    }
+
+    private List<ParticipantTotalResponse> toArchivedTotals(ArchivedSettlement archived) {
+        Map<UUID, GameRound> roundById = archived.getRounds().stream()
+                .collect(Collectors.toMap(GameRound::getId, round -> round));
+        Map<UUID, String> participantNames = archived.getParticipants().stream()
+                .collect(Collectors.toMap(Participant::getId, Participant::getName));
+
+        Map<UUID, BigDecimal> totals = new HashMap<>();
+        for (GameRoundEntry entry : archived.getEntries()) {
+            GameRound round = roundById.get(entry.getRoundId());
+            if (round != null && round.getExcludedParticipantIds().contains(entry.getParticipantId())) {
+                continue;
+            }
+            totals.merge(entry.getParticipantId(), entry.getAmount(), BigDecimal::add);
+        }
+
+        return totals.entrySet().stream()
+                .map(e -> ParticipantTotalResponse.builder()
+                        .participantId(e.getKey())
+                        .participantName(participantNames.getOrDefault(e.getKey(), "Unknown"))
+                        .totalAmount(e.getValue())
+                        .build())
+                .sorted(Comparator.comparing(ParticipantTotalResponse::getTotalAmount).reversed())
+                .toList();
+    }
+
     private Map<UUID, String> getParticipantNames(UUID settlementId) {
         List<Participant> participants = participantRepository.findBySettlementId(settlementId);
         return participants.stream()
@@ -11,6 +11,8 @@ import com.settleup.repository.ExpenseRepository;
 import com.settleup.repository.ExpenseSplitRepository;
 import com.settleup.repository.ParticipantRepository;
 import com.settleup.repository.SettlementRepository;
+import com.settleup.service.archive.ArchivedSettlement;
+import com.settleup.service.archive.SettlementArchiveService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -34,6 +36,7 @@ public class ParticipantService {
     private final SettlementRepository settlementRepository;
     private final ExpenseRepository expenseRepository;
     private final ExpenseSplitRepository expenseSplitRepository;
+    private final SettlementArchiveService settlementArchiveService;
 
     /**
      * 참가자 추가
@@ -43,12 +46,15 @@ public class ParticipantService {
         log.info("Adding participant to settlement: settlementId={}, name={}",
                 settlementId, request.getName());
 
-        // 정산 존재 및 상태 확인
-        Settlement settlement = settlementRepository.findById(settlementId)
+        // 정산 존재 및 상태 확인 (2차 캐시 우회)
+        Settlement settlement = settlementRepository.findByIdBypassingCache(settlementId)
                 .orElseThrow(() -> new ResourceNotFoundException("Settlement", "id", settlementId));
         if (settlement.getStatus() == SettlementStatus.COMPLETED) {
             throw new BusinessException("완료된 정산에는 참가자를 추가할 수 없습니다.");
         }
+        if (settlement.isArchived()) {
+            throw new BusinessException("보관된 정산은 수정할 수 없습니다. 정산을 다시 열어 주세요.");
+        }
 
         // 동일 정산에 같은 이름의 참가자가 이미 존재하는지 확인
         if (participantRepository.existsBySettlementIdAndName(settlementId, request.getName())) {
@@ -76,12 +82,12 @@ public class ParticipantService {
     public List<ParticipantResponse> getParticipantsBySettlement(UUID settlementId) {
         log.info("Getting participants by settlement: settlementId={}", settlementId);
 
-        // 정산 존재 확인
-        if (!settlementRepository.existsById(settlementId)) {
-            throw new ResourceNotFoundException("Settlement", "id", settlementId);
-        }
+        Settlement settlement = settlementRepository.findById(settlementId)
+                .orElseThrow(() -> new ResourceNotFoundException("Settlement", "id", settlementId));
 
-        List<Participant> participants = participantRepository.findBySettlementId(settlementId);
+        List<Participant> participants = settlementArchiveService.findArchived(settlement)
+                .map(ArchivedSettlement::getParticipants)
+                .orElseGet(() -> participantRepository.findBySettlementId(settlementId));
 
         return participants.stream()
                 .map(ParticipantResponse::from)
@@ -94,13 +100,12 @@ public class ParticipantService {
     public List<ParticipantResponse> getActiveParticipants(UUID settlementId) {
         log.info("Getting active participants by settlement: settlementId={}", settlementId);
 
-        // 정산 존재 확인
-        if (!settlementRepository.existsById(settlementId)) {
-            throw new ResourceNotFoundException("Settlement", "id", settlementId);
-        }
+        Settlement settlement = settlementRepository.findById(settlementId)
+                .orElseThrow(() -> new ResourceNotFoundException("Settlement", "id", settlementId));
 
-        List<Participant> participants = participantRepository
-                .findBySettlementIdAndIsActive(settlementId, true);
+        List<Participant> participants = settlementArchiveService.findArchived(settlement)
+                .map(ArchivedSettlement::getActiveParticipants)
+                .orElseGet(() -> participantRepository.findBySettlementIdAndIsActive(settlementId, true));
 
         return participants.stream()
                 .map(ParticipantResponse::from)
@@ -110,11 +115,10 @@ public class ParticipantService {
     /**
      * 참가자 단일 조회
      */
-    public ParticipantResponse getParticipant(UUID participantId) {
+    public ParticipantResponse getParticipant(UUID settlementId, UUID participantId) {
         log.info("Getting participant: id={}", participantId);
 
-        Participant participant = participantRepository.findById(participantId)
-                .orElseThrow(() -> new ResourceNotFoundException("Participant", "id", participantId));
+        Participant participant = findParticipantInSettlement(settlementId, participantId);
 
         return ParticipantResponse.from(participant);
     }
@@ -123,18 +127,20 @@ public class ParticipantService {
      * 참가자 활성/비활성 토글
      */
     @Transactional
-    public ParticipantResponse toggleParticipantStatus(UUID participantId, Boolean isActive) {
+    public ParticipantResponse toggleParticipantStatus(UUID settlementId, UUID participantId, Boolean isActive) {
         log.info("Toggling participant status: id={}, isActive={}", participantId, isActive);
 
-        Participant participant = participantRepository.findById(participantId)
-                .orElseThrow(() -> new ResourceNotFoundException("Participant", "id", participantId));
+        Participant participant = findParticipantInSettlement(settlementId, participantId);
 
-        // 완료된 정산 수정 차단
-        Settlement settlement = settlementRepository.findById(participant.getSettlementId())
+        // 완료된 정산 수정 차단 (2차 캐시 우회)
+        Settlement settlement = settlementRepository.findByIdBypassingCache(participant.getSettlementId())
                 .orElseThrow(() -> new ResourceNotFoundException("Settlement", "id", participant.getSettlementId()));
         if (settlement.getStatus() == SettlementStatus.COMPLETED) {
             throw new BusinessException("완료된 정산의 참가자 상태를 변경할 수 없습니다.");
         }
+        if (settlement.isArchived()) {
+            throw new BusinessException("보관된 정산은 수정할 수 없습니다. 정산을 다시 열어 주세요.");
+        }
 
         // 마지막 활성 참가자 비활성화 차단
         if (!isActive) {
@@ -159,18 +165,20 @@ public class ParticipantService {
      * 주의: 지출 내역에 참조되는 참가자는 삭제할 수 없음
      */
     @Transactional
-    public void deleteParticipant(UUID participantId) {
+    public void deleteParticipant(UUID settlementId, UUID participantId) {
         log.info("Deleting participant: id={}", participantId);
 
-        Participant participant = participantRepository.findById(participantId)
-                .orElseThrow(() -> new ResourceNotFoundException("Participant", "id", participantId));
+        Participant participant = findParticipantInSettlement(settlementId, participantId);
 
-        // 완료된 정산 수정 차단
-        Settlement settlement = settlementRepository.findById(participant.getSettlementId())
+        // 완료된 정산 수정 차단 (2차 캐시 우회)
+        Settlement settlement = settlementRepository.findByIdBypassingCache(participant.getSettlementId())
                 .orElseThrow(() -> new ResourceNotFoundException("Settlement", "id", participant.getSettlementId()));
         if (settlement.getStatus() == SettlementStatus.COMPLETED) {
             throw new BusinessException("완료된 정산의 참가자를 삭제할 수 없습니다.");
         }
+        if (settlement.isArchived()) {
+            throw new BusinessException("보관된 정산은 수정할 수 없습니다. 정산을 다시 열어 주세요.");
+        }
 
         // 지출자로 참조되는지 확인
         var payerExpenses = expenseRepository.findByPayerIdOrderByExpenseDateDesc(participantId);
@@ -198,12 +206,12 @@ public class ParticipantService {
     public long countParticipants(UUID settlementId) {
         log.info("Counting participants: settlementId={}", settlementId);
 
-        // 정산 존재 확인
-        if (!settlementRepository.existsById(settlementId)) {
-            throw new ResourceNotFoundException("Settlement", "id", settlementId);
-        }
+        Settlement settlement = settlementRepository.findById(settlementId)
+                .orElseThrow(() -> new ResourceNotFoundException("Settlement", "id", settlementId));
 
-        return participantRepository.countBySettlementId(settlementId);
+        return settlementArchiveService.findArchived(settlement)
+                .map(archived -> (long) archived.getParticipants().size())
+                .orElseGet(() -> participantRepository.countBySettlementId(settlementId));
     }
 
     /**
@@ -212,11 +220,23 @@ public class ParticipantService {
     public long countActiveParticipants(UUID settlementId) {
         log.info("Counting active participants: settlementId={}", settlementId);
 
-        // 정산 존재 확인
-        if (!settlementRepository.existsById(settlementId)) {
-            throw new ResourceNotFoundException("Settlement", "id", settlementId);
-        }
+        Settlement settlement = settlementRepository.findById(settlementId)
+                .orElseThrow(() -> new ResourceNotFoundException("Settlement", "id", settlementId));
 
-        return participantRepository.countBySettlementIdAndIsActive(settlementId, true);
+        return settlementArchiveService.findArchived(settlement)
+                .map(archived -> (long) archived.getActiveParticipants().size())
+                .orElseGet(() -> participantRepository.countBySettlementIdAndIsActive(settlementId, true));
+    }
+
+    /**
+     * 경로의 정산에 속한 참가자 조회 - 다른 정산의 참가자면 존재하지 않는 것으로 처리 (404)
+     */
+    private Participant findParticipantInSettlement(UUID settlementId, UUID participantId) {
+        Participant participant = participantRepository.findById(participantId)
+                .orElseThrow(() -> new ResourceNotFoundException("Participant", "id", participantId));
+        if (!participant.getSettlementId().equals(settlementId)) {
+            throw new ResourceNotFoundException("Participant", "id", participantId);
+        }
+        return participant;
     }
 }
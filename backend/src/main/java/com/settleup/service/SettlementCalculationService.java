@@ -9,6 +9,8 @@ import com.settleup.exception.ResourceNotFoundException;
 import com.settleup.repository.ExpenseRepository;
 import com.settleup.repository.ParticipantRepository;
 import com.settleup.repository.SettlementRepository;
+import com.settleup.service.archive.ArchivedSettlement;
+import com.settleup.service.archive.SettlementArchiveService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -33,6 +35,7 @@ public class SettlementCalculationService {
     private final SettlementRepository settlementRepository;
     private final ParticipantRepository participantRepository;
     private final ExpenseRepository expenseRepository;
+    private final SettlementArchiveService settlementArchiveService;
 
     /**
      * 정산 계산
@@ -52,16 +55,22 @@ public class SettlementCalculationService {
         Settlement settlement = settlementRepository.findById(settlementId)
                 .orElseThrow(() -> new ResourceNotFoundException("Settlement", "id", settlementId));
 
+        // 콜드 스토리지로 이동한 정산은 아카이브 번들에서 조회
+        Optional<ArchivedSettlement> archived = settlementArchiveService.findArchived(settlement);
+
         // 2. 활성 참가자 조회
-        List<Participant> participants = participantRepository
-                .findBySettlementIdAndIsActive(settlementId, true);
+        List<Participant> participants = archived.isPresent()
+                ? archived.get().getActiveParticipants()
+                : participantRepository.findBySettlementIdAndIsActive(settlementId, true);
 
         if (participants.isEmpty()) {
             throw new BusinessException("활성 참가자가 없습니다.");
         }
 
         // 3. 모든 지출 조회
-        List<Expense> expenses = expenseRepository.findBySettlementIdOrderByExpenseDateDesc(settlementId);
+        List<Expense> expenses = archived.isPresent()
+                ? archived.get().getExpenses()
+                : expenseRepository.findBySettlementIdOrderByExpenseDateDesc(settlementId);
 
         if (expenses.isEmpty()) {
             throw new BusinessException("지출 내역이 없습니다.");
@@ -9,14 +9,20 @@ import com.settleup.exception.ResourceNotFoundException;
 import com.settleup.repository.SettlementInviteCodeRepository;
 import com.settleup.repository.SettlementMemberRepository;
 import com.settleup.repository.SettlementRepository;
+import com.settleup.security.SettlementAccessService;
+import com.settleup.service.invite.InviteCodeGenerator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.security.SecureRandom;
+import java.sql.Types;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Slf4j
@@ -28,10 +34,23 @@ public class SettlementMemberService {
     private final SettlementMemberRepository memberRepository;
     private final SettlementInviteCodeRepository inviteCodeRepository;
     private final SettlementRepository settlementRepository;
+    private final SettlementAccessService settlementAccessService;
+    private final InviteCodeGenerator inviteCodeGenerator;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
 
-    private static final String CODE_CHARS = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789";
-    private static final int CODE_LENGTH = 8;
     private static final int INVITE_EXPIRY_HOURS = 24;
+    private static final int MAX_CODE_ATTEMPTS = 10;
+    public static final int MAX_INVITE_USES = 100;
+
+    @Value("${settlement.invite.redemption-log.enabled:true}")
+    private boolean redemptionLogEnabled;
+
+    // 코드 충돌 시 예외 없이 빈 결과 → 트랜잭션을 깨지 않고 재시도
+    private static final String INSERT_INVITE_CODE_SQL =
+            "INSERT INTO settlement_invite_codes (settlement_id, code, created_by, expires_at, max_uses) " +
+            "VALUES (:settlementId, :code, :createdBy, :expiresAt, :maxUses) " +
+            "ON CONFLICT (code) DO NOTHING " +
+            "RETURNING id, created_at";
 
     /**
      * 정산 생성 시 OWNER 멤버 자동 생성
@@ -46,7 +65,9 @@ public class SettlementMemberService {
                 .role(MemberRole.OWNER)
                 .build();
 
-        return memberRepository.save(member);
+        SettlementMember saved = memberRepository.save(member);
+        settlementAccessService.evict(userId);
+        return saved;
     }
 
     /**
@@ -64,31 +85,46 @@ public class SettlementMemberService {
     }
 
     /**
-     * 멤버십 확인 (없으면 ForbiddenException)
+     * 멤버십 확인 (없으면 ForbiddenException) - 접근 권한 캐시 사용
      */
     public void validateMembership(UUID settlementId, UUID userId) {
-        if (!memberRepository.existsBySettlementIdAndUserId(settlementId, userId)) {
+        if (settlementAccessService.findRole(settlementId, userId) == null) {
             throw new ForbiddenException("해당 정산에 접근 권한이 없습니다.");
         }
     }
 
     /**
-     * OWNER 권한 확인
+     * OWNER 권한 확인 - 접근 권한 캐시 사용
      */
     public void validateOwnership(UUID settlementId, UUID userId) {
-        SettlementMember member = memberRepository.findBySettlementIdAndUserId(settlementId, userId)
-                .orElseThrow(() -> new ForbiddenException("해당 정산에 접근 권한이 없습니다."));
-        if (member.getRole() != MemberRole.OWNER) {
+        MemberRole role = settlementAccessService.findRole(settlementId, userId);
+        if (role == null) {
+            throw new ForbiddenException("해당 정산에 접근 권한이 없습니다.");
+        }
+        if (role != MemberRole.OWNER) {
             throw new ForbiddenException("소유자만 이 작업을 수행할 수 있습니다.");
         }
     }
 
     /**
-     * 초대 코드 생성
+     * 초대 코드 생성 (1회용)
      */
     @Transactional
     public SettlementInviteCode generateInviteCode(UUID settlementId, UUID creatorUserId) {
-        log.info("Generating invite code: settlementId={}, creatorUserId={}", settlementId, creatorUserId);
+        return generateInviteCode(settlementId, creatorUserId, 1);
+    }
+
+    /**
+     * 초대 코드 생성 - maxUses 명까지 같은 코드로 참가 가능
+     */
+    @Transactional
+    public SettlementInviteCode generateInviteCode(UUID settlementId, UUID creatorUserId, int maxUses) {
+        log.info("Generating invite code: settlementId={}, creatorUserId={}, maxUses={}",
+                settlementId, creatorUserId, maxUses);
+
+        if (maxUses < 1 || maxUses > MAX_INVITE_USES) {
+            throw new BusinessException("초대 코드 사용 횟수는 1~" + MAX_INVITE_USES + " 사이여야 합니다.");
+        }
 
         if (!settlementRepository.existsById(settlementId)) {
             throw new ResourceNotFoundException("Settlement", "id", settlementId);
@@ -96,75 +132,78 @@ public class SettlementMemberService {
 
         validateMembership(settlementId, creatorUserId);
 
-        String code = generateUniqueCode();
-
-        SettlementInviteCode inviteCode = SettlementInviteCode.builder()
-                .settlementId(settlementId)
-                .code(code)
-                .createdBy(creatorUserId)
-                .expiresAt(LocalDateTime.now().plusHours(INVITE_EXPIRY_HOURS))
-                .build();
-
-        return inviteCodeRepository.save(inviteCode);
+        LocalDateTime expiresAt = LocalDateTime.now().plusHours(INVITE_EXPIRY_HOURS);
+        for (int attempt = 0; attempt < MAX_CODE_ATTEMPTS; attempt++) {
+            String code = inviteCodeGenerator.nextCode();
+            MapSqlParameterSource params = new MapSqlParameterSource()
+                    .addValue("settlementId", settlementId, Types.OTHER)
+                    .addValue("code", code)
+                    .addValue("createdBy", creatorUserId, Types.OTHER)
+                    .addValue("expiresAt", expiresAt)
+                    .addValue("maxUses", maxUses);
+
+            List<SettlementInviteCode> inserted = jdbcTemplate.query(INSERT_INVITE_CODE_SQL, params,
+                    (rs, rowNum) -> SettlementInviteCode.builder()
+                            .id(rs.getObject("id", UUID.class))
+                            .settlementId(settlementId)
+                            .code(code)
+                            .createdBy(creatorUserId)
+                            .expiresAt(expiresAt)
+                            .maxUses(maxUses)
+                            .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+                            .build());
+            if (!inserted.isEmpty()) {
+                return inserted.get(0);
+            }
+            log.debug("Invite code collision, retrying: attempt={}", attempt + 1);
+        }
+        throw new RuntimeException("초대 코드 생성에 실패했습니다.");
     }
 
     /**
      * 초대 코드로 참가
+     * 코드 사용 처리(조건부 UPDATE) → 멤버 추가(ON CONFLICT DO NOTHING) 2문장으로 처리
+     * 같은 코드로 동시에 참가해도 max_uses 명까지만 성공하며, 실패 시 코드 사용 처리는 롤백됨
      */
     @Transactional
     public SettlementMember joinByInviteCode(String code, UUID userId) {
         log.info("Joining by invite code: code={}, userId={}", code, userId);
 
-        SettlementInviteCode inviteCode = inviteCodeRepository.findByCode(code)
-                .orElseThrow(() -> new BusinessException("유효하지 않은 초대 코드입니다."));
+        Optional<UUID> redeemed = redemptionLogEnabled
+                ? inviteCodeRepository.redeemAndLog(code, userId)
+                : inviteCodeRepository.redeem(code, userId);
+        UUID settlementId = redeemed
+                .orElseThrow(() -> rejectInviteCode(code));
 
-        if (inviteCode.isExpired()) {
-            throw new BusinessException("만료된 초대 코드입니다.");
-        }
-
-        if (inviteCode.isUsed()) {
-            throw new BusinessException("이미 사용된 초대 코드입니다.");
-        }
+        LocalDateTime joinedAt = LocalDateTime.now();
+        UUID memberId = memberRepository.insertIfAbsent(settlementId, userId, MemberRole.MEMBER.name(), joinedAt)
+                .orElseThrow(() -> new BusinessException("이미 해당 정산의 멤버입니다."));
 
-        UUID settlementId = inviteCode.getSettlementId();
+        settlementAccessService.evict(userId);
 
-        // 이미 멤버인지 확인
-        if (memberRepository.existsBySettlementIdAndUserId(settlementId, userId)) {
-            throw new BusinessException("이미 해당 정산의 멤버입니다.");
-        }
-
-        // 멤버 추가
-        SettlementMember member = SettlementMember.builder()
+        return SettlementMember.builder()
+                .id(memberId)
                 .settlementId(settlementId)
                 .userId(userId)
                 .role(MemberRole.MEMBER)
+                .joinedAt(joinedAt)
                 .build();
-
-        SettlementMember saved = memberRepository.save(member);
-
-        // 초대 코드 사용 처리
-        inviteCode.setUsedBy(userId);
-        inviteCode.setUsedAt(LocalDateTime.now());
-        inviteCodeRepository.save(inviteCode);
-
-        return saved;
     }
 
     /**
-     * 고유한 8자리 코드 생성
+     * 사용 처리 실패 원인 판별 (실패 경로에서만 조회)
      */
-    private String generateUniqueCode() {
-        SecureRandom random = new SecureRandom();
-        for (int attempt = 0; attempt < 10; attempt++) {
-            StringBuilder sb = new StringBuilder(CODE_LENGTH);
-            for (int i = 0; i < CODE_LENGTH; i++) {
-                sb.append(CODE_CHARS.charAt(random.nextInt(CODE_CHARS.length())));
-            }
-            String code = sb.toString();
-            if (inviteCodeRepository.findByCode(code).isEmpty()) {
-                return code;
-            }
-        }
-        throw new RuntimeException("초대 코드 생성에 실패했습니다.");
+    private BusinessException rejectInviteCode(String code) {
+        return inviteCodeRepository.findByCode(code)
+                .map(inviteCode -> {
+                    if (inviteCode.isExpired()) {
+                        return new BusinessException("만료된 초대 코드입니다.");
+                    }
+                    if (inviteCode.isMultiUse()) {
+                        return new BusinessException("초대 코드 사용 가능 인원이 모두 찼습니다.");
+                    }
+                    return new BusinessException("이미 사용된 초대 코드입니다.");
+                })
+                .orElseGet(() -> new BusinessException("유효하지 않은 초대 코드입니다."));
     }
 }
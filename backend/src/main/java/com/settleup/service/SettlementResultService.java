@@ -1,15 +1,20 @@
 package com.settleup.service;
 
+import com.settleup.domain.settlement.Settlement;
 import com.settleup.domain.settlement.SettlementResult;
 import com.settleup.domain.settlement.SettlementResultData;
 import com.settleup.dto.SettlementResultDto.*;
+import com.settleup.exception.BusinessException;
 import com.settleup.exception.ResourceNotFoundException;
+import com.settleup.repository.SettlementRepository;
 import com.settleup.repository.SettlementResultRepository;
+import com.settleup.service.archive.SettlementArchiveService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -20,6 +25,8 @@ import java.util.stream.Collectors;
 public class SettlementResultService {
 
     private final SettlementResultRepository settlementResultRepository;
+    private final SettlementRepository settlementRepository;
+    private final SettlementArchiveService settlementArchiveService;
 
     /**
      * 정산 결과 저장
@@ -28,6 +35,14 @@ public class SettlementResultService {
     public SettlementResultResponse saveResult(SettlementResultResponse calculationResult) {
         log.info("Saving settlement result for: settlementId={}", calculationResult.getSettlementId());
 
+        // 보관된 정산의 결과는 아카이브 번들에만 존재 (hot 테이블에 저장하면 복원 시 중복)
+        UUID settlementId = calculationResult.getSettlementId();
+        Settlement settlement = settlementRepository.findByIdBypassingCache(settlementId)
+                .orElseThrow(() -> new ResourceNotFoundException("Settlement", "id", settlementId));
+        if (settlement.isArchived()) {
+            throw new BusinessException("보관된 정산의 결과는 저장할 수 없습니다. 정산을 다시 열어 주세요.");
+        }
+
         SettlementResultData data = SettlementResultData.builder()
                 .participants(calculationResult.getParticipants().stream()
                         .map(p -> SettlementResultData.ParticipantSnapshot.builder()
@@ -68,8 +83,14 @@ public class SettlementResultService {
     public SettlementResultResponse getLatestResult(UUID settlementId) {
         log.info("Getting latest settlement result: settlementId={}", settlementId);
 
-        SettlementResult result = settlementResultRepository
-                .findFirstBySettlementIdOrderByCalculatedAtDesc(settlementId)
+        Settlement settlement = findSettlement(settlementId);
+
+        // 콜드 스토리지로 이동한 정산은 아카이브 번들의 최신 결과 사용
+        Optional<SettlementResult> latest = settlement.isArchived()
+                ? settlementArchiveService.findArchived(settlement)
+                        .flatMap(archived -> archived.getResults().stream().findFirst())
+                : settlementResultRepository.findFirstBySettlementIdOrderByCalculatedAtDesc(settlementId);
+        SettlementResult result = latest
                 .orElseThrow(() -> new ResourceNotFoundException("SettlementResult", "settlementId", settlementId));
 
         return toResponse(result);
@@ -84,6 +105,11 @@ public class SettlementResultService {
         settlementResultRepository.deleteBySettlementId(settlementId);
     }
 
+    private Settlement findSettlement(UUID settlementId) {
+        return settlementRepository.findById(settlementId)
+                .orElseThrow(() -> new ResourceNotFoundException("Settlement", "id", settlementId));
+    }
+
     private SettlementResultResponse toResponse(SettlementResult entity) {
         SettlementResultData data = entity.getResultData();
 
@@ -1,12 +1,14 @@
 package com.settleup.service;
 
 import com.settleup.domain.settlement.Settlement;
+import com.settleup.domain.settlement.SettlementMember;
 import com.settleup.domain.settlement.SettlementStatus;
 import com.settleup.dto.SettlementCreateRequest;
 import com.settleup.dto.SettlementResponse;
 import com.settleup.dto.SettlementUpdateRequest;
 import com.settleup.exception.BusinessException;
 import com.settleup.exception.ResourceNotFoundException;
+import com.settleup.repository.SettlementArchiveRepository;
 import com.settleup.repository.SettlementRepository;
 import com.settleup.repository.SettlementResultRepository;
 import com.settleup.repository.SettlementMemberRepository;
@@ -17,6 +19,8 @@ import com.settleup.repository.ParticipantRepository;
 import com.settleup.repository.GameRoundRepository;
 import com.settleup.repository.GameRoundEntryRepository;
 import com.settleup.domain.game.GameRound;
+import com.settleup.security.SettlementAccessService;
+import com.settleup.service.archive.SettlementArchiveService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -51,6 +55,9 @@ public class SettlementService {
     private final SettlementInviteCodeRepository settlementInviteCodeRepository;
     private final GameRoundRepository gameRoundRepository;
     private final GameRoundEntryRepository gameRoundEntryRepository;
+    private final SettlementArchiveRepository settlementArchiveRepository;
+    private final SettlementArchiveService settlementArchiveService;
+    private final SettlementAccessService settlementAccessService;
 
     /**
      * 정산 생성
@@ -127,6 +134,18 @@ public class SettlementService {
                         r -> (Long) r[1]
                 ));
 
+        // 콜드 스토리지로 이동한 정산은 아카이브 요약값 사용
+        List<UUID> archivedIds = settlements.stream()
+                .filter(Settlement::isArchived)
+                .map(Settlement::getId)
+                .toList();
+        for (Object[] summary : settlementArchiveService.findSummaries(archivedIds)) {
+            UUID settlementId = (UUID) summary[0];
+            expenseMap.put(settlementId, (BigDecimal) summary[1]);
+            participantMap.put(settlementId, ((Integer) summary[2]).longValue());
+            roundMap.put(settlementId, ((Integer) summary[3]).longValue());
+        }
+
         return settlements.stream().map(s -> {
             SettlementResponse resp = SettlementResponse.from(s);
             resp.setTotalExpense(expenseMap.getOrDefault(s.getId(), BigDecimal.ZERO));
@@ -211,7 +230,11 @@ public class SettlementService {
             settlement.setCurrency(request.getCurrency());
         }
         if (request.getStatus() != null) {
-            settlement.setStatus(request.getStatus());
+            // 아카이브된 정산이 완료 상태를 벗어나면 hot 테이블로 복원 (보관 중 쓰기는 읽기 경로에서 보이지 않음)
+            if (settlement.isArchived() && request.getStatus() != SettlementStatus.COMPLETED) {
+                settlementArchiveService.restore(settlement);
+            }
+            settlement.changeStatus(request.getStatus());
         }
 
         // 날짜 검증
@@ -224,14 +247,25 @@ public class SettlementService {
     }
 
     /**
-     * 정산이 COMPLETED 상태인지 확인하고, 그렇다면 예외 발생
+     * 정산이 COMPLETED 상태인지 확인하고, 그렇다면 예외 발생 (2차 캐시를 거치지 않고 최신 상태 조회)
      */
     public void validateSettlementNotCompleted(UUID settlementId) {
-        Settlement settlement = settlementRepository.findById(settlementId)
+        Settlement settlement = settlementRepository.findByIdBypassingCache(settlementId)
                 .orElseThrow(() -> new ResourceNotFoundException("Settlement", "id", settlementId));
+        validateSettlementNotCompleted(settlement);
+    }
+
+    /**
+     * 이미 조회한 정산으로 완료·보관 여부 확인 (같은 요청에서 정산을 다시 조회하지 않도록)
+     * 쓰기 경로에서는 findByIdBypassingCache 로 조회한 정산을 넘길 것
+     */
+    public void validateSettlementNotCompleted(Settlement settlement) {
         if (settlement.getStatus() == SettlementStatus.COMPLETED) {
             throw new BusinessException("완료된 정산은 수정할 수 없습니다.");
         }
+        if (settlement.isArchived()) {
+            throw new BusinessException("보관된 정산은 수정할 수 없습니다. 정산을 다시 열어 주세요.");
+        }
     }
 
     /**
@@ -245,7 +279,15 @@ public class SettlementService {
             throw new ResourceNotFoundException("Settlement", "id", id);
         }
 
+        // 접근 권한 캐시 무효화 대상 (OWNER 포함 전체 멤버)
+        List<UUID> memberUserIds = settlementMemberRepository.findBySettlementId(id).stream()
+                .map(SettlementMember::getUserId)
+                .toList();
+
         // 외래 키 제약 조건 순서대로 삭제
+        // 0. 콜드 스토리지 아카이브 삭제
+        settlementArchiveRepository.deleteBySettlementId(id);
+
         // 0a. invite_codes 삭제
         log.info("Deleting related invite codes for settlement: id={}", id);
         settlementInviteCodeRepository.deleteBySettlementId(id);
@@ -284,6 +326,7 @@ public class SettlementService {
 
         // 4. settlement 삭제
         settlementRepository.deleteById(id);
+        settlementAccessService.evictAll(memberUserIds);
         log.info("Settlement deleted successfully: id={}", id);
     }
 }
@@ -1,49 +1,255 @@
 package com.settleup.service.ai;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.settleup.dto.AiCategoryDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
-import java.time.Duration;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
 
+/**
+ * ML 카테고리 분류 서비스 클라이언트
+ * ASYNC 모드: JDK HttpClient (HTTP/1.1 keep-alive 커넥션 재사용), 요청 스레드를 점유하지 않음
+ * BLOCKING 모드: 호출마다 HttpURLConnection 을 여는 기존 RestTemplate 방식
+ * 두 모드 모두 동시 호출 상한(bulkhead)과 서킷 브레이커를 거치며, 거절·실패 시 null (호출 측에서 503 처리)
+ * 서킷 브레이커 실패로는 5xx, 타임아웃, I/O 오류만 집계 (4xx·응답 파싱 실패는 서비스 장애가 아니므로 제외)
+ */
 @Service
 @Slf4j
 public class AiClassifierClient {
 
-    @Value("${ai.classifier.url:http://category-classifier:8000}")
-    private String classifierUrl;
-
-    @Value("${ai.classifier.enabled:true}")
-    private boolean enabled;
+    private final AiClassifierProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
     private RestTemplate restTemplate;
+    private HttpClient httpClient;
+    private Semaphore inFlight;
+    private ClassifierCircuitBreaker circuitBreaker;
+    private Counter circuitOpenRejections;
+    private Counter bulkheadRejections;
+    private URI predictUri;
+    private URI batchPredictUri;
+
+    public AiClassifierClient(AiClassifierProperties properties, ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
 
     @PostConstruct
     public void init() {
+        predictUri = URI.create(properties.getUrl() + "/predict");
+        batchPredictUri = URI.create(properties.getUrl() + "/predict/batch");
+        inFlight = new Semaphore(properties.getMaxInFlight());
+        circuitBreaker = new ClassifierCircuitBreaker(properties.getCircuitBreaker());
+
+        Gauge.builder("settleup.ai.classifier.circuit.state", circuitBreaker, cb -> cb.getState().ordinal())
+                .description("Classifier circuit breaker state (0=closed, 1=open, 2=half-open)")
+                .register(meterRegistry);
+        Gauge.builder("settleup.ai.classifier.bulkhead.available", inFlight, Semaphore::availablePermits)
+                .description("Free classifier call slots")
+                .register(meterRegistry);
+        circuitOpenRejections = Counter.builder("settleup.ai.classifier.rejected")
+                .description("Classifier calls rejected without reaching the service")
+                .tag("reason", "circuit_open")
+                .register(meterRegistry);
+        bulkheadRejections = Counter.builder("settleup.ai.classifier.rejected")
+                .description("Classifier calls rejected without reaching the service")
+                .tag("reason", "bulkhead_full")
+                .register(meterRegistry);
+
         var factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(Duration.ofSeconds(2));
-        factory.setReadTimeout(Duration.ofSeconds(3));
+        factory.setConnectTimeout(properties.getConnectTimeout());
+        factory.setReadTimeout(properties.getReadTimeout());
         this.restTemplate = new RestTemplate(factory);
+
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(properties.getConnectTimeout())
+                .build();
     }
 
     public AiCategoryDto.ClassifierResponse predictCategory(String description) {
-        if (!enabled) {
+        if (!properties.isEnabled()) {
+            return null;
+        }
+        if (properties.getMode() == AiClassifierProperties.ClientMode.ASYNC) {
+            return predictCategoryAsync(description).join();
+        }
+        return predictBlocking(description);
+    }
+
+    /**
+     * 비동기 예측 - 동시 호출이 max-in-flight 를 넘으면 대기하지 않고 null 로 완료
+     */
+    public CompletableFuture<AiCategoryDto.ClassifierResponse> predictCategoryAsync(String description) {
+        if (!properties.isEnabled()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        if (properties.getMode() == AiClassifierProperties.ClientMode.BLOCKING) {
+            return CompletableFuture.completedFuture(predictBlocking(description));
+        }
+        return sendAsync(predictUri, Map.of("description", description),
+                AiCategoryDto.ClassifierResponse.class);
+    }
+
+    /**
+     * 배치 예측 (POST /predict/batch) - 결과는 요청 순서와 같고, 실패하거나 개수가 맞지 않으면 null
+     * 배치 한 건이 동시 호출 슬롯 하나를 사용
+     */
+    public CompletableFuture<List<AiCategoryDto.ClassifierResponse>> predictBatchAsync(List<String> descriptions) {
+        if (!properties.isEnabled() || properties.getMode() == AiClassifierProperties.ClientMode.BLOCKING) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return sendAsync(batchPredictUri, Map.of("descriptions", descriptions),
+                AiCategoryDto.ClassifierBatchResponse.class)
+                .thenApply(result -> {
+                    if (result == null || result.getPredictions() == null
+                            || result.getPredictions().size() != descriptions.size()) {
+                        if (result != null) {
+                            log.warn("AI 분류 배치 응답 개수 불일치: requested={}", descriptions.size());
+                        }
+                        return null;
+                    }
+                    return result.getPredictions();
+                });
+    }
+
+    private <T> CompletableFuture<T> sendAsync(URI uri, Object body, Class<T> responseType) {
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(uri)
+                    .timeout(properties.getReadTimeout())
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                    .build();
+        } catch (Exception e) {
+            log.warn("AI 분류 요청 생성 실패: {}", e.getMessage());
+            return CompletableFuture.completedFuture(null);
+        }
+
+        if (!tryAcquire()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        long startedAt = System.nanoTime();
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .thenApply(response -> readResponse(response, responseType))
+                .exceptionally(e -> {
+                    // 연결 실패, 타임아웃 등 전송 오류
+                    log.warn("AI 분류 서비스 호출 실패: {}", e.getMessage());
+                    return new CallResult<>(null, CallOutcome.FAILURE);
+                })
+                .thenApply(result -> {
+                    release(result.outcome(), startedAt);
+                    return result.value();
+                });
+    }
+
+    /**
+     * bulkhead 슬롯 → 서킷 브레이커 순서로 호출 허가 (둘 다 대기 없이 즉시 판단)
+     */
+    private boolean tryAcquire() {
+        if (!inFlight.tryAcquire()) {
+            bulkheadRejections.increment();
+            log.warn("AI 분류 서비스 동시 호출 상한 초과: maxInFlight={}", properties.getMaxInFlight());
+            return false;
+        }
+        if (!circuitBreaker.tryAcquirePermission()) {
+            inFlight.release();
+            circuitOpenRejections.increment();
+            log.debug("AI 분류 서킷 OPEN - 호출 거절");
+            return false;
+        }
+        return true;
+    }
+
+    private void release(CallOutcome outcome, long startedAt) {
+        switch (outcome) {
+            case SUCCESS -> circuitBreaker.onSuccess(System.nanoTime() - startedAt);
+            case FAILURE -> circuitBreaker.onFailure();
+            case IGNORED -> circuitBreaker.onIgnored();
+        }
+        inFlight.release();
+    }
+
+    int availableSlots() {
+        return inFlight.availablePermits();
+    }
+
+    ClassifierCircuitBreaker circuitBreaker() {
+        return circuitBreaker;
+    }
+
+    double rejectedCount() {
+        return circuitOpenRejections.count() + bulkheadRejections.count();
+    }
+
+    private AiCategoryDto.ClassifierResponse predictBlocking(String description) {
+        if (!tryAcquire()) {
             return null;
         }
+        long startedAt = System.nanoTime();
+        CallOutcome outcome = CallOutcome.IGNORED;
         try {
             var request = Map.of("description", description);
-            var response = restTemplate.postForObject(
-                    classifierUrl + "/predict", request,
+            AiCategoryDto.ClassifierResponse result = restTemplate.postForObject(
+                    predictUri, request,
                     AiCategoryDto.ClassifierResponse.class);
-            return response;
+            if (result != null) {
+                outcome = CallOutcome.SUCCESS;
+            }
+            return result;
+        } catch (HttpServerErrorException | ResourceAccessException e) {
+            // 5xx, 연결 실패·타임아웃
+            outcome = CallOutcome.FAILURE;
+            log.warn("AI 분류 서비스 호출 실패: {}", e.getMessage());
+            return null;
         } catch (Exception e) {
+            // 4xx, 응답 파싱 실패
             log.warn("AI 분류 서비스 호출 실패: {}", e.getMessage());
             return null;
+        } finally {
+            release(outcome, startedAt);
+        }
+    }
+
+    private <T> CallResult<T> readResponse(HttpResponse<byte[]> response, Class<T> responseType) {
+        if (response.statusCode() != 200) {
+            log.warn("AI 분류 서비스 오류 응답: status={}", response.statusCode());
+            return new CallResult<>(null, response.statusCode() >= 500 ? CallOutcome.FAILURE : CallOutcome.IGNORED);
+        }
+        try {
+            return new CallResult<>(objectMapper.readValue(response.body(), responseType), CallOutcome.SUCCESS);
+        } catch (Exception e) {
+            log.warn("AI 분류 응답 파싱 실패: {}", e.getMessage());
+            return new CallResult<>(null, CallOutcome.IGNORED);
         }
     }
+
+    /**
+     * 서킷 브레이커에 보고할 호출 결과 분류
+     */
+    private enum CallOutcome {
+        SUCCESS, FAILURE, IGNORED
+    }
+
+    private record CallResult<T>(T value, CallOutcome outcome) {
+    }
 }
@@ -0,0 +1,42 @@
+package com.settleup.service.ai;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+/**
+ * AI 분류 서비스 상태 (actuator health 의 aiClassifier 컴포넌트)
+ * 서킷 OPEN 은 DEGRADED 로 표시 - 분류는 부가 기능이라 전체 health 집계(UP/DOWN)에는 반영하지 않음
+ */
+@Component("aiClassifier")
+@RequiredArgsConstructor
+public class AiClassifierHealthIndicator implements HealthIndicator {
+
+    static final Status DEGRADED = new Status("DEGRADED", "AI 분류 서비스 호출 차단 중 (서킷 OPEN)");
+
+    private final AiClassifierClient aiClassifierClient;
+    private final AiClassifierProperties properties;
+
+    @Override
+    public Health health() {
+        if (!properties.isEnabled()) {
+            return Health.unknown().withDetail("enabled", false).build();
+        }
+
+        ClassifierCircuitBreaker circuitBreaker = aiClassifierClient.circuitBreaker();
+        ClassifierCircuitBreaker.State state = circuitBreaker.getState();
+        Health.Builder builder = state == ClassifierCircuitBreaker.State.OPEN
+                ? Health.status(DEGRADED)
+                : Health.up();
+        return builder
+                .withDetail("circuitState", state)
+                .withDetail("failureRate", circuitBreaker.getFailureRate())
+                .withDetail("slowCallRate", circuitBreaker.getSlowCallRate())
+                .withDetail("bufferedCalls", circuitBreaker.getBufferedCalls())
+                .withDetail("availableSlots", aiClassifierClient.availableSlots())
+                .withDetail("rejectedCalls", (long) aiClassifierClient.rejectedCount())
+                .build();
+    }
+}
@@ -0,0 +1,73 @@
+package com.settleup.service.ai;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "ai.classifier")
+@Getter
+@Setter
+public class AiClassifierProperties {
+    private String url = "http://category-classifier:8000";
+    private boolean enabled = true;
+    private ClientMode mode = ClientMode.ASYNC; // BLOCKING: 기존 RestTemplate 방식
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration readTimeout = Duration.ofSeconds(3);
+    private int maxInFlight = 64; // 동시 호출 상한 - 모드 무관 bulkhead (초과 시 즉시 실패)
+    private Cache cache = new Cache();
+    private Batch batch = new Batch();
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+    private Fallback fallback = new Fallback();
+
+    @Getter
+    @Setter
+    public static class Cache {
+        private boolean enabled = true;
+        private long maxSize = 10_000;
+        private Duration ttl = Duration.ofHours(6); // 모델 버전이 바뀌면 TTL 과 무관하게 전체 무효화
+    }
+
+    /**
+     * 동시 단건 예측을 모아 /predict/batch 한 번으로 호출 (ASYNC 모드 전용)
+     */
+    @Getter
+    @Setter
+    public static class Batch {
+        private boolean enabled = false; // 분류 서비스가 /predict/batch 를 지원할 때만 활성화
+        private int maxSize = 32;
+        private Duration maxWait = Duration.ofMillis(5);
+    }
+
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+        private int windowSize = 50;
+        private int minimumCalls = 10;
+        private double failureRateThreshold = 0.5;
+        private double slowCallRateThreshold = 0.8;
+        private Duration slowCallDuration = Duration.ofSeconds(1);
+        private Duration waitInOpen = Duration.ofSeconds(10);
+        private int halfOpenProbes = 3;
+    }
+
+    /**
+     * prediction_logs 로 학습한 JVM 내 폴백 분류기 - 원격 분류 실패·차단·지연 시 사용
+     */
+    @Getter
+    @Setter
+    public static class Fallback {
+        private boolean enabled = true;
+        private Duration remoteDeadline = Duration.ofMillis(800); // 이 시간 안에 원격 응답이 없으면 폴백 응답
+        private Duration trainingWindow = Duration.ofDays(180);
+        private int maxTrainingRows = 200_000;
+        private int minSamples = 50; // 학습 데이터가 이보다 적으면 모델을 교체하지 않음
+    }
+
+    public enum ClientMode {
+        BLOCKING, ASYNC
+    }
+}
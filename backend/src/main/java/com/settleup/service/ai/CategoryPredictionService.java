@@ -0,0 +1,202 @@
+package com.settleup.service.ai;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.settleup.dto.AiCategoryDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 카테고리 예측 (분류 요청 코얼레서 앞단 캐시)
+ * 정규화한 설명 → 예측 결과, 분류 서비스가 처음 보는 모델 버전을 보고하면 전체 무효화 (이전 버전 응답은 버림)
+ * 원격 분류가 실패·차단되거나 remote-deadline 안에 응답하지 않으면 폴백 분류기 결과 반환 (캐시하지 않음)
+ */
+@Slf4j
+@Service
+public class CategoryPredictionService {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final ClassifierRequestCoalescer coalescer;
+    private final FallbackCategoryClassifier fallbackClassifier;
+    private final long remoteDeadlineMillis;
+    private final boolean cacheEnabled;
+    private final Cache<String, CachedPrediction> cache;
+
+    // 현재 분류 모델 버전 (처음 관측한 버전으로만 전환)
+    private volatile String modelVersion;
+
+    // 지금까지 관측한 모델 버전 - 무효화 이후 늦게 도착한 이전 버전 응답을 새 버전으로 오인하지 않도록 유지
+    private final Set<String> seenVersions = new HashSet<>();
+
+    public CategoryPredictionService(ClassifierRequestCoalescer coalescer,
+                                     FallbackCategoryClassifier fallbackClassifier,
+                                     AiClassifierProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.coalescer = coalescer;
+        this.fallbackClassifier = fallbackClassifier;
+        this.remoteDeadlineMillis = properties.getFallback().getRemoteDeadline().toMillis();
+        this.cacheEnabled = properties.getCache().isEnabled();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(properties.getCache().getMaxSize())
+                .expireAfterWrite(properties.getCache().getTtl())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "ai.prediction");
+    }
+
+    public AiCategoryDto.PredictResponse predict(String description) {
+        return predictAsync(description).join();
+    }
+
+    /**
+     * 캐시 적중 시 즉시 완료, 미스 시 분류 서비스 호출 후 저장 (실패 시 null, 캐시하지 않음)
+     */
+    public CompletableFuture<AiCategoryDto.PredictResponse> predictAsync(String description) {
+        String key = normalize(description);
+        AiCategoryDto.PredictResponse cached = lookup(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        CompletableFuture<AiCategoryDto.PredictResponse> remote = coalescer.predictAsync(description)
+                .thenApply(result -> toResponse(key, description, result));
+        if (!fallbackClassifier.isEnabled()) {
+            return remote;
+        }
+        // 기한 초과 시 복사본만 먼저 완료 - 원격 응답은 늦게 와도 캐시에 저장
+        return remote.copy()
+                .completeOnTimeout(null, remoteDeadlineMillis, TimeUnit.MILLISECONDS)
+                .thenApply(response -> response != null ? response : fallbackClassifier.predict(description));
+    }
+
+    /**
+     * 다건 예측 - 캐시 미스 항목만 모아 한 번에 분류, 결과는 입력 순서
+     * 원격 실패 항목은 폴백 분류기로 채우고, 그래도 없으면 category/confidence null
+     */
+    public CompletableFuture<AiCategoryDto.BatchPredictResponse> predictAllAsync(List<String> descriptions) {
+        List<AiCategoryDto.PredictResponse> predictions = new ArrayList<>(descriptions.size());
+        List<Integer> missIndexes = new ArrayList<>();
+        List<String> missDescriptions = new ArrayList<>();
+        for (String description : descriptions) {
+            AiCategoryDto.PredictResponse cached = lookup(normalize(description));
+            if (cached == null) {
+                missIndexes.add(predictions.size());
+                missDescriptions.add(description);
+            }
+            predictions.add(cached);
+        }
+
+        CompletableFuture<List<AiCategoryDto.ClassifierResponse>> misses = missDescriptions.isEmpty()
+                ? CompletableFuture.completedFuture(List.of())
+                : coalescer.predictAllAsync(missDescriptions);
+        return misses.thenApply(results -> {
+            for (int i = 0; i < missIndexes.size(); i++) {
+                String description = missDescriptions.get(i);
+                AiCategoryDto.PredictResponse response = toResponse(normalize(description), description, results.get(i));
+                if (response == null) {
+                    response = fallbackClassifier.predict(description);
+                }
+                predictions.set(missIndexes.get(i), response != null
+                        ? response
+                        : AiCategoryDto.PredictResponse.builder().build());
+            }
+            return AiCategoryDto.BatchPredictResponse.builder()
+                    .predictions(predictions)
+                    .build();
+        });
+    }
+
+    public AiCategoryDto.CacheStatsResponse stats() {
+        CacheStats stats = cache.stats();
+        return AiCategoryDto.CacheStatsResponse.builder()
+                .modelVersion(modelVersion)
+                .size(cache.estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRatio(stats.hitRate())
+                .build();
+    }
+
+    /**
+     * 캐시 키 정규화: 유니코드 NFKC(한글 자모 조합·전각 문자 통일) → 소문자 → 공백 정리
+     */
+    static String normalize(String description) {
+        if (description == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(description, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        return WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+    }
+
+    private AiCategoryDto.PredictResponse lookup(String key) {
+        if (!cacheEnabled) {
+            return null;
+        }
+        CachedPrediction cached = cache.getIfPresent(key);
+        return cached != null ? cached.toResponse() : null;
+    }
+
+    private AiCategoryDto.PredictResponse toResponse(String key, String description,
+                                                     AiCategoryDto.ClassifierResponse result) {
+        if (result == null) {
+            return null;
+        }
+        fallbackClassifier.recordAgreement(description, result.getCategory());
+        if (cacheEnabled) {
+            store(key, new CachedPrediction(result.getCategory(), result.getConfidence(), result.getModelVersion()));
+        }
+        return AiCategoryDto.PredictResponse.builder()
+                .category(result.getCategory())
+                .confidence(result.getConfidence())
+                .build();
+    }
+
+    private void store(String key, CachedPrediction prediction) {
+        String version = prediction.modelVersion();
+        if (version != null && !version.equals(modelVersion)) {
+            synchronized (this) {
+                if (!version.equals(modelVersion)) {
+                    if (!seenVersions.add(version)) {
+                        // 이미 지나간 버전의 늦은 응답 - 버전을 되돌리거나 캐시를 비우지 않고 버림
+                        return;
+                    }
+                    if (modelVersion != null) {
+                        log.info("분류 모델 버전 변경: {} -> {}, 예측 캐시 전체 무효화", modelVersion, version);
+                        cache.invalidateAll();
+                    }
+                    modelVersion = version;
+                }
+            }
+        }
+        // 이전 모델 응답이 무효화 이후 늦게 도착한 경우는 저장하지 않음
+        if (Objects.equals(version, modelVersion)) {
+            cache.put(key, prediction);
+        }
+    }
+
+    private record CachedPrediction(String category, Double confidence, String modelVersion) {
+
+        AiCategoryDto.PredictResponse toResponse() {
+            return AiCategoryDto.PredictResponse.builder()
+                    .category(category)
+                    .confidence(confidence)
+                    .cached(true)
+                    .build();
+        }
+    }
+}
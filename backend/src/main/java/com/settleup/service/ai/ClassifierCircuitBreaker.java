@@ -0,0 +1,168 @@
+package com.settleup.service.ai;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.function.LongSupplier;
+
+/**
+ * AI 분류 서비스 서킷 브레이커 (최근 window-size 건 기준)
+ * 실패율 또는 느린 호출 비율이 임계치를 넘으면 OPEN → wait-in-open 동안 즉시 거절
+ * → HALF_OPEN 에서 probe 호출 허용, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ */
+@Slf4j
+public class ClassifierCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final double slowCallRateThreshold;
+    private final long slowCallNanos;
+    private final long waitInOpenNanos;
+    private final int halfOpenProbes;
+    private final LongSupplier nanoClock;
+
+    // 원형 버퍼 - 호출 결과 (0: 정상, 1: 실패, 2: 느림)
+    private final byte[] outcomes;
+    private int position;
+    private int buffered;
+    private int failures;
+    private int slowCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesStarted;
+    private int probesSucceeded;
+
+    public ClassifierCircuitBreaker(AiClassifierProperties.CircuitBreaker config) {
+        this(config, System::nanoTime);
+    }
+
+    ClassifierCircuitBreaker(AiClassifierProperties.CircuitBreaker config, LongSupplier nanoClock) {
+        this.windowSize = config.getWindowSize();
+        this.minimumCalls = config.getMinimumCalls();
+        this.failureRateThreshold = config.getFailureRateThreshold();
+        this.slowCallRateThreshold = config.getSlowCallRateThreshold();
+        this.slowCallNanos = config.getSlowCallDuration().toNanos();
+        this.waitInOpenNanos = config.getWaitInOpen().toNanos();
+        this.halfOpenProbes = config.getHalfOpenProbes();
+        this.nanoClock = nanoClock;
+        this.outcomes = new byte[windowSize];
+    }
+
+    /**
+     * 호출 허용 여부 - 허용된 호출은 반드시 onSuccess/onFailure/onIgnored 로 결과를 보고해야 함
+     */
+    public synchronized boolean tryAcquirePermission() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < waitInOpenNanos) {
+                return false;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (probesStarted >= halfOpenProbes) {
+                return false;
+            }
+            probesStarted++;
+        }
+        return true;
+    }
+
+    public synchronized void onSuccess(long durationNanos) {
+        boolean slow = durationNanos >= slowCallNanos;
+        if (state == State.HALF_OPEN) {
+            if (slow) {
+                transitionTo(State.OPEN);
+            } else if (++probesSucceeded >= halfOpenProbes) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+        if (state == State.CLOSED) {
+            record(slow ? (byte) 2 : (byte) 0);
+        }
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            transitionTo(State.OPEN);
+            return;
+        }
+        if (state == State.CLOSED) {
+            record((byte) 1);
+        }
+    }
+
+    /**
+     * 서비스 상태와 무관한 결과 (4xx, 응답 파싱 실패) - 집계하지 않고 허가만 반환
+     * HALF_OPEN probe 였다면 다른 호출이 probe 를 이어받을 수 있도록 슬롯 반환
+     */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && probesStarted > 0) {
+            probesStarted--;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    public synchronized double getFailureRate() {
+        return buffered == 0 ? 0 : (double) failures / buffered;
+    }
+
+    public synchronized double getSlowCallRate() {
+        return buffered == 0 ? 0 : (double) slowCalls / buffered;
+    }
+
+    public synchronized int getBufferedCalls() {
+        return buffered;
+    }
+
+    private void record(byte outcome) {
+        if (buffered == windowSize) {
+            byte evicted = outcomes[position];
+            if (evicted == 1) {
+                failures--;
+            } else if (evicted == 2) {
+                slowCalls--;
+            }
+        } else {
+            buffered++;
+        }
+        outcomes[position] = outcome;
+        position = (position + 1) % windowSize;
+        if (outcome == 1) {
+            failures++;
+        } else if (outcome == 2) {
+            slowCalls++;
+        }
+
+        if (buffered >= minimumCalls
+                && (getFailureRate() >= failureRateThreshold || getSlowCallRate() >= slowCallRateThreshold)) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private void transitionTo(State next) {
+        log.warn("AI 분류 서킷 브레이커 상태 변경: {} -> {} (failureRate={}, slowCallRate={})",
+                state, next, getFailureRate(), getSlowCallRate());
+        state = next;
+        probesStarted = 0;
+        probesSucceeded = 0;
+        if (next == State.OPEN) {
+            openedAt = nanoClock.getAsLong();
+        }
+        if (next == State.CLOSED) {
+            // CLOSED 복귀 시 빈 window 에서 다시 집계 (OPEN 동안은 차단 직전 비율 유지)
+            position = 0;
+            buffered = 0;
+            failures = 0;
+            slowCalls = 0;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.settleup.service.ai;
+
+import com.settleup.dto.AiCategoryDto;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 분류 요청 코얼레서 (AiClassifierClient 앞단)
+ * 동시에 들어온 단건 예측을 max-size 건 또는 max-wait 동안 모아 배치 호출 1회로 보내고 결과를 호출자별로 돌려줌
+ * 배치 비활성화 시 단건 호출로 그대로 위임
+ */
+@Slf4j
+@Component
+public class ClassifierRequestCoalescer {
+
+    private final AiClassifierClient aiClassifierClient;
+    private final boolean batchEnabled;
+    private final int maxBatchSize;
+    private final long maxWaitNanos;
+    private final DistributionSummary batchSize;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "ai-classifier-coalescer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Object lock = new Object();
+    private List<Pending> buffer = new ArrayList<>();
+    // 버퍼 세대 - 크기 초과로 먼저 전송된 버퍼의 지연 flush 가 다음 버퍼를 조기 전송하지 않도록 구분
+    private long generation;
+
+    public ClassifierRequestCoalescer(AiClassifierClient aiClassifierClient,
+                                      AiClassifierProperties properties,
+                                      MeterRegistry meterRegistry) {
+        this.aiClassifierClient = aiClassifierClient;
+        this.batchEnabled = properties.getBatch().isEnabled()
+                && properties.getMode() == AiClassifierProperties.ClientMode.ASYNC;
+        this.maxBatchSize = properties.getBatch().getMaxSize();
+        this.maxWaitNanos = properties.getBatch().getMaxWait().toNanos();
+        this.batchSize = DistributionSummary.builder("settleup.ai.classifier.batch.size")
+                .description("Descriptions per classifier batch call")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 단건 예측 - 실패 시 null 로 완료
+     */
+    public CompletableFuture<AiCategoryDto.ClassifierResponse> predictAsync(String description) {
+        if (!batchEnabled) {
+            return aiClassifierClient.predictCategoryAsync(description);
+        }
+
+        Pending pending = new Pending(description, new CompletableFuture<>());
+        List<Pending> full = null;
+        synchronized (lock) {
+            buffer.add(pending);
+            if (buffer.size() >= maxBatchSize) {
+                full = drain();
+            } else if (buffer.size() == 1) {
+                long scheduledGeneration = generation;
+                scheduler.schedule(() -> flush(scheduledGeneration), maxWaitNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        if (full != null) {
+            dispatch(full);
+        }
+        return pending.future();
+    }
+
+    /**
+     * 다건 예측 (이미 모인 목록) - 대기 없이 max-size 단위로 나눠 호출, 결과는 입력 순서
+     */
+    public CompletableFuture<List<AiCategoryDto.ClassifierResponse>> predictAllAsync(List<String> descriptions) {
+        List<CompletableFuture<AiCategoryDto.ClassifierResponse>> futures = new ArrayList<>(descriptions.size());
+        if (!batchEnabled) {
+            descriptions.forEach(d -> futures.add(aiClassifierClient.predictCategoryAsync(d)));
+        } else {
+            List<Pending> chunk = new ArrayList<>(maxBatchSize);
+            for (String description : descriptions) {
+                Pending pending = new Pending(description, new CompletableFuture<>());
+                futures.add(pending.future());
+                chunk.add(pending);
+                if (chunk.size() == maxBatchSize) {
+                    dispatch(chunk);
+                    chunk = new ArrayList<>(maxBatchSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                dispatch(chunk);
+            }
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new))
+                .thenApply(v -> futures.stream().map(CompletableFuture::join).toList());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        List<Pending> remaining;
+        synchronized (lock) {
+            remaining = drain();
+        }
+        if (!remaining.isEmpty()) {
+            dispatch(remaining);
+        }
+        scheduler.shutdown();
+    }
+
+    private void flush(long scheduledGeneration) {
+        List<Pending> batch;
+        synchronized (lock) {
+            if (scheduledGeneration != generation || buffer.isEmpty()) {
+                return;
+            }
+            batch = drain();
+        }
+        dispatch(batch);
+    }
+
+    // lock 보유 상태에서 호출
+    private List<Pending> drain() {
+        List<Pending> drained = buffer;
+        buffer = new ArrayList<>(maxBatchSize);
+        generation++;
+        return drained;
+    }
+
+    /**
+     * 같은 설명은 한 번만 보내고 결과를 대기 중인 호출자 모두에게 전달
+     */
+    private void dispatch(List<Pending> batch) {
+        Map<String, List<CompletableFuture<AiCategoryDto.ClassifierResponse>>> waiters = new LinkedHashMap<>();
+        for (Pending pending : batch) {
+            waiters.computeIfAbsent(pending.description(), k -> new ArrayList<>()).add(pending.future());
+        }
+        List<String> descriptions = List.copyOf(waiters.keySet());
+        batchSize.record(descriptions.size());
+
+        aiClassifierClient.predictBatchAsync(descriptions).whenComplete((results, e) -> {
+            if (e != null) {
+                log.warn("AI 분류 배치 처리 실패: {}", e.getMessage());
+            }
+            for (int i = 0; i < descriptions.size(); i++) {
+                AiCategoryDto.ClassifierResponse result = (e == null && results != null) ? results.get(i) : null;
+                waiters.get(descriptions.get(i)).forEach(f -> f.complete(result));
+            }
+        });
+    }
+
+    private record Pending(String description, CompletableFuture<AiCategoryDto.ClassifierResponse> future) {
+    }
+}
@@ -0,0 +1,296 @@
+package com.settleup.service.ai;
+
+import com.settleup.dto.AiCategoryDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 미분류 지출 AI 자동 분류 배치
+ * category, category_ai 가 모두 비어 있는 지출을 id keyset 으로 chunk-size 건씩 읽어 배치 분류 후 category_ai 일괄 갱신
+ * 분류는 CategoryPredictionService 를 거쳐 정규화 키 캐시를 공유, 폴백 분류기 결과는 기록하지 않음
+ * 분류를 시도한 지출은 category_ai_attempted_at 을 남겨 retry-after 동안 (설명이 바뀌지 않는 한) 다시 보내지 않음
+ * 처리 위치는 batch_job_cursors 에 chunk 마다 저장해 재시작 시 이어서 진행, 끝까지 돌면 처음부터 다시 순회
+ * 분류 서비스가 응답하지 않으면 위치를 옮기지 않고 이번 실행 종료
+ * 처리 속도 제한 대기로 수 분간 실행될 수 있으므로 공용 스케줄러 스레드가 아닌 전용 스레드에서 수행
+ */
+@Slf4j
+@Component
+public class ExpenseAutoCategorizationJob {
+
+    static final String JOB_NAME = "expense-auto-categorization";
+
+    // keyset 시작 위치 (모든 UUID 보다 작거나 같은 nil UUID)
+    private static final UUID START = new UUID(0L, 0L);
+
+    private static final String SELECT_CHUNK_SQL = """
+            SELECT id, description FROM expenses
+            WHERE category IS NULL AND category_ai IS NULL
+              AND id > :afterId
+              AND (category_ai_attempted_at IS NULL OR category_ai_attempted_at < :retryBefore)
+            ORDER BY id
+            LIMIT :limit
+            """;
+
+    // 사용자가 그 사이 카테고리를 지정했으면 덮어쓰지 않음
+    // version 은 올리지 않음 - 사용자 수정과 낙관적 락 충돌을 만들지 않기 위해 (덮어써지면 다음 순회에서 다시 채움)
+    private static final String UPDATE_CATEGORY_SQL = """
+            UPDATE expenses SET category_ai = :category, category_ai_attempted_at = NOW(), updated_at = NOW()
+            WHERE id = :id AND category IS NULL AND category_ai IS NULL
+            """;
+
+    // 신뢰도 미달 - 시도 시각만 기록 (사용자에게 보이는 변경이 아니므로 updated_at 유지)
+    private static final String MARK_ATTEMPTED_SQL = """
+            UPDATE expenses SET category_ai_attempted_at = NOW()
+            WHERE id = :id AND category IS NULL AND category_ai IS NULL
+            """;
+
+    private static final String SELECT_CURSOR_SQL = "SELECT last_id FROM batch_job_cursors WHERE job_name = :jobName";
+
+    private static final String SAVE_CURSOR_SQL = """
+            INSERT INTO batch_job_cursors (job_name, last_id, updated_at)
+            VALUES (:jobName, :lastId, NOW())
+            ON CONFLICT (job_name) DO UPDATE SET last_id = EXCLUDED.last_id, updated_at = NOW()
+            """;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final CategoryPredictionService categoryPredictionService;
+    private final Counter categorizedCounter;
+    private final Counter skippedCounter;
+    private final Timer durationTimer;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "expense-auto-categorization");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Value("${ai.auto-categorization.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ai.classifier.enabled:true}")
+    private boolean classifierEnabled;
+
+    @Value("${ai.auto-categorization.chunk-size:32}")
+    private int chunkSize;
+
+    @Value("${ai.auto-categorization.max-chunks-per-run:100}")
+    private int maxChunksPerRun;
+
+    @Value("${ai.auto-categorization.max-rate-per-second:20}")
+    private double maxRatePerSecond;
+
+    @Value("${ai.auto-categorization.min-confidence:0.5}")
+    private double minConfidence;
+
+    @Value("${ai.auto-categorization.retry-after:7d}")
+    private Duration retryAfter;
+
+    public ExpenseAutoCategorizationJob(NamedParameterJdbcTemplate jdbcTemplate,
+                                        CategoryPredictionService categoryPredictionService,
+                                        MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.categoryPredictionService = categoryPredictionService;
+        this.categorizedCounter = Counter.builder("settleup.expenses.auto_categorized")
+                .description("AI 자동 분류로 category_ai 가 채워진 지출 수")
+                .register(meterRegistry);
+        this.skippedCounter = Counter.builder("settleup.expenses.auto_categorization.skipped")
+                .description("신뢰도 미달 또는 분류 실패로 건너뛴 지출 수")
+                .register(meterRegistry);
+        this.durationTimer = Timer.builder("settleup.expenses.auto_categorization.duration")
+                .description("AI 자동 분류 배치 수행 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 스케줄러 스레드는 전용 스레드에 실행을 넘기고 바로 반환
+     */
+    @Scheduled(cron = "${ai.auto-categorization.cron:0 */10 * * * *}")
+    public void categorize() {
+        if (!enabled || !classifierEnabled) {
+            return;
+        }
+        // 이전 실행이 길어져 겹치는 경우 건너뜀
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            executor.execute(this::run);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            running.set(false);
+        }
+    }
+
+    private void run() {
+        try {
+            durationTimer.record(this::categorizeInChunks);
+        } catch (RuntimeException e) {
+            log.error("지출 자동 분류 실패", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * 속도 제한 대기 중이면 인터럽트해 현재 chunk 까지만 처리하고 종료 (위치는 chunk 마다 저장됨)
+     */
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * @return 이번 실행에서 category_ai 를 채운 건수
+     */
+    int categorizeInChunks() {
+        UUID cursor = loadCursor();
+        if (cursor == null) {
+            cursor = START;
+        }
+        LocalDateTime retryBefore = LocalDateTime.now().minus(retryAfter);
+        long startedAt = System.nanoTime();
+        int scanned = 0;
+        int total = 0;
+        int chunks = 0;
+
+        while (chunks < maxChunksPerRun) {
+            List<UncategorizedExpense> chunk = jdbcTemplate.query(SELECT_CHUNK_SQL,
+                    new MapSqlParameterSource()
+                            .addValue("afterId", cursor, Types.OTHER)
+                            .addValue("retryBefore", retryBefore)
+                            .addValue("limit", chunkSize),
+                    (rs, rowNum) -> new UncategorizedExpense(rs.getObject("id", UUID.class), rs.getString("description")));
+            if (chunk.isEmpty()) {
+                saveCursor(null);
+                break;
+            }
+
+            List<AiCategoryDto.PredictResponse> results = categoryPredictionService.predictAllAsync(
+                    chunk.stream().map(UncategorizedExpense::description).toList()).join().getPredictions();
+            if (results.stream().noneMatch(ExpenseAutoCategorizationJob::classified)) {
+                // 분류 서비스 불가 - 위치 유지하고 다음 실행에서 재시도
+                log.warn("지출 자동 분류 중단: AI 분류 서비스 사용 불가");
+                break;
+            }
+
+            total += applyCategories(chunk, results);
+            chunks++;
+            scanned += chunk.size();
+            cursor = chunk.get(chunk.size() - 1).id();
+            if (chunk.size() < chunkSize) {
+                // 끝까지 순회 - 다음 실행은 처음부터 (이번에 건너뛴 지출 재시도)
+                saveCursor(null);
+                break;
+            }
+            saveCursor(cursor);
+            if (!throttle(startedAt, scanned)) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("지출 자동 분류 완료: categorized={}, scanned={}, chunks={}",
+                    total, scanned, chunks);
+        }
+        return total;
+    }
+
+    private int applyCategories(List<UncategorizedExpense> chunk, List<AiCategoryDto.PredictResponse> results) {
+        List<SqlParameterSource> updates = new ArrayList<>(chunk.size());
+        List<SqlParameterSource> attempts = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            AiCategoryDto.PredictResponse result = results.get(i);
+            MapSqlParameterSource params = new MapSqlParameterSource().addValue("id", chunk.get(i).id(), Types.OTHER);
+            if (!classified(result)) {
+                // 원격 분류 실패 (폴백 결과 포함) - 시도로 남기지 않고 다음 순회에서 재시도
+                skippedCounter.increment();
+            } else if (result.getConfidence() == null || result.getConfidence() < minConfidence) {
+                skippedCounter.increment();
+                attempts.add(params);
+            } else {
+                updates.add(params.addValue("category", result.getCategory()));
+            }
+        }
+        if (!attempts.isEmpty()) {
+            jdbcTemplate.batchUpdate(MARK_ATTEMPTED_SQL, attempts.toArray(SqlParameterSource[]::new));
+        }
+        if (updates.isEmpty()) {
+            return 0;
+        }
+
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_CATEGORY_SQL, updates.toArray(SqlParameterSource[]::new));
+        int updated = 0;
+        for (int count : counts) {
+            // 드라이버가 건수를 모르면 SUCCESS_NO_INFO(-2) 반환 - 성공으로 간주
+            updated += count > 0 || count == Statement.SUCCESS_NO_INFO ? 1 : 0;
+        }
+        categorizedCounter.increment(updated);
+        return updated;
+    }
+
+    /**
+     * 원격 분류 서비스(또는 그 캐시)가 답한 결과인지 - 폴백 분류기 결과와 분류 실패는 제외
+     */
+    private static boolean classified(AiCategoryDto.PredictResponse result) {
+        return result != null && !result.isFallback() && result.getCategory() != null;
+    }
+
+    /**
+     * 처리 속도가 max-rate-per-second 를 넘지 않도록 대기
+     *
+     * @return 인터럽트(종료)되면 false
+     */
+    private boolean throttle(long startedAt, int scanned) {
+        long minElapsedNanos = (long) (scanned / maxRatePerSecond * TimeUnit.SECONDS.toNanos(1));
+        long waitNanos = minElapsedNanos - (System.nanoTime() - startedAt);
+        if (waitNanos <= 0) {
+            return true;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private UUID loadCursor() {
+        List<UUID> cursors = jdbcTemplate.query(SELECT_CURSOR_SQL,
+                new MapSqlParameterSource("jobName", JOB_NAME),
+                (rs, rowNum) -> rs.getObject("last_id", UUID.class));
+        return cursors.isEmpty() ? null : cursors.get(0);
+    }
+
+    private void saveCursor(UUID lastId) {
+        jdbcTemplate.update(SAVE_CURSOR_SQL, new MapSqlParameterSource()
+                .addValue("jobName", JOB_NAME)
+                .addValue("lastId", lastId, Types.OTHER));
+    }
+
+    private record UncategorizedExpense(UUID id, String description) {
+    }
+}
@@ -0,0 +1,90 @@
+package com.settleup.service.ai;
+
+import com.settleup.dto.AiCategoryDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+/**
+ * JVM 내 폴백 카테고리 분류기 (네트워크 호출 없음)
+ * 주기적으로 학습한 NaiveBayesCategoryModel 을 통째로 교체하며, 원격 예측과의 일치율을 집계
+ */
+@Component
+public class FallbackCategoryClassifier {
+
+    private final boolean enabled;
+    private final Counter agreed;
+    private final Counter disagreed;
+
+    private volatile NaiveBayesCategoryModel model;
+
+    public FallbackCategoryClassifier(AiClassifierProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.getFallback().isEnabled();
+        this.agreed = Counter.builder("settleup.ai.fallback.agreement")
+                .description("원격 예측과 폴백 예측 비교 결과")
+                .tag("result", "agree")
+                .register(meterRegistry);
+        this.disagreed = Counter.builder("settleup.ai.fallback.agreement")
+                .description("원격 예측과 폴백 예측 비교 결과")
+                .tag("result", "disagree")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void replaceModel(NaiveBayesCategoryModel model) {
+        this.model = model;
+    }
+
+    /**
+     * @return 비활성화, 미학습, 알 수 없는 설명이면 null
+     */
+    public AiCategoryDto.PredictResponse predict(String description) {
+        NaiveBayesCategoryModel current = model;
+        if (!enabled || current == null) {
+            return null;
+        }
+        NaiveBayesCategoryModel.Prediction prediction = current.predict(description);
+        if (prediction == null) {
+            return null;
+        }
+        return AiCategoryDto.PredictResponse.builder()
+                .category(prediction.category())
+                .confidence(prediction.confidence())
+                .fallback(true)
+                .build();
+    }
+
+    /**
+     * 원격 분류 결과와 폴백 예측 비교 (폴백 모델 품질 지표)
+     */
+    public void recordAgreement(String description, String remoteCategory) {
+        NaiveBayesCategoryModel current = model;
+        if (!enabled || current == null || remoteCategory == null) {
+            return;
+        }
+        NaiveBayesCategoryModel.Prediction prediction = current.predict(description);
+        if (prediction != null && remoteCategory.equals(prediction.category())) {
+            agreed.increment();
+        } else {
+            disagreed.increment();
+        }
+    }
+
+    public AiCategoryDto.FallbackStatsResponse stats() {
+        NaiveBayesCategoryModel current = model;
+        long agreedCount = (long) agreed.count();
+        long comparedCount = agreedCount + (long) disagreed.count();
+        return AiCategoryDto.FallbackStatsResponse.builder()
+                .trained(current != null)
+                .trainedAt(current != null ? current.getTrainedAt() : null)
+                .sampleCount(current != null ? current.getSampleCount() : 0)
+                .categoryCount(current != null ? current.getCategories().size() : 0)
+                .vocabularySize(current != null ? current.getVocabularySize() : 0)
+                .comparedCount(comparedCount)
+                .agreementRate(comparedCount == 0 ? 0 : (double) agreedCount / comparedCount)
+                .build();
+    }
+}
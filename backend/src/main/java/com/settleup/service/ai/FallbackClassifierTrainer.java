@@ -0,0 +1,91 @@
+package com.settleup.service.ai;
+
+import com.settleup.repository.PredictionLogRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+/**
+ * 폴백 분류기 주기 학습 배치
+ * prediction_logs 최근 training-window 범위를 커서로 스트리밍하며 누적 (전체를 메모리에 올리지 않음)
+ */
+@Slf4j
+@Component
+public class FallbackClassifierTrainer {
+
+    private final PredictionLogRepository predictionLogRepository;
+    private final FallbackCategoryClassifier fallbackClassifier;
+    private final AiClassifierProperties.Fallback config;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Timer durationTimer;
+
+    public FallbackClassifierTrainer(PredictionLogRepository predictionLogRepository,
+                                     FallbackCategoryClassifier fallbackClassifier,
+                                     AiClassifierProperties properties,
+                                     PlatformTransactionManager transactionManager,
+                                     MeterRegistry meterRegistry) {
+        this.predictionLogRepository = predictionLogRepository;
+        this.fallbackClassifier = fallbackClassifier;
+        this.config = properties.getFallback();
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.durationTimer = Timer.builder("settleup.ai.fallback.training.duration")
+                .description("폴백 분류기 학습 수행 시간")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void trainOnStartup() {
+        retrain();
+    }
+
+    @Scheduled(cron = "${ai.classifier.fallback.train-cron:0 20 * * * *}")
+    public void retrain() {
+        if (!config.isEnabled()) {
+            return;
+        }
+        try {
+            durationTimer.record(this::train);
+        } catch (RuntimeException e) {
+            // 학습 실패 시 기존 모델 유지
+            log.warn("폴백 분류기 학습 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return 교체된 모델, 학습 데이터가 min-samples 미만이면 null (기존 모델 유지)
+     */
+    NaiveBayesCategoryModel train() {
+        LocalDateTime since = LocalDateTime.now().minus(config.getTrainingWindow());
+        NaiveBayesCategoryModel.Trainer trainer = new NaiveBayesCategoryModel.Trainer();
+
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<PredictionLogRepository.TrainingSample> samples =
+                         predictionLogRepository.streamTrainingSamples(since)) {
+                samples.limit(config.getMaxTrainingRows())
+                        .forEach(sample -> trainer.add(sample.getDescription(), sample.getFinalCategory()));
+            }
+        });
+
+        if (trainer.getSampleCount() < config.getMinSamples()) {
+            log.info("폴백 분류기 학습 건너뜀 - 표본 부족: samples={}, minSamples={}",
+                    trainer.getSampleCount(), config.getMinSamples());
+            return null;
+        }
+
+        NaiveBayesCategoryModel model = trainer.build();
+        fallbackClassifier.replaceModel(model);
+        log.info("폴백 분류기 학습 완료: samples={}, categories={}, vocabulary={}",
+                model.getSampleCount(), model.getCategories().size(), model.getVocabularySize());
+        return model;
+    }
+}
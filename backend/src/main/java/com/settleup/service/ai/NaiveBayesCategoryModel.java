@@ -0,0 +1,165 @@
+package com.settleup.service.ai;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 문자 n-gram 다항 나이브 베이즈 카테고리 모델 (불변, 스레드 안전)
+ * 특징: 정규화한 설명의 문자 2·3-gram + 공백 기준 단어
+ */
+public class NaiveBayesCategoryModel {
+
+    private static final double SMOOTHING = 1.0;
+
+    private final List<String> categories;
+    private final double[] logPriors;
+    // 특징 → 카테고리별 log P(특징 | 카테고리)
+    private final Map<String, double[]> logLikelihoods;
+    private final int sampleCount;
+    private final LocalDateTime trainedAt;
+
+    private NaiveBayesCategoryModel(List<String> categories, double[] logPriors,
+                                    Map<String, double[]> logLikelihoods, int sampleCount) {
+        this.categories = categories;
+        this.logPriors = logPriors;
+        this.logLikelihoods = logLikelihoods;
+        this.sampleCount = sampleCount;
+        this.trainedAt = LocalDateTime.now();
+    }
+
+    public record Prediction(String category, double confidence) {
+    }
+
+    /**
+     * @return 알려진 특징이 하나도 없으면 null
+     */
+    public Prediction predict(String description) {
+        double[] scores = logPriors.clone();
+        boolean[] matched = {false};
+        forEachFeature(CategoryPredictionService.normalize(description), feature -> {
+            double[] likelihood = logLikelihoods.get(feature);
+            if (likelihood != null) {
+                matched[0] = true;
+                for (int c = 0; c < scores.length; c++) {
+                    scores[c] += likelihood[c];
+                }
+            }
+        });
+        if (!matched[0]) {
+            return null;
+        }
+
+        int best = 0;
+        for (int c = 1; c < scores.length; c++) {
+            if (scores[c] > scores[best]) {
+                best = c;
+            }
+        }
+        // softmax 로 최고 점수 카테고리의 확률 계산
+        double sum = 0;
+        for (double score : scores) {
+            sum += Math.exp(score - scores[best]);
+        }
+        return new Prediction(categories.get(best), 1.0 / sum);
+    }
+
+    public List<String> getCategories() {
+        return categories;
+    }
+
+    public int getSampleCount() {
+        return sampleCount;
+    }
+
+    public int getVocabularySize() {
+        return logLikelihoods.size();
+    }
+
+    public LocalDateTime getTrainedAt() {
+        return trainedAt;
+    }
+
+    static void forEachFeature(String normalized, Consumer<String> consumer) {
+        if (normalized.isEmpty()) {
+            return;
+        }
+        String padded = " " + normalized + " ";
+        for (int n = 2; n <= 3; n++) {
+            for (int i = 0; i + n <= padded.length(); i++) {
+                consumer.accept(padded.substring(i, i + n));
+            }
+        }
+        for (String word : normalized.split(" ")) {
+            consumer.accept("w:" + word);
+        }
+    }
+
+    /**
+     * 학습 데이터를 한 건씩 누적 (스트리밍 조회 결과를 그대로 전달)
+     */
+    public static class Trainer {
+
+        private final Map<String, Integer> categoryIndex = new LinkedHashMap<>();
+        private final Map<String, int[]> featureCounts = new HashMap<>();
+        private int[] documentCounts = new int[0];
+        private long[] featureTotals = new long[0];
+        private int sampleCount;
+
+        public void add(String description, String category) {
+            String normalized = CategoryPredictionService.normalize(description);
+            if (normalized.isEmpty() || category == null) {
+                return;
+            }
+            int c = categoryIndex.computeIfAbsent(category, k -> categoryIndex.size());
+            if (c >= documentCounts.length) {
+                documentCounts = Arrays.copyOf(documentCounts, c + 1);
+                featureTotals = Arrays.copyOf(featureTotals, c + 1);
+            }
+            documentCounts[c]++;
+            sampleCount++;
+            forEachFeature(normalized, feature -> {
+                int[] counts = featureCounts.computeIfAbsent(feature, k -> new int[categoryIndex.size()]);
+                if (counts.length <= c) {
+                    counts = Arrays.copyOf(counts, categoryIndex.size());
+                    featureCounts.put(feature, counts);
+                }
+                counts[c]++;
+                featureTotals[c]++;
+            });
+        }
+
+        public int getSampleCount() {
+            return sampleCount;
+        }
+
+        public NaiveBayesCategoryModel build() {
+            int categoryCount = categoryIndex.size();
+            int vocabularySize = featureCounts.size();
+
+            double[] logPriors = new double[categoryCount];
+            double[] logDenominators = new double[categoryCount];
+            for (int c = 0; c < categoryCount; c++) {
+                logPriors[c] = Math.log((double) documentCounts[c] / sampleCount);
+                logDenominators[c] = Math.log(featureTotals[c] + SMOOTHING * vocabularySize);
+            }
+
+            Map<String, double[]> logLikelihoods = new HashMap<>(vocabularySize * 2);
+            featureCounts.forEach((feature, counts) -> {
+                double[] likelihood = new double[categoryCount];
+                for (int c = 0; c < categoryCount; c++) {
+                    int count = c < counts.length ? counts[c] : 0;
+                    likelihood[c] = Math.log(count + SMOOTHING) - logDenominators[c];
+                }
+                logLikelihoods.put(feature, likelihood);
+            });
+
+            return new NaiveBayesCategoryModel(List.copyOf(categoryIndex.keySet()), logPriors,
+                    logLikelihoods, sampleCount);
+        }
+    }
+}
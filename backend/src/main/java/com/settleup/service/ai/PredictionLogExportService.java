@@ -0,0 +1,240 @@
+package com.settleup.service.ai;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.settleup.exception.BusinessException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 예측 로그 내보내기 (재학습 파이프라인용)
+ * prediction_logs 를 읽기 전용 트랜잭션 안에서 fetch-size 단위 서버 커서로 읽으며
+ * 한 행씩 gzip NDJSON 으로 바로 써서 행 수와 관계없이 메모리 사용량 일정
+ * 증분 모드는 소비자별 워터마크 (created_at, id) 이후 행만 내보내고, 끝까지 전송된 경우에만 워터마크 전진
+ */
+@Slf4j
+@Service
+public class PredictionLogExportService {
+
+    static final String WATERMARK_JOB_PREFIX = "prediction-log-export:";
+
+    private static final String SELECT_COLUMNS = """
+            SELECT id, description, predicted_category, predicted_confidence, final_category, source, created_at
+            FROM prediction_logs
+            WHERE created_at < :to
+            """;
+
+    private static final String SELECT_WATERMARK_SQL =
+            "SELECT last_created_at, last_id FROM batch_job_cursors WHERE job_name = :jobName";
+
+    private static final String SAVE_WATERMARK_SQL = """
+            INSERT INTO batch_job_cursors (job_name, last_id, last_created_at, updated_at)
+            VALUES (:jobName, :lastId, :lastCreatedAt, NOW())
+            ON CONFLICT (job_name) DO UPDATE
+                SET last_id = EXCLUDED.last_id, last_created_at = EXCLUDED.last_created_at, updated_at = NOW()
+            """;
+
+    private static final Pattern CONSUMER_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+    private final Duration watermarkLag;
+    private final Counter exportedCounter;
+
+    @Autowired
+    public PredictionLogExportService(DataSource dataSource,
+                                      PlatformTransactionManager transactionManager,
+                                      ObjectMapper objectMapper,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${ai.prediction-log.export.fetch-size:5000}") int fetchSize,
+                                      @Value("${ai.prediction-log.export.watermark-lag:5m}") Duration watermarkLag) {
+        this(exportJdbcTemplate(dataSource, fetchSize), readOnly(transactionManager), objectMapper,
+                meterRegistry, watermarkLag);
+    }
+
+    PredictionLogExportService(NamedParameterJdbcTemplate jdbcTemplate,
+                               TransactionTemplate readOnlyTransaction,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               Duration watermarkLag) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.objectMapper = objectMapper;
+        this.watermarkLag = watermarkLag;
+        this.exportedCounter = Counter.builder("settleup.prediction_logs.exported")
+                .description("내보낸 예측 로그 수")
+                .register(meterRegistry);
+    }
+
+    public record ExportRequest(LocalDateTime from, LocalDateTime to, String source,
+                                boolean incremental, String consumer) {
+    }
+
+    /**
+     * 요청 검증 - 응답 스트림을 열기 전에 호출해 잘못된 요청은 400 으로 응답
+     */
+    public void validate(ExportRequest request) {
+        if (request.from() != null && request.to() != null && !request.from().isBefore(request.to())) {
+            throw new BusinessException("내보내기 시작 시각은 종료 시각보다 이전이어야 합니다.");
+        }
+        if (request.incremental()
+                && (request.consumer() == null || !CONSUMER_PATTERN.matcher(request.consumer()).matches())) {
+            throw new BusinessException("증분 내보내기에는 consumer (영문, 숫자, -, _ 64자 이내) 가 필요합니다.");
+        }
+    }
+
+    /**
+     * gzip NDJSON 으로 스트리밍
+     *
+     * @return 내보낸 행 수
+     */
+    public long export(ExportRequest request, OutputStream out) throws IOException {
+        validate(request);
+        // 증분 모드는 아직 기록 중일 수 있는 최근 구간(watermark-lag)을 제외해 워터마크 이전 행 누락 방지
+        LocalDateTime to = request.to() != null ? request.to()
+                : request.incremental() ? LocalDateTime.now().minus(watermarkLag) : LocalDateTime.now();
+
+        StringBuilder sql = new StringBuilder(SELECT_COLUMNS);
+        MapSqlParameterSource params = new MapSqlParameterSource("to", to);
+        if (request.from() != null) {
+            sql.append(" AND created_at >= :from");
+            params.addValue("from", request.from());
+        }
+        if (request.source() != null && !request.source().isBlank()) {
+            sql.append(" AND source = :source");
+            params.addValue("source", request.source());
+        }
+        String jobName = request.incremental() ? WATERMARK_JOB_PREFIX + request.consumer() : null;
+        if (jobName != null) {
+            Watermark watermark = loadWatermark(jobName);
+            if (watermark != null) {
+                sql.append(" AND (created_at, id) > (:wmCreatedAt, :wmId)");
+                params.addValue("wmCreatedAt", watermark.createdAt());
+                params.addValue("wmId", watermark.id(), Types.OTHER);
+            }
+        }
+        sql.append(" ORDER BY created_at, id");
+
+        GZIPOutputStream gzip = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(gzip, JsonEncoding.UTF8);
+        // 한 줄에 객체 하나 (NDJSON)
+        generator.setRootValueSeparator(null);
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+        ExportProgress progress = new ExportProgress();
+        try {
+            readOnlyTransaction.executeWithoutResult(status ->
+                    jdbcTemplate.query(sql.toString(), params, (RowCallbackHandler) rs -> {
+                        UUID id = rs.getObject("id", UUID.class);
+                        LocalDateTime createdAt = rs.getObject("created_at", LocalDateTime.class);
+                        try {
+                            generator.writeStartObject();
+                            generator.writeStringField("id", id.toString());
+                            generator.writeStringField("description", rs.getString("description"));
+                            generator.writeStringField("predictedCategory", rs.getString("predicted_category"));
+                            double confidence = rs.getDouble("predicted_confidence");
+                            if (rs.wasNull()) {
+                                generator.writeNullField("predictedConfidence");
+                            } else {
+                                generator.writeNumberField("predictedConfidence", confidence);
+                            }
+                            generator.writeStringField("finalCategory", rs.getString("final_category"));
+                            generator.writeStringField("source", rs.getString("source"));
+                            generator.writeStringField("createdAt", createdAt.toString());
+                            generator.writeEndObject();
+                            generator.writeRaw('\n');
+                        } catch (IOException e) {
+                            // 클라이언트 연결 끊김 등 - 커서 조회 중단
+                            throw new UncheckedIOException(e);
+                        }
+                        progress.advance(createdAt, id);
+                    }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        generator.flush();
+        gzip.finish();
+        out.flush();
+
+        exportedCounter.increment(progress.count);
+        if (jobName != null && progress.count > 0) {
+            saveWatermark(jobName, progress.lastCreatedAt, progress.lastId);
+        }
+        log.info("예측 로그 내보내기 완료: rows={}, incremental={}, consumer={}",
+                progress.count, request.incremental(), request.consumer());
+        return progress.count;
+    }
+
+    private Watermark loadWatermark(String jobName) {
+        List<Watermark> rows = jdbcTemplate.query(SELECT_WATERMARK_SQL,
+                new MapSqlParameterSource("jobName", jobName),
+                (rs, rowNum) -> new Watermark(rs.getObject("last_created_at", LocalDateTime.class),
+                        rs.getObject("last_id", UUID.class)));
+        if (rows.isEmpty() || rows.get(0).createdAt() == null || rows.get(0).id() == null) {
+            return null;
+        }
+        return rows.get(0);
+    }
+
+    private void saveWatermark(String jobName, LocalDateTime createdAt, UUID id) {
+        jdbcTemplate.update(SAVE_WATERMARK_SQL, new MapSqlParameterSource()
+                .addValue("jobName", jobName)
+                .addValue("lastId", id, Types.OTHER)
+                .addValue("lastCreatedAt", createdAt));
+    }
+
+    private static NamedParameterJdbcTemplate exportJdbcTemplate(DataSource dataSource, int fetchSize) {
+        // 공용 JdbcTemplate 설정에 영향이 없도록 내보내기 전용 인스턴스에만 fetch-size 지정
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(fetchSize);
+        return new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    private static TransactionTemplate readOnly(PlatformTransactionManager transactionManager) {
+        // PostgreSQL 은 autocommit 이 꺼진 트랜잭션 안에서만 fetch-size 단위 커서 조회
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private record Watermark(LocalDateTime createdAt, UUID id) {
+    }
+
+    private static class ExportProgress {
+        private long count;
+        private LocalDateTime lastCreatedAt;
+        private UUID lastId;
+
+        void advance(LocalDateTime createdAt, UUID id) {
+            count++;
+            lastCreatedAt = createdAt;
+            lastId = id;
+        }
+    }
+}
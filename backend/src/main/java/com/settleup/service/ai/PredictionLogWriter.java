@@ -0,0 +1,254 @@
+package com.settleup.service.ai;
+
+import com.settleup.domain.prediction.PredictionLog;
+import com.settleup.repository.PredictionLogRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 예측 로그 비동기 버퍼 기록기
+ * 요청 스레드는 bounded 큐에 넣기만 하고, 백그라운드 스레드가 batch-size 건씩 JDBC 배치 INSERT
+ * 큐가 가득 차면 overflow-policy 에 따라 즉시 버리거나(DROP) offer-timeout 만큼 기다린 뒤 버림(BLOCK)
+ * 종료 시 남은 로그를 shutdown-timeout 안에서 모두 기록 (진행 중인 INSERT 를 인터럽트하지 않도록 종료 표식으로 깨움)
+ * 배치 INSERT 가 실패하면 건별로 다시 기록해 문제 행만 버림
+ */
+@Slf4j
+@Component
+public class PredictionLogWriter {
+
+    static final String INSERT_SQL = """
+            INSERT INTO prediction_logs
+                (description, predicted_category, predicted_confidence, final_category, source, user_id, created_at)
+            VALUES (:description, :predictedCategory, :predictedConfidence, :finalCategory, :source, :userId, :createdAt)
+            """;
+
+    // 종료 표식 - 큐 대기 중인 기록 스레드를 깨우는 용도, 기록하지 않음
+    private static final PredictionLog POISON = new PredictionLog();
+
+    public enum OverflowPolicy {
+        DROP, BLOCK
+    }
+
+    private final PredictionLogRepository predictionLogRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final boolean asyncEnabled;
+    private final BlockingQueue<PredictionLog> queue;
+    private final OverflowPolicy overflowPolicy;
+    private final Duration offerTimeout;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Duration shutdownTimeout;
+
+    private Counter written;
+    private Counter droppedQueueFull;
+    private Counter droppedWriteFailed;
+    private Counter droppedShutdown;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    public PredictionLogWriter(PredictionLogRepository predictionLogRepository,
+                               NamedParameterJdbcTemplate jdbcTemplate,
+                               MeterRegistry meterRegistry,
+                               @Value("${ai.prediction-log.async.enabled:true}") boolean asyncEnabled,
+                               @Value("${ai.prediction-log.async.queue-capacity:10000}") int queueCapacity,
+                               @Value("${ai.prediction-log.async.overflow-policy:DROP}") OverflowPolicy overflowPolicy,
+                               @Value("${ai.prediction-log.async.offer-timeout:20ms}") Duration offerTimeout,
+                               @Value("${ai.prediction-log.async.batch-size:500}") int batchSize,
+                               @Value("${ai.prediction-log.async.flush-interval:1s}") Duration flushInterval,
+                               @Value("${ai.prediction-log.async.shutdown-timeout:10s}") Duration shutdownTimeout) {
+        this.predictionLogRepository = predictionLogRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.meterRegistry = meterRegistry;
+        this.asyncEnabled = asyncEnabled;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.overflowPolicy = overflowPolicy;
+        this.offerTimeout = offerTimeout;
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+        this.shutdownTimeout = shutdownTimeout;
+    }
+
+    @PostConstruct
+    public void start() {
+        Gauge.builder("settleup.prediction_logs.queue.depth", queue, BlockingQueue::size)
+                .description("기록 대기 중인 예측 로그 수")
+                .register(meterRegistry);
+        written = Counter.builder("settleup.prediction_logs.written")
+                .description("배치로 기록된 예측 로그 수")
+                .register(meterRegistry);
+        droppedQueueFull = dropCounter("queue_full");
+        droppedWriteFailed = dropCounter("write_failed");
+        droppedShutdown = dropCounter("shutdown");
+
+        if (!asyncEnabled) {
+            return;
+        }
+        running = true;
+        writerThread = new Thread(this::drainLoop, "prediction-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * 예측 로그 기록 요청 - 진행 중인 트랜잭션이 있으면 커밋 이후에만 큐에 넣음 (롤백 시 기록하지 않음)
+     */
+    public void submit(PredictionLog predictionLog) {
+        if (predictionLog.getCreatedAt() == null) {
+            predictionLog.setCreatedAt(LocalDateTime.now());
+        }
+        if (!asyncEnabled) {
+            predictionLogRepository.save(predictionLog);
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(predictionLog);
+                }
+            });
+        } else {
+            enqueue(predictionLog);
+        }
+    }
+
+    int queueDepth() {
+        return queue.size();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!running) {
+            return;
+        }
+        running = false;
+        // 큐가 가득 차 있으면 표식을 못 넣지만, 기록 스레드가 바쁜 상태이므로 다음 poll 에서 running 으로 종료 감지
+        queue.offer(POISON);
+        try {
+            writerThread.join(shutdownTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        queue.remove(POISON);
+        if (writerThread.isAlive()) {
+            log.warn("예측 로그 기록 스레드가 {} 안에 종료되지 않음", shutdownTimeout);
+        }
+        if (!queue.isEmpty()) {
+            log.warn("예측 로그 기록 스레드 종료 - 미기록 로그 {}건", queue.size());
+        }
+    }
+
+    private void enqueue(PredictionLog predictionLog) {
+        if (!running) {
+            droppedShutdown.increment();
+            return;
+        }
+        boolean accepted = false;
+        if (overflowPolicy == OverflowPolicy.BLOCK) {
+            try {
+                accepted = queue.offer(predictionLog, offerTimeout.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        } else {
+            accepted = queue.offer(predictionLog);
+        }
+        if (!accepted) {
+            droppedQueueFull.increment();
+        }
+    }
+
+    private void drainLoop() {
+        List<PredictionLog> batch = new ArrayList<>(batchSize);
+        while (running) {
+            PredictionLog first;
+            try {
+                first = queue.poll(flushInterval.toNanos(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                break;
+            }
+            if (first == null || first == POISON) {
+                continue;
+            }
+            batch.add(first);
+            queue.drainTo(batch, batchSize - 1);
+            writeBatch(batch);
+        }
+
+        // 종료 시 남은 로그 flush
+        while (queue.drainTo(batch, batchSize) > 0) {
+            writeBatch(batch);
+        }
+    }
+
+    void writeBatch(List<PredictionLog> batch) {
+        batch.removeIf(predictionLog -> predictionLog == POISON);
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            SqlParameterSource[] params = batch.stream()
+                    .map(PredictionLogWriter::toParams)
+                    .toArray(SqlParameterSource[]::new);
+            jdbcTemplate.batchUpdate(INSERT_SQL, params);
+            written.increment(batch.size());
+        } catch (RuntimeException e) {
+            // 배치는 하나의 트랜잭션으로 롤백되므로 건별로 다시 기록 (삭제된 사용자 FK 등 문제 행만 버림)
+            log.warn("예측 로그 배치 INSERT 실패, 행 단위로 재시도: size={}, error={}", batch.size(), e.getMessage());
+            batch.forEach(this::writeOne);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    private void writeOne(PredictionLog predictionLog) {
+        try {
+            jdbcTemplate.update(INSERT_SQL, toParams(predictionLog));
+            written.increment();
+        } catch (RuntimeException e) {
+            // 분석용 데이터 - 더 재시도하지 않고 버림
+            droppedWriteFailed.increment();
+            log.warn("예측 로그 INSERT 실패: error={}", e.getMessage());
+        }
+    }
+
+    private Counter dropCounter(String reason) {
+        return Counter.builder("settleup.prediction_logs.dropped")
+                .description("기록하지 못하고 버린 예측 로그 수")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static SqlParameterSource toParams(PredictionLog predictionLog) {
+        return new MapSqlParameterSource()
+                .addValue("description", predictionLog.getDescription())
+                .addValue("predictedCategory", predictionLog.getPredictedCategory())
+                .addValue("predictedConfidence", predictionLog.getPredictedConfidence(), Types.DOUBLE)
+                .addValue("finalCategory", predictionLog.getFinalCategory())
+                .addValue("source", predictionLog.getSource())
+                .addValue("userId", predictionLog.getUserId(), Types.OTHER)
+                .addValue("createdAt", predictionLog.getCreatedAt());
+    }
+}
@@ -0,0 +1,41 @@
+package com.settleup.service.archive;
+
+import com.settleup.domain.expense.Expense;
+import com.settleup.domain.expense.ExpenseSplit;
+import com.settleup.domain.game.GameRound;
+import com.settleup.domain.game.GameRoundEntry;
+import com.settleup.domain.participant.Participant;
+import com.settleup.domain.settlement.SettlementResult;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 아카이브 번들에서 복원한 정산 하위 데이터 (비영속 엔티티)
+ * 기존 Response DTO 변환 로직을 그대로 재사용하기 위해 엔티티 형태로 제공
+ */
+@Getter
+@AllArgsConstructor
+public class ArchivedSettlement {
+
+    private final List<Participant> participants;
+    private final List<Expense> expenses;
+    private final Map<UUID, List<ExpenseSplit>> splitsByExpense;
+    private final List<GameRound> rounds;
+    private final List<GameRoundEntry> entries;
+    private final List<SettlementResult> results;
+
+    public List<ExpenseSplit> getSplits(UUID expenseId) {
+        return splitsByExpense.getOrDefault(expenseId, Collections.emptyList());
+    }
+
+    public List<Participant> getActiveParticipants() {
+        return participants.stream()
+                .filter(p -> Boolean.TRUE.equals(p.getIsActive()))
+                .toList();
+    }
+}
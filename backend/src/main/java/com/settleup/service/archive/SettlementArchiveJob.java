@@ -0,0 +1,63 @@
+package com.settleup.service.archive;
+
+import com.settleup.repository.SettlementRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 완료 정산 아카이브 배치
+ * 완료 후 일정 기간이 지난 정산을 콜드 스토리지로 이동 (정산 단위 트랜잭션)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SettlementArchiveJob {
+
+    private final SettlementRepository settlementRepository;
+    private final SettlementArchiveService settlementArchiveService;
+
+    @Value("${settlement.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${settlement.archive.completed-age-days:90}")
+    private int completedAgeDays;
+
+    @Value("${settlement.archive.max-per-run:200}")
+    private int maxPerRun;
+
+    @Scheduled(cron = "${settlement.archive.cron:0 30 3 * * *}")
+    public void archiveCompletedSettlements() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(completedAgeDays);
+        List<UUID> candidates = settlementRepository.findArchiveCandidateIds(cutoff, PageRequest.of(0, maxPerRun));
+        if (candidates.isEmpty()) {
+            return;
+        }
+
+        log.info("Archiving completed settlements: candidates={}, cutoff={}", candidates.size(), cutoff);
+
+        int archived = 0;
+        for (UUID settlementId : candidates) {
+            try {
+                if (settlementArchiveService.archive(settlementId)) {
+                    archived++;
+                }
+            } catch (Exception e) {
+                log.warn("정산 아카이브 실패: settlementId={}, error={}", settlementId, e.getMessage());
+            }
+        }
+
+        log.info("Settlement archive run finished: archived={}/{}", archived, candidates.size());
+    }
+}
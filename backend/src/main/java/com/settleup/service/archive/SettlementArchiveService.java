@@ -0,0 +1,436 @@
+package com.settleup.service.archive;
+
+import com.settleup.config.SecondLevelCacheEvictor;
+import com.settleup.domain.expense.Expense;
+import com.settleup.domain.expense.ExpenseSplit;
+import com.settleup.domain.game.GameRound;
+import com.settleup.domain.game.GameRoundEntry;
+import com.settleup.domain.participant.Participant;
+import com.settleup.domain.settlement.*;
+import com.settleup.domain.settlement.SettlementArchiveBundle.*;
+import com.settleup.exception.ResourceNotFoundException;
+import com.settleup.repository.*;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 완료 정산 콜드 스토리지 서비스
+ * - archive: 하위 데이터를 압축 번들 1행으로 옮기고 hot 테이블에서 배치 삭제
+ * - findArchived: 번들을 비영속 엔티티로 복원 (읽기 경로 투명 하이드레이션)
+ * - restore: 정산 재오픈 시 번들을 hot 테이블로 되돌림
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SettlementArchiveService {
+
+    private final SettlementRepository settlementRepository;
+    private final SettlementArchiveRepository archiveRepository;
+    private final ParticipantRepository participantRepository;
+    private final ExpenseRepository expenseRepository;
+    private final ExpenseSplitRepository expenseSplitRepository;
+    private final GameRoundRepository gameRoundRepository;
+    private final GameRoundEntryRepository gameRoundEntryRepository;
+    private final SettlementResultRepository settlementResultRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final SecondLevelCacheEvictor cacheEvictor;
+
+    private final SettlementResultDataConverter resultDataConverter = new SettlementResultDataConverter();
+
+    @Value("${settlement.archive.delete-batch-size:500}")
+    private int deleteBatchSize;
+
+    /**
+     * 정산 아카이브 (완료 상태이고 아직 보관되지 않은 경우에만)
+     *
+     * @return 아카이브 수행 여부
+     */
+    @Transactional
+    public boolean archive(UUID settlementId) {
+        Settlement settlement = settlementRepository.findById(settlementId)
+                .orElseThrow(() -> new ResourceNotFoundException("Settlement", "id", settlementId));
+
+        if (settlement.getStatus() != SettlementStatus.COMPLETED || settlement.isArchived()) {
+            log.debug("Skipping archive: settlementId={}, status={}, archivedAt={}",
+                    settlementId, settlement.getStatus(), settlement.getArchivedAt());
+            return false;
+        }
+
+        List<Participant> participants = participantRepository.findBySettlementId(settlementId);
+        List<Expense> expenses = expenseRepository.findBySettlementIdOrderByExpenseDateDesc(settlementId);
+        List<ExpenseSplit> splits = expenseSplitRepository.findBySettlementId(settlementId);
+        List<GameRound> rounds = gameRoundRepository.findBySettlementIdOrderByRoundNumberAsc(settlementId);
+        List<UUID> roundIds = rounds.stream().map(GameRound::getId).toList();
+        List<GameRoundEntry> entries = roundIds.isEmpty()
+                ? Collections.emptyList()
+                : gameRoundEntryRepository.findByRoundIdIn(roundIds);
+        List<SettlementResult> results = settlementResultRepository
+                .findBySettlementIdOrderByCalculatedAtDesc(settlementId);
+
+        SettlementArchiveBundle bundle = SettlementArchiveBundle.builder()
+                .settlementId(settlementId)
+                .participants(participants.stream().map(this::toRecord).toList())
+                .expenses(expenses.stream().map(this::toRecord).toList())
+                .splits(splits.stream().map(this::toRecord).toList())
+                .rounds(rounds.stream().map(this::toRecord).toList())
+                .entries(entries.stream().map(this::toRecord).toList())
+                .results(results.stream().map(this::toRecord).toList())
+                .build();
+
+        BigDecimal totalExpense = expenses.stream()
+                .map(Expense::getAmount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        int activeParticipantCount = (int) participants.stream()
+                .filter(p -> Boolean.TRUE.equals(p.getIsActive()))
+                .count();
+
+        archiveRepository.save(SettlementArchive.builder()
+                .settlementId(settlementId)
+                .formatVersion(SettlementArchiveBundle.FORMAT_VERSION)
+                .bundle(bundle)
+                .totalExpense(totalExpense)
+                .participantCount(activeParticipantCount)
+                .roundCount(rounds.size())
+                .build());
+
+        // 외래 키 순서대로 배치 삭제
+        int deleted = 0;
+        deleted += deleteInBatches("expense_splits", splits.stream().map(ExpenseSplit::getId).toList());
+        deleted += deleteInBatches("game_round_entries", entries.stream().map(GameRoundEntry::getId).toList());
+        deleted += deleteInBatches("expenses", expenses.stream().map(Expense::getId).toList());
+        deleted += deleteInBatches("game_rounds", roundIds);
+        deleted += deleteInBatches("settlement_results", results.stream().map(SettlementResult::getId).toList());
+        deleted += deleteInBatches("participants", participants.stream().map(Participant::getId).toList());
+        // JDBC 로 삭제한 참가자가 2차 캐시/참가자 목록 쿼리 캐시에 남지 않도록
+        cacheEvictor.evictAfterCommit(Participant.class, participants.stream().map(Participant::getId).toList());
+
+        settlement.setArchivedAt(LocalDateTime.now());
+
+        log.info("Settlement archived: id={}, participants={}, expenses={}, splits={}, rounds={}, entries={}, results={}, deletedRows={}",
+                settlementId, participants.size(), expenses.size(), splits.size(),
+                rounds.size(), entries.size(), results.size(), deleted);
+        return true;
+    }
+
+    /**
+     * 아카이브된 정산 데이터 조회 (번들 해제 후 비영속 엔티티로 복원)
+     */
+    public Optional<ArchivedSettlement> findArchived(UUID settlementId) {
+        return archiveRepository.findBySettlementId(settlementId)
+                .map(archive -> hydrate(archive.getBundle()));
+    }
+
+    /**
+     * 보관된 정산이면 아카이브 데이터, 아니면 empty (보관되지 않은 정산은 settlement_archives 를 조회하지 않음)
+     * 읽기 경로는 hot 테이블 결과가 아니라 정산의 보관 여부로 분기
+     */
+    public Optional<ArchivedSettlement> findArchived(Settlement settlement) {
+        return settlement.isArchived() ? findArchived(settlement.getId()) : Optional.empty();
+    }
+
+    /**
+     * 정산별 아카이브 요약 배치 조회
+     * [settlementId, totalExpense, participantCount, roundCount]
+     */
+    public List<Object[]> findSummaries(List<UUID> settlementIds) {
+        if (settlementIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return archiveRepository.findSummariesBySettlementIds(settlementIds);
+    }
+
+    /**
+     * 아카이브 복원 (정산 재오픈 시)
+     */
+    @Transactional
+    public void restore(Settlement settlement) {
+        UUID settlementId = settlement.getId();
+        Optional<SettlementArchive> archive = archiveRepository.findBySettlementId(settlementId);
+        if (archive.isEmpty()) {
+            settlement.setArchivedAt(null);
+            return;
+        }
+
+        SettlementArchiveBundle bundle = archive.get().getBundle();
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO participants (id, settlement_id, user_id, name, is_active, joined_at) " +
+                "VALUES (:id, :settlementId, :userId, :name, :isActive, :joinedAt)",
+                bundle.getParticipants().stream()
+                        .map(p -> new MapSqlParameterSource()
+                                .addValue("id", p.getId(), Types.OTHER)
+                                .addValue("settlementId", settlementId, Types.OTHER)
+                                .addValue("userId", p.getUserId(), Types.OTHER)
+                                .addValue("name", p.getName())
+                                .addValue("isActive", p.getIsActive())
+                                .addValue("joinedAt", p.getJoinedAt()))
+                        .toArray(MapSqlParameterSource[]::new));
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO expenses (id, settlement_id, payer_id, amount, category, category_ai, description, " +
+                "expense_date, created_at, updated_at, version) " +
+                "VALUES (:id, :settlementId, :payerId, :amount, :category, :categoryAi, :description, " +
+                ":expenseDate, :createdAt, :updatedAt, :version)",
+                bundle.getExpenses().stream()
+                        .map(e -> new MapSqlParameterSource()
+                                .addValue("id", e.getId(), Types.OTHER)
+                                .addValue("settlementId", settlementId, Types.OTHER)
+                                .addValue("payerId", e.getPayerId(), Types.OTHER)
+                                .addValue("amount", e.getAmount())
+                                .addValue("category", e.getCategory())
+                                .addValue("categoryAi", e.getCategoryAi())
+                                .addValue("description", e.getDescription())
+                                .addValue("expenseDate", e.getExpenseDate())
+                                .addValue("createdAt", e.getCreatedAt())
+                                .addValue("updatedAt", e.getUpdatedAt())
+                                .addValue("version", e.getVersion()))
+                        .toArray(MapSqlParameterSource[]::new));
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO expense_splits (id, expense_id, participant_id, share) " +
+                "VALUES (:id, :expenseId, :participantId, :share)",
+                bundle.getSplits().stream()
+                        .map(s -> new MapSqlParameterSource()
+                                .addValue("id", s.getId(), Types.OTHER)
+                                .addValue("expenseId", s.getExpenseId(), Types.OTHER)
+                                .addValue("participantId", s.getParticipantId(), Types.OTHER)
+                                .addValue("share", s.getShare()))
+                        .toArray(MapSqlParameterSource[]::new));
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO game_rounds (id, settlement_id, round_number, title, is_completed, " +
+                "excluded_participant_ids, created_at, updated_at) " +
+                "VALUES (:id, :settlementId, :roundNumber, :title, :isCompleted, " +
+                "CAST(:excludedParticipantIds AS uuid[]), :createdAt, :updatedAt)",
+                bundle.getRounds().stream()
+                        .map(r -> new MapSqlParameterSource()
+                                .addValue("id", r.getId(), Types.OTHER)
+                                .addValue("settlementId", settlementId, Types.OTHER)
+                                .addValue("roundNumber", r.getRoundNumber())
+                                .addValue("title", r.getTitle())
+                                .addValue("isCompleted", r.getIsCompleted())
+                                .addValue("excludedParticipantIds", toArrayLiteral(r.getExcludedParticipantIds()))
+                                .addValue("createdAt", r.getCreatedAt())
+                                .addValue("updatedAt", r.getUpdatedAt()))
+                        .toArray(MapSqlParameterSource[]::new));
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO game_round_entries (id, round_id, participant_id, amount, memo, created_at) " +
+                "VALUES (:id, :roundId, :participantId, :amount, :memo, :createdAt)",
+                bundle.getEntries().stream()
+                        .map(e -> new MapSqlParameterSource()
+                                .addValue("id", e.getId(), Types.OTHER)
+                                .addValue("roundId", e.getRoundId(), Types.OTHER)
+                                .addValue("participantId", e.getParticipantId(), Types.OTHER)
+                                .addValue("amount", e.getAmount())
+                                .addValue("memo", e.getMemo())
+                                .addValue("createdAt", e.getCreatedAt()))
+                        .toArray(MapSqlParameterSource[]::new));
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO settlement_results (id, settlement_id, total_amount, result_data, calculated_at, created_at) " +
+                "VALUES (:id, :settlementId, :totalAmount, CAST(:resultData AS jsonb), :calculatedAt, :createdAt)",
+                bundle.getResults().stream()
+                        .map(r -> new MapSqlParameterSource()
+                                .addValue("id", r.getId(), Types.OTHER)
+                                .addValue("settlementId", settlementId, Types.OTHER)
+                                .addValue("totalAmount", r.getTotalAmount())
+                                .addValue("resultData", resultDataConverter.convertToDatabaseColumn(r.getResultData()))
+                                .addValue("calculatedAt", r.getCalculatedAt())
+                                .addValue("createdAt", r.getCreatedAt()))
+                        .toArray(MapSqlParameterSource[]::new));
+
+        archiveRepository.delete(archive.get());
+        settlement.setArchivedAt(null);
+        // 보관 중 캐시된 빈 참가자 목록 무효화
+        cacheEvictor.evictAfterCommit(Participant.class,
+                bundle.getParticipants().stream().map(ParticipantRecord::getId).toList());
+
+        log.info("Settlement restored from archive: id={}, participants={}, expenses={}, rounds={}",
+                settlementId, bundle.getParticipants().size(), bundle.getExpenses().size(), bundle.getRounds().size());
+    }
+
+    /**
+     * uuid[] 바인딩용 배열 리터럴 ({id1,id2}) - 컬렉션 파라미터는 IN 목록으로 펼쳐지므로 문자열로 전달
+     */
+    private static String toArrayLiteral(List<UUID> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return "{}";
+        }
+        return ids.stream().map(UUID::toString).collect(Collectors.joining(",", "{", "}"));
+    }
+
+    private int deleteInBatches(String table, List<UUID> ids) {
+        int deleted = 0;
+        for (int from = 0; from < ids.size(); from += deleteBatchSize) {
+            List<UUID> chunk = ids.subList(from, Math.min(from + deleteBatchSize, ids.size()));
+            deleted += jdbcTemplate.update(
+                    "DELETE FROM " + table + " WHERE id IN (:ids)",
+                    new MapSqlParameterSource("ids", chunk));
+        }
+        return deleted;
+    }
+
+    private ArchivedSettlement hydrate(SettlementArchiveBundle bundle) {
+        Settlement settlementRef = Settlement.builder().id(bundle.getSettlementId()).build();
+
+        List<Participant> participants = bundle.getParticipants().stream()
+                .map(p -> Participant.builder()
+                        .id(p.getId())
+                        .settlementId(bundle.getSettlementId())
+                        .userId(p.getUserId())
+                        .name(p.getName())
+                        .isActive(p.getIsActive())
+                        .joinedAt(p.getJoinedAt())
+                        .build())
+                .toList();
+        Map<UUID, Participant> participantById = participants.stream()
+                .collect(Collectors.toMap(Participant::getId, Function.identity()));
+
+        List<Expense> expenses = bundle.getExpenses().stream()
+                .map(e -> Expense.builder()
+                        .id(e.getId())
+                        .settlement(settlementRef)
+                        .payer(participantById.get(e.getPayerId()))
+                        .amount(e.getAmount())
+                        .category(e.getCategory())
+                        .categoryAi(e.getCategoryAi())
+                        .description(e.getDescription())
+                        .expenseDate(e.getExpenseDate())
+                        .createdAt(e.getCreatedAt())
+                        .updatedAt(e.getUpdatedAt())
+                        .version(e.getVersion())
+                        .build())
+                .toList();
+        Map<UUID, Expense> expenseById = expenses.stream()
+                .collect(Collectors.toMap(Expense::getId, Function.identity()));
+
+        Map<UUID, List<ExpenseSplit>> splitsByExpense = bundle.getSplits().stream()
+                .map(s -> ExpenseSplit.builder()
+                        .id(s.getId())
+                        .expense(expenseById.get(s.getExpenseId()))
+                        .participant(participantById.get(s.getParticipantId()))
+                        .share(s.getShare())
+                        .build())
+                .collect(Collectors.groupingBy(s -> s.getExpense().getId()));
+
+        List<GameRound> rounds = bundle.getRounds().stream()
+                .map(r -> GameRound.builder()
+                        .id(r.getId())
+                        .settlementId(bundle.getSettlementId())
+                        .roundNumber(r.getRoundNumber())
+                        .title(r.getTitle())
+                        .isCompleted(r.getIsCompleted())
+                        .excludedParticipantIds(r.getExcludedParticipantIds() != null
+                                ? new ArrayList<>(r.getExcludedParticipantIds())
+                                : new ArrayList<>())
+                        .createdAt(r.getCreatedAt())
+                        .updatedAt(r.getUpdatedAt())
+                        .build())
+                .toList();
+
+        List<GameRoundEntry> entries = bundle.getEntries().stream()
+                .map(e -> GameRoundEntry.builder()
+                        .id(e.getId())
+                        .roundId(e.getRoundId())
+                        .participantId(e.getParticipantId())
+                        .amount(e.getAmount())
+                        .memo(e.getMemo())
+                        .createdAt(e.getCreatedAt())
+                        .build())
+                .toList();
+
+        List<SettlementResult> results = bundle.getResults().stream()
+                .map(r -> SettlementResult.builder()
+                        .id(r.getId())
+                        .settlementId(bundle.getSettlementId())
+                        .totalAmount(r.getTotalAmount())
+                        .resultData(r.getResultData())
+                        .calculatedAt(r.getCalculatedAt())
+                        .createdAt(r.getCreatedAt())
+                        .build())
+                .toList();
+
+        return new ArchivedSettlement(participants, expenses, splitsByExpense, rounds, entries, results);
+    }
+
+    private ParticipantRecord toRecord(Participant p) {
+        return ParticipantRecord.builder()
+                .id(p.getId())
+                .userId(p.getUserId())
+                .name(p.getName())
+                .isActive(p.getIsActive())
+                .joinedAt(p.getJoinedAt())
+                .build();
+    }
+
+    private ExpenseRecord toRecord(Expense e) {
+        return ExpenseRecord.builder()
+                .id(e.getId())
+                .payerId(e.getPayer().getId())
+                .amount(e.getAmount())
+                .category(e.getCategory())
+                .categoryAi(e.getCategoryAi())
+                .description(e.getDescription())
+                .expenseDate(e.getExpenseDate())
+                .createdAt(e.getCreatedAt())
+                .updatedAt(e.getUpdatedAt())
+                .version(e.getVersion())
+                .build();
+    }
+
+    private ExpenseSplitRecord toRecord(ExpenseSplit s) {
+        return ExpenseSplitRecord.builder()
+                .id(s.getId())
+                .expenseId(s.getExpense().getId())
+                .participantId(s.getParticipant().getId())
+                .share(s.getShare())
+                .build();
+    }
+
+    private GameRoundRecord toRecord(GameRound r) {
+        return GameRoundRecord.builder()
+                .id(r.getId())
+                .roundNumber(r.getRoundNumber())
+                .title(r.getTitle())
+                .isCompleted(r.getIsCompleted())
+                .excludedParticipantIds(r.getExcludedParticipantIds())
+                .createdAt(r.getCreatedAt())
+                .updatedAt(r.getUpdatedAt())
+                .build();
+    }
+
+    private GameRoundEntryRecord toRecord(GameRoundEntry e) {
+        return GameRoundEntryRecord.builder()
+                .id(e.getId())
+                .roundId(e.getRoundId())
+                .participantId(e.getParticipantId())
+                .amount(e.getAmount())
+                .memo(e.getMemo())
+                .createdAt(e.getCreatedAt())
+                .build();
+    }
+
+    private ResultRecord toRecord(SettlementResult r) {
+        return ResultRecord.builder()
+                .id(r.getId())
+                .totalAmount(r.getTotalAmount())
+                .resultData(r.getResultData())
+                .calculatedAt(r.getCalculatedAt())
+                .createdAt(r.getCreatedAt())
+                .build();
+    }
+}
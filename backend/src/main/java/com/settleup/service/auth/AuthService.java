@@ -7,10 +7,13 @@ import com.settleup.repository.SocialAccountRepository;
 import com.settleup.repository.UserRepository;
 import com.settleup.security.JwtProperties;
 import com.settleup.security.JwtTokenProvider;
+import com.settleup.security.TokenHasher;
 import com.settleup.service.social.SocialTokenValidator;
 import com.settleup.service.social.SocialUserInfo;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -31,32 +34,52 @@ public class AuthService {
     private final JwtTokenProvider jwtTokenProvider;
     private final JwtProperties jwtProperties;
     private final List<SocialTokenValidator> socialTokenValidators;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final SocialUserResolver socialUserResolver;
+
+    private static final String ROTATE_SQL =
+            "UPDATE refresh_tokens rt SET revoked = TRUE, revoked_at = NOW() " +
+            "FROM users u " +
+            "WHERE rt.token_hash = :tokenHash AND rt.revoked = FALSE AND rt.expires_at > NOW() " +
+            "AND u.id = rt.user_id " +
+            "RETURNING rt.user_id, rt.family_id, u.name, u.email";
 
     public TokenResponse socialLogin(String provider, String token) {
         SocialTokenValidator validator = findValidatorByProvider(provider);
         SocialUserInfo socialUserInfo = validator.validateToken(token);
 
-        User user = findOrCreateUser(socialUserInfo);
-        findOrCreateSocialAccount(user, socialUserInfo);
+        User user = socialUserResolver.resolve(socialUserInfo);
 
-        return generateTokenResponse(user);
+        return generateTokenResponse(user, UUID.randomUUID());
     }
 
+    /**
+     * Refresh token rotation
+     * 조건부 UPDATE 1회로 폐기 + 사용자 조회를 원자적으로 수행 (동시 갱신 시 한 요청만 성공)
+     * 이미 폐기된 토큰이 다시 사용되면 해당 패밀리 전체를 폐기
+     */
     public TokenResponse refreshToken(String refreshTokenValue) {
-        RefreshToken refreshToken = refreshTokenRepository
-                .findByTokenAndRevokedFalse(refreshTokenValue)
-                .orElseThrow(() -> new RuntimeException("Invalid refresh token"));
-
-        if (refreshToken.isExpired()) {
-            throw new RuntimeException("Refresh token expired");
+        String tokenHash = TokenHasher.sha256Hex(refreshTokenValue);
+
+        List<RotatedToken> rotated = jdbcTemplate.query(ROTATE_SQL,
+                new MapSqlParameterSource("tokenHash", tokenHash),
+                (rs, rowNum) -> new RotatedToken(
+                        rs.getObject("user_id", UUID.class),
+                        rs.getObject("family_id", UUID.class),
+                        rs.getString("name"),
+                        rs.getString("email")));
+
+        if (rotated.isEmpty()) {
+            throw rejectRefreshToken(tokenHash);
         }
 
-        // Refresh token rotation
-        refreshToken.revoke();
-        refreshTokenRepository.save(refreshToken);
-
-        User user = refreshToken.getUser();
-        return generateTokenResponse(user);
+        RotatedToken token = rotated.get(0);
+        User user = User.builder()
+                .id(token.userId())
+                .name(token.name())
+                .email(token.email())
+                .build();
+        return generateTokenResponse(user, token.familyId());
     }
 
     public void logout(UUID userId) {
@@ -91,11 +114,26 @@ public class AuthService {
             );
         }
 
-        return generateTokenResponse(user);
+        return generateTokenResponse(user, UUID.randomUUID());
     }
 
-    public void cleanupExpiredTokens() {
-        refreshTokenRepository.deleteExpiredAndRevoked(LocalDateTime.now());
+    /**
+     * 회전 실패 원인 판별 - 폐기된 토큰 재사용이면 패밀리 전체 폐기
+     */
+    private RuntimeException rejectRefreshToken(String tokenHash) {
+        Optional<RefreshToken> existing = refreshTokenRepository.findByTokenHash(tokenHash);
+        if (existing.isEmpty()) {
+            return new RuntimeException("Invalid refresh token");
+        }
+
+        RefreshToken refreshToken = existing.get();
+        if (refreshToken.getRevoked()) {
+            int revoked = refreshTokenRepository.revokeFamily(refreshToken.getFamilyId());
+            log.warn("Refresh token reuse detected: familyId={}, revoked={}", refreshToken.getFamilyId(), revoked);
+            return new RuntimeException("Invalid refresh token");
+        }
+
+        return new RuntimeException("Refresh token expired");
     }
 
     private SocialTokenValidator findValidatorByProvider(String provider) {
@@ -105,60 +143,15 @@ public class AuthService {
                 .orElseThrow(() -> new RuntimeException("Unsupported social provider: " + provider));
     }
 
-    private User findOrCreateUser(SocialUserInfo socialUserInfo) {
-        // 1. 기존 소셜 계정으로 사용자 찾기
-        Optional<SocialAccount> existingSocialAccount = socialAccountRepository
-                .findByProviderAndProviderUserId(
-                        SocialProvider.valueOf(socialUserInfo.getProvider()),
-                        socialUserInfo.getProviderId());
-
-        if (existingSocialAccount.isPresent()) {
-            return existingSocialAccount.get().getUser();
-        }
-
-        // 2. 이메일로 기존 사용자 찾기 (계정 연동)
-        if (socialUserInfo.getEmail() != null) {
-            Optional<User> existingUser = userRepository.findByEmail(socialUserInfo.getEmail());
-            if (existingUser.isPresent()) {
-                return existingUser.get();
-            }
-        }
-
-        // 3. 새 사용자 생성
-        User newUser = User.builder()
-                .name(socialUserInfo.getName())
-                .email(socialUserInfo.getEmail())
-                .build();
-
-        return userRepository.save(newUser);
-    }
-
-    private void findOrCreateSocialAccount(User user, SocialUserInfo socialUserInfo) {
-        boolean exists = socialAccountRepository.existsByProviderAndProviderUserId(
-                SocialProvider.valueOf(socialUserInfo.getProvider()),
-                socialUserInfo.getProviderId());
-
-        if (!exists) {
-            SocialAccount socialAccount = SocialAccount.builder()
-                    .user(user)
-                    .provider(SocialProvider.valueOf(socialUserInfo.getProvider()))
-                    .providerUserId(socialUserInfo.getProviderId())
-                    .providerEmail(socialUserInfo.getEmail())
-                    .providerName(socialUserInfo.getName())
-                    .build();
-
-            socialAccountRepository.save(socialAccount);
-        }
-    }
-
-    private TokenResponse generateTokenResponse(User user) {
+    private TokenResponse generateTokenResponse(User user, UUID familyId) {
         String accessToken = jwtTokenProvider.createAccessToken(user);
         String refreshTokenValue = jwtTokenProvider.createRefreshToken(user);
 
-        // Refresh token DB 저장
+        // Refresh token DB 저장 (해시만 저장)
         RefreshToken refreshToken = RefreshToken.builder()
-                .user(user)
-                .token(refreshTokenValue)
+                .user(userRepository.getReferenceById(user.getId()))
+                .tokenHash(TokenHasher.sha256Hex(refreshTokenValue))
+                .familyId(familyId)
                 .expiresAt(LocalDateTime.now().plusSeconds(jwtProperties.getRefreshTokenExpiry() / 1000))
                 .build();
 
@@ -173,4 +166,7 @@ public class AuthService {
                 .userEmail(user.getEmail())
                 .build();
     }
-}
\ No newline at end of file
+
+    record RotatedToken(UUID userId, UUID familyId, String name, String email) {
+    }
+}
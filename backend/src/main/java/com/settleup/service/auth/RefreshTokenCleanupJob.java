@@ -0,0 +1,77 @@
+package com.settleup.service.auth;
+
+import com.settleup.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료 리프레시 토큰 정리 배치
+ * 폐기된 토큰은 만료 시각까지 보존 (만료 전 재사용 탐지용), 만료 이후에는 폐기 여부와 관계없이 삭제
+ * 긴 락과 WAL 급증을 피하기 위해 chunk-size 건씩 별도 트랜잭션으로 삭제
+ */
+@Slf4j
+@Component
+public class RefreshTokenCleanupJob {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final Counter deletedCounter;
+    private final Timer durationTimer;
+
+    @Value("${auth.refresh-token-cleanup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${auth.refresh-token-cleanup.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${auth.refresh-token-cleanup.max-chunks-per-run:200}")
+    private int maxChunksPerRun;
+
+    public RefreshTokenCleanupJob(RefreshTokenRepository refreshTokenRepository, MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.deletedCounter = Counter.builder("settleup.refresh_tokens.cleanup.deleted")
+                .description("정리 배치로 삭제된 리프레시 토큰 수")
+                .register(meterRegistry);
+        this.durationTimer = Timer.builder("settleup.refresh_tokens.cleanup.duration")
+                .description("리프레시 토큰 정리 배치 수행 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${auth.refresh-token-cleanup.cron:0 0 4 * * *}")
+    public void cleanup() {
+        if (!enabled) {
+            return;
+        }
+        durationTimer.record(this::deleteInChunks);
+    }
+
+    /**
+     * @return 이번 실행에서 삭제된 총 건수
+     */
+    int deleteInChunks() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int chunks = 0;
+
+        while (chunks < maxChunksPerRun) {
+            int deleted = refreshTokenRepository.deleteExpiredChunk(now, chunkSize);
+            chunks++;
+            total += deleted;
+            deletedCounter.increment(deleted);
+            if (deleted < chunkSize) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("Refresh token cleanup finished: deleted={}, chunks={}", total, chunks);
+        }
+        return total;
+    }
+}
@@ -0,0 +1,96 @@
+package com.settleup.service.auth;
+
+import com.settleup.domain.user.SocialProvider;
+import com.settleup.domain.user.User;
+import com.settleup.service.social.SocialUserInfo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Types;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 소셜 로그인 사용자 확인/생성 (upsert)
+ * - 기존 계정: 조회 1회
+ * - 최초 로그인: users / social_accounts 를 ON CONFLICT 로 한 문장에서 생성·연동
+ * 같은 계정으로 동시에 최초 로그인해도 사용자/소셜 계정이 하나만 생성됨
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SocialUserResolver {
+
+    private static final String FIND_LINKED_USER_SQL =
+            "SELECT u.id, u.name, u.email FROM social_accounts sa " +
+            "JOIN users u ON u.id = sa.user_id " +
+            "WHERE sa.provider = :provider AND sa.provider_user_id = :providerUserId";
+
+    // 이메일이 같으면 기존 사용자에 연동 (DO UPDATE 는 기존 행을 RETURNING 하기 위한 no-op)
+    private static final String UPSERT_SQL =
+            "WITH upserted_user AS (" +
+            "    INSERT INTO users (name, email) VALUES (:name, :email) " +
+            "    ON CONFLICT (email) DO UPDATE SET email = EXCLUDED.email " +
+            "    RETURNING id, name, email, (xmax = 0) AS inserted" +
+            "), linked AS (" +
+            "    INSERT INTO social_accounts (user_id, provider, provider_user_id, provider_email, provider_name) " +
+            "    SELECT id, :provider, :providerUserId, :email, :name FROM upserted_user " +
+            "    ON CONFLICT (provider, provider_user_id) DO NOTHING " +
+            "    RETURNING user_id" +
+            ") " +
+            "SELECT uu.id, uu.name, uu.email, uu.inserted, (l.user_id IS NOT NULL) AS linked " +
+            "FROM upserted_user uu LEFT JOIN linked l ON TRUE";
+
+    private static final RowMapper<User> USER_ROW_MAPPER = (rs, rowNum) -> User.builder()
+            .id(rs.getObject("id", UUID.class))
+            .name(rs.getString("name"))
+            .email(rs.getString("email"))
+            .build();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 소셜 계정에 연결된 사용자 반환 (없으면 생성 후 연동)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public User resolve(SocialUserInfo socialUserInfo) {
+        SocialProvider provider = SocialProvider.valueOf(socialUserInfo.getProvider());
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("provider", provider.name())
+                .addValue("providerUserId", socialUserInfo.getProviderId())
+                .addValue("name", socialUserInfo.getName())
+                .addValue("email", socialUserInfo.getEmail(), Types.VARCHAR);
+
+        List<User> linked = jdbcTemplate.query(FIND_LINKED_USER_SQL, params, USER_ROW_MAPPER);
+        if (!linked.isEmpty()) {
+            return linked.get(0);
+        }
+
+        UpsertResult result = jdbcTemplate.queryForObject(UPSERT_SQL, params, (rs, rowNum) -> new UpsertResult(
+                USER_ROW_MAPPER.mapRow(rs, rowNum),
+                rs.getBoolean("inserted"),
+                rs.getBoolean("linked")));
+
+        if (result.linked()) {
+            log.info("Social account linked: provider={}, userId={}, newUser={}",
+                    provider, result.user().getId(), result.inserted());
+            return result.user();
+        }
+
+        // 동시 최초 로그인에서 다른 요청이 먼저 연동 - 이번에 만든 사용자는 정리 후 기존 연동 사용자 반환
+        if (result.inserted()) {
+            jdbcTemplate.update("DELETE FROM users WHERE id = :id",
+                    new MapSqlParameterSource("id", result.user().getId()));
+        }
+        return jdbcTemplate.query(FIND_LINKED_USER_SQL, params, USER_ROW_MAPPER).get(0);
+    }
+
+    record UpsertResult(User user, boolean inserted, boolean linked) {
+    }
+}
@@ -0,0 +1,109 @@
+package com.settleup.service.invite;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.security.SecureRandom;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * 초대 코드 문자열 생성기
+ * - SecureRandom 은 인스턴스 하나를 공유 (스레드 안전)
+ * - 선택적으로 미사용 확인된 코드를 미리 만들어 두고 백그라운드로 보충
+ * 최종 유일성은 INSERT ... ON CONFLICT (code) 로 보장하며, 풀은 충돌 재시도를 줄이는 용도
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InviteCodeGenerator {
+
+    public static final int CODE_LENGTH = 8;
+    private static final String CODE_CHARS = "ABCDEFGHJKLMNPQRSTUVWXYZ23456789";
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Value("${settlement.invite.code-pool.enabled:false}")
+    private boolean poolEnabled;
+
+    @Value("${settlement.invite.code-pool.size:512}")
+    private int poolSize;
+
+    private BlockingQueue<String> pool;
+
+    @PostConstruct
+    void init() {
+        pool = new ArrayBlockingQueue<>(Math.max(1, poolSize));
+        if (poolEnabled) {
+            refillPool();
+        }
+    }
+
+    /**
+     * 다음 코드 (풀이 비어 있으면 즉시 생성)
+     */
+    public String nextCode() {
+        if (poolEnabled) {
+            String pooled = pool.poll();
+            if (pooled != null) {
+                return pooled;
+            }
+        }
+        return randomCode();
+    }
+
+    /**
+     * 풀이 1/4 이상 소진되면 보충 - 이미 발급된 코드는 일괄 조회 1회로 제외
+     */
+    @Scheduled(fixedDelayString = "${settlement.invite.code-pool.refill-interval-ms:1000}")
+    public void refillPool() {
+        if (!poolEnabled) {
+            return;
+        }
+
+        int missing = poolSize - pool.size();
+        if (missing < Math.max(1, poolSize / 4)) {
+            return;
+        }
+
+        Set<String> candidates = new HashSet<>();
+        while (candidates.size() < missing) {
+            candidates.add(randomCode());
+        }
+
+        List<String> taken = jdbcTemplate.queryForList(
+                "SELECT code FROM settlement_invite_codes WHERE code IN (:codes)",
+                new MapSqlParameterSource("codes", candidates),
+                String.class);
+        taken.forEach(candidates::remove);
+
+        ArrayDeque<String> fresh = new ArrayDeque<>(candidates);
+        while (!fresh.isEmpty() && pool.offer(fresh.poll())) {
+            // 용량까지 채움
+        }
+        log.debug("Invite code pool refilled: size={}, discarded={}", pool.size(), taken.size());
+    }
+
+    int pooledCount() {
+        return pool.size();
+    }
+
+    static String randomCode() {
+        char[] chars = new char[CODE_LENGTH];
+        for (int i = 0; i < CODE_LENGTH; i++) {
+            chars[i] = CODE_CHARS.charAt(RANDOM.nextInt(CODE_CHARS.length()));
+        }
+        return new String(chars);
+    }
+}
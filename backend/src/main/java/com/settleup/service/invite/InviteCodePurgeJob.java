@@ -0,0 +1,79 @@
+package com.settleup.service.invite;
+
+import com.settleup.repository.SettlementInviteCodeRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료/소진된 초대 코드 정리 배치
+ * retention-days 이전에 만료되었거나 모두 사용된 코드를 chunk-size 건씩 별도 트랜잭션으로 삭제
+ */
+@Slf4j
+@Component
+public class InviteCodePurgeJob {
+
+    private final SettlementInviteCodeRepository inviteCodeRepository;
+    private final Counter deletedCounter;
+    private final Timer durationTimer;
+
+    @Value("${settlement.invite.purge.enabled:true}")
+    private boolean enabled;
+
+    @Value("${settlement.invite.purge.retention-days:7}")
+    private int retentionDays;
+
+    @Value("${settlement.invite.purge.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${settlement.invite.purge.max-chunks-per-run:200}")
+    private int maxChunksPerRun;
+
+    public InviteCodePurgeJob(SettlementInviteCodeRepository inviteCodeRepository, MeterRegistry meterRegistry) {
+        this.inviteCodeRepository = inviteCodeRepository;
+        this.deletedCounter = Counter.builder("settleup.invite_codes.purge.deleted")
+                .description("정리 배치로 삭제된 초대 코드 수")
+                .register(meterRegistry);
+        this.durationTimer = Timer.builder("settleup.invite_codes.purge.duration")
+                .description("초대 코드 정리 배치 수행 시간")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${settlement.invite.purge.cron:0 15 4 * * *}")
+    public void purge() {
+        if (!enabled) {
+            return;
+        }
+        durationTimer.record(this::deleteInChunks);
+    }
+
+    /**
+     * @return 이번 실행에서 삭제된 총 건수
+     */
+    int deleteInChunks() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        int chunks = 0;
+
+        while (chunks < maxChunksPerRun) {
+            int deleted = inviteCodeRepository.deleteStaleChunk(cutoff, chunkSize);
+            chunks++;
+            total += deleted;
+            deletedCounter.increment(deleted);
+            if (deleted < chunkSize) {
+                break;
+            }
+        }
+
+        if (total > 0) {
+            log.info("Invite code purge finished: deleted={}, chunks={}", total, chunks);
+        }
+        return total;
+    }
+}
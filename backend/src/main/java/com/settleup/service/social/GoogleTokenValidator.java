@@ -1,50 +1,71 @@
 package com.settleup.service.social;
 
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdToken;
-import com.google.api.client.googleapis.auth.oauth2.GoogleIdTokenVerifier;
-import com.google.api.client.http.javanet.NetHttpTransport;
-import com.google.api.client.json.gson.GsonFactory;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.JWSKeySelector;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.proc.ConfigurableJWTProcessor;
+import com.nimbusds.jwt.proc.DefaultJWTClaimsVerifier;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import java.net.URI;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class GoogleTokenValidator implements SocialTokenValidator {
 
+    private static final Set<String> GOOGLE_ISSUERS = Set.of("accounts.google.com", "https://accounts.google.com");
+    private static final String GOOGLE_JWKS_URI = "https://www.googleapis.com/oauth2/v3/certs";
+
+    private final JwkSetManager jwkSetManager;
+
     @Value("${oauth.google.client-id-ios}")
     private String clientIdIos;
 
     @Value("${oauth.google.client-id-android}")
     private String clientIdAndroid;
 
-    private GoogleIdTokenVerifier verifier;
+    private ConfigurableJWTProcessor<SecurityContext> jwtProcessor;
 
-    private GoogleIdTokenVerifier getVerifier() {
-        if (verifier == null) {
-            verifier = new GoogleIdTokenVerifier.Builder(
-                    new NetHttpTransport(),
-                    GsonFactory.getDefaultInstance())
-                    .setAudience(Arrays.asList(clientIdIos, clientIdAndroid))
-                    .build();
-        }
-        return verifier;
+    @PostConstruct
+    public void init() {
+        jwtProcessor = new DefaultJWTProcessor<>();
+
+        JWKSource<SecurityContext> keySource = jwkSetManager.register(getProvider(), URI.create(GOOGLE_JWKS_URI));
+        JWSKeySelector<SecurityContext> keySelector =
+                new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, keySource);
+        jwtProcessor.setJWSKeySelector(keySelector);
+
+        // Google 은 issuer 가 두 가지 형태라 별도 검증
+        Set<String> requiredClaims = new HashSet<>(Arrays.asList("sub", "iss", "aud", "exp", "iat"));
+        jwtProcessor.setJWTClaimsSetVerifier(new DefaultJWTClaimsVerifier<>(
+                new HashSet<>(Arrays.asList(clientIdIos, clientIdAndroid)), null, requiredClaims, null));
+
+        log.info("Google ID token processor initialized");
     }
 
     @Override
     public SocialUserInfo validateToken(String idToken) {
         try {
-            GoogleIdToken token = getVerifier().verify(idToken);
-            if (token == null) {
+            JWTClaimsSet claims = jwtProcessor.process(idToken, null);
+            if (!GOOGLE_ISSUERS.contains(claims.getIssuer())) {
                 throw new RuntimeException("Invalid Google ID token");
             }
 
-            GoogleIdToken.Payload payload = token.getPayload();
-            String userId = payload.getSubject();
-            String email = payload.getEmail();
-            String name = (String) payload.get("name");
+            String userId = claims.getSubject();
+            String email = claims.getStringClaim("email");
+            String name = claims.getStringClaim("name");
 
             return SocialUserInfo.builder()
                     .providerId(userId)
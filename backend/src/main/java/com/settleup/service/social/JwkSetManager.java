@@ -0,0 +1,227 @@
+package com.settleup.service.social;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 소셜 로그인 공개키(JWKS) 공유 관리자
+ * - 등록 즉시 백그라운드로 선조회 (기동 지연 없음)
+ * - 만료 전 백그라운드 갱신 → 로그인 요청 경로에서 HTTPS 조회 제거
+ * - 제공자 장애 시 stale-grace 기간 동안 마지막 키셋 사용
+ * - 알 수 없는 kid(키 교체)는 최소 간격을 두고 즉시 재조회
+ */
+@Slf4j
+@Component
+public class JwkSetManager {
+
+    private static final Pattern MAX_AGE = Pattern.compile("max-age=(\\d+)");
+
+    private final JwksProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final HttpClient httpClient;
+    private final Map<String, KeySetEntry> entries = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler;
+
+    @Autowired
+    public JwkSetManager(JwksProperties properties, MeterRegistry meterRegistry) {
+        this(properties, meterRegistry, Clock.systemUTC());
+    }
+
+    JwkSetManager(JwksProperties properties, MeterRegistry meterRegistry, Clock clock) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(properties.getConnectTimeout())
+                .build();
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "jwks-refresh");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = properties.getCheckInterval().toMillis();
+        scheduler.scheduleWithFixedDelay(this::refreshDue, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * 제공자 키셋 등록 후 JWT 검증용 키 소스 반환
+     */
+    public JWKSource<SecurityContext> register(String provider, URI jwksUri) {
+        KeySetEntry entry = entries.computeIfAbsent(provider, name -> {
+            KeySetEntry created = new KeySetEntry(name, jwksUri);
+            Gauge.builder("settleup.jwks.age", created, e -> e.ageSeconds(clock.instant()))
+                    .description("마지막으로 조회한 JWKS 키셋의 경과 시간")
+                    .tag("provider", name)
+                    .baseUnit("seconds")
+                    .register(meterRegistry);
+            return created;
+        });
+        scheduler.execute(() -> refreshQuietly(entry));
+        return (selector, context) -> select(entry, selector);
+    }
+
+    List<JWK> select(KeySetEntry entry, JWKSelector selector) throws KeySourceException {
+        KeySet keySet = usableKeySet(entry);
+        List<JWK> matches = selector.select(keySet.jwkSet());
+        if (!matches.isEmpty()) {
+            return matches;
+        }
+
+        // 키 교체 직후 - 새 kid 가 아직 캐시에 없음
+        if (entry.tryAcquireForcedRefresh(clock.instant(), properties.getMinForcedRefreshInterval())) {
+            refreshQuietly(entry);
+            KeySet refreshed = entry.keySet;
+            if (refreshed != null) {
+                matches = selector.select(refreshed.jwkSet());
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * 주기적으로 만료 임박 키셋 갱신 (실패 시 기존 키셋 유지)
+     */
+    void refreshDue() {
+        Instant now = clock.instant();
+        for (KeySetEntry entry : entries.values()) {
+            KeySet keySet = entry.keySet;
+            if (keySet == null || !now.isBefore(keySet.expiresAt().minus(properties.getRefreshAhead()))) {
+                refreshQuietly(entry);
+            }
+        }
+    }
+
+    private KeySet usableKeySet(KeySetEntry entry) throws KeySourceException {
+        KeySet keySet = entry.keySet;
+        if (keySet != null && isWithinGrace(keySet)) {
+            return keySet;
+        }
+
+        // 콜드 스타트 또는 grace 초과 - 요청 경로에서 동기 조회 (동시 요청은 한 번만 조회)
+        synchronized (entry) {
+            keySet = entry.keySet;
+            if (keySet != null && isWithinGrace(keySet)) {
+                return keySet;
+            }
+            try {
+                return refresh(entry);
+            } catch (Exception e) {
+                throw new KeySourceException("JWKS unavailable for " + entry.provider + ": " + e.getMessage(), e);
+            }
+        }
+    }
+
+    private boolean isWithinGrace(KeySet keySet) {
+        return clock.instant().isBefore(keySet.expiresAt().plus(properties.getStaleGrace()));
+    }
+
+    private void refreshQuietly(KeySetEntry entry) {
+        try {
+            refresh(entry);
+        } catch (Exception e) {
+            log.warn("JWKS 갱신 실패 (기존 키셋 유지): provider={}, error={}", entry.provider, e.getMessage());
+        }
+    }
+
+    private KeySet refresh(KeySetEntry entry) throws Exception {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "failure";
+        try {
+            HttpRequest request = HttpRequest.newBuilder(entry.uri)
+                    .timeout(properties.getReadTimeout())
+                    .GET()
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                throw new IOException("unexpected status " + response.statusCode());
+            }
+
+            JWKSet jwkSet = JWKSet.parse(response.body());
+            Duration ttl = maxAge(response).orElse(properties.getDefaultTtl());
+            Instant now = clock.instant();
+            KeySet keySet = new KeySet(jwkSet, now, now.plus(ttl));
+            entry.keySet = keySet;
+            outcome = "success";
+
+            log.debug("JWKS refreshed: provider={}, keys={}, ttl={}", entry.provider, jwkSet.getKeys().size(), ttl);
+            return keySet;
+        } finally {
+            sample.stop(Timer.builder("settleup.jwks.fetch")
+                    .description("JWKS 조회 지연 시간")
+                    .tag("provider", entry.provider)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private static Optional<Duration> maxAge(HttpResponse<?> response) {
+        return response.headers().firstValue("Cache-Control")
+                .map(MAX_AGE::matcher)
+                .filter(Matcher::find)
+                .map(m -> Duration.ofSeconds(Long.parseLong(m.group(1))));
+    }
+
+    record KeySet(JWKSet jwkSet, Instant fetchedAt, Instant expiresAt) {
+    }
+
+    static class KeySetEntry {
+
+        private final String provider;
+        private final URI uri;
+        private volatile KeySet keySet;
+        private Instant lastForcedRefresh = Instant.EPOCH;
+
+        KeySetEntry(String provider, URI uri) {
+            this.provider = provider;
+            this.uri = uri;
+        }
+
+        synchronized boolean tryAcquireForcedRefresh(Instant now, Duration minInterval) {
+            if (now.isBefore(lastForcedRefresh.plus(minInterval))) {
+                return false;
+            }
+            lastForcedRefresh = now;
+            return true;
+        }
+
+        double ageSeconds(Instant now) {
+            KeySet current = keySet;
+            return current == null ? Double.NaN : Duration.between(current.fetchedAt(), now).toSeconds();
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.settleup.service.social;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+@ConfigurationProperties(prefix = "oauth.jwks")
+@Getter
+@Setter
+public class JwksProperties {
+    private Duration defaultTtl = Duration.ofHours(1); // Cache-Control max-age 없을 때 키셋 유효 기간
+    private Duration refreshAhead = Duration.ofMinutes(10); // 만료 이 시간 전부터 백그라운드 갱신
+    private Duration staleGrace = Duration.ofHours(6); // 제공자 장애 시 만료 키셋 허용 기간
+    private Duration checkInterval = Duration.ofMinutes(1); // 백그라운드 갱신 점검 주기
+    private Duration minForcedRefreshInterval = Duration.ofSeconds(30); // 미확인 kid 강제 갱신 최소 간격
+    private Duration connectTimeout = Duration.ofSeconds(2);
+    private Duration readTimeout = Duration.ofSeconds(3);
+}
@@ -2,7 +2,6 @@ package com.settleup.service.social;
 
 import com.nimbusds.jose.JWSAlgorithm;
 import com.nimbusds.jose.jwk.source.JWKSource;
-import com.nimbusds.jose.jwk.source.RemoteJWKSet;
 import com.nimbusds.jose.proc.JWSKeySelector;
 import com.nimbusds.jose.proc.JWSVerificationKeySelector;
 import com.nimbusds.jose.proc.SecurityContext;
@@ -11,22 +10,26 @@ import com.nimbusds.jwt.proc.ConfigurableJWTProcessor;
 import com.nimbusds.jwt.proc.DefaultJWTClaimsVerifier;
 import com.nimbusds.jwt.proc.DefaultJWTProcessor;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.net.URL;
+import java.net.URI;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class KakaoTokenValidator implements SocialTokenValidator {
 
     private static final String KAKAO_ISSUER = "https://kauth.kakao.com";
     private static final String KAKAO_JWKS_URI = "https://kauth.kakao.com/.well-known/jwks.json";
 
+    private final JwkSetManager jwkSetManager;
+
     @Value("${oauth.kakao.native-app-key}")
     private String nativeAppKey;
 
@@ -37,7 +40,7 @@ public class KakaoTokenValidator implements SocialTokenValidator {
         try {
             jwtProcessor = new DefaultJWTProcessor<>();
 
-            JWKSource<SecurityContext> keySource = new RemoteJWKSet<>(new URL(KAKAO_JWKS_URI));
+            JWKSource<SecurityContext> keySource = jwkSetManager.register(getProvider(), URI.create(KAKAO_JWKS_URI));
             JWSKeySelector<SecurityContext> keySelector =
                     new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, keySource);
             jwtProcessor.setJWSKeySelector(keySelector);
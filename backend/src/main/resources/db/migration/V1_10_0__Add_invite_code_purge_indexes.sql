@@ -0,0 +1,11 @@
+-- Invite code purge / lookup indexes
+-- code UNIQUE 제약 인덱스와 중복되는 일반 인덱스 제거
+DROP INDEX IF EXISTS idx_settlement_invite_codes_code;
+
+-- 사용 가능한 코드만 담는 부분 인덱스 (redeem 조건과 동일한 술어)
+-- 다회용 코드는 첫 사용 후에도 used_by 가 채워지므로 used_by IS NULL 대신 use_count < max_uses 사용
+CREATE INDEX idx_settlement_invite_codes_redeemable
+    ON settlement_invite_codes(code) WHERE use_count < max_uses;
+
+-- 만료 코드 정리 배치용
+CREATE INDEX idx_settlement_invite_codes_expires_at ON settlement_invite_codes(expires_at);
@@ -0,0 +1,13 @@
+-- 라운드당 참가자 엔트리 1건 (diff 기반 upsert 의 ON CONFLICT 대상)
+-- 중복 행이 있으면 가장 최근 것만 남김
+DELETE FROM game_round_entries e
+USING game_round_entries newer
+WHERE e.round_id = newer.round_id
+  AND e.participant_id = newer.participant_id
+  AND (e.created_at, e.id) < (newer.created_at, newer.id);
+
+ALTER TABLE game_round_entries
+    ADD CONSTRAINT uq_game_round_entries_round_participant UNIQUE (round_id, participant_id);
+
+-- (round_id, participant_id) 유니크 인덱스가 round_id 조회를 대체
+DROP INDEX IF EXISTS idx_game_round_entries_round;
@@ -0,0 +1,15 @@
+-- game_rounds.excluded_participant_ids: JSONB 문자열 배열 → uuid[]
+-- (ALTER ... USING 에는 서브쿼리를 쓸 수 없어 새 컬럼으로 옮긴 뒤 교체)
+ALTER TABLE game_rounds ADD COLUMN excluded_participant_ids_new UUID[] NOT NULL DEFAULT '{}';
+
+UPDATE game_rounds
+SET excluded_participant_ids_new = ARRAY(
+    SELECT DISTINCT value::uuid
+    FROM jsonb_array_elements_text(excluded_participant_ids) AS value
+    WHERE value ~* '^[0-9a-f]{8}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{4}-[0-9a-f]{12}$'
+)
+WHERE jsonb_typeof(excluded_participant_ids) = 'array'
+  AND excluded_participant_ids <> '[]'::jsonb;
+
+ALTER TABLE game_rounds DROP COLUMN excluded_participant_ids;
+ALTER TABLE game_rounds RENAME COLUMN excluded_participant_ids_new TO excluded_participant_ids;
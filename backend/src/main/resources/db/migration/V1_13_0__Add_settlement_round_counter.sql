@@ -0,0 +1,37 @@
+-- 정산별 라운드 번호 카운터 (UPDATE ... RETURNING 으로 원자적 채번)
+ALTER TABLE settlements ADD COLUMN next_round_number INTEGER NOT NULL DEFAULT 1;
+
+-- 기존 중복 라운드 번호는 가장 먼저 생성된 라운드만 유지하고 나머지는 마지막 번호 뒤로 이동
+WITH ranked AS (
+    SELECT id, settlement_id,
+           ROW_NUMBER() OVER (PARTITION BY settlement_id, round_number ORDER BY created_at, id) AS rn
+    FROM game_rounds
+),
+max_numbers AS (
+    SELECT settlement_id, MAX(round_number) AS max_number
+    FROM game_rounds
+    GROUP BY settlement_id
+),
+moved AS (
+    SELECT r.id,
+           m.max_number + ROW_NUMBER() OVER (PARTITION BY r.settlement_id ORDER BY r.id) AS new_number
+    FROM ranked r
+    JOIN max_numbers m ON m.settlement_id = r.settlement_id
+    WHERE r.rn > 1
+)
+UPDATE game_rounds g
+SET round_number = moved.new_number
+FROM moved
+WHERE g.id = moved.id;
+
+UPDATE settlements s
+SET next_round_number = g.max_number + 1
+FROM (SELECT settlement_id, MAX(round_number) AS max_number FROM game_rounds GROUP BY settlement_id) g
+WHERE g.settlement_id = s.id;
+
+ALTER TABLE game_rounds
+    ADD CONSTRAINT uq_game_rounds_settlement_round_number UNIQUE (settlement_id, round_number);
+
+-- (settlement_id, round_number) 유니크 인덱스가 대체
+DROP INDEX IF EXISTS idx_game_rounds_settlement_number;
+DROP INDEX IF EXISTS idx_game_rounds_settlement;
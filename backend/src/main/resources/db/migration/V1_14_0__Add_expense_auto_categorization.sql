@@ -0,0 +1,10 @@
+-- AI 자동 분류 배치용: 미분류 지출만 담는 부분 인덱스 (id keyset 순회)
+CREATE INDEX idx_expenses_uncategorized
+    ON expenses(id) WHERE category IS NULL AND category_ai IS NULL;
+
+-- 배치 작업 재개 위치 (작업 이름별 마지막 처리 키)
+CREATE TABLE IF NOT EXISTS batch_job_cursors (
+    job_name   VARCHAR(100) PRIMARY KEY,
+    last_id    UUID,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
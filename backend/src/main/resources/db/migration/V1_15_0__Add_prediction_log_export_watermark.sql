@@ -0,0 +1,6 @@
+-- 예측 로그 내보내기: (created_at, id) keyset 순서로 읽고 증분 워터마크 비교
+CREATE INDEX idx_prediction_logs_created_at_id ON prediction_logs(created_at, id);
+DROP INDEX IF EXISTS idx_prediction_logs_created_at;
+
+-- 증분 내보내기 워터마크 (마지막으로 내보낸 행의 created_at, id 는 last_id)
+ALTER TABLE batch_job_cursors ADD COLUMN last_created_at TIMESTAMP;
@@ -0,0 +1,9 @@
+-- 폐기 시각 기록: 정리 배치의 폐기 토큰 보존 기간을 발급 시각이 아닌 폐기 시각 기준으로 계산
+-- (오래전 발급되어 방금 회전된 토큰이 바로 삭제되면 재사용 탐지 불가)
+ALTER TABLE refresh_tokens ADD COLUMN revoked_at TIMESTAMP;
+
+-- 기존 폐기 토큰은 폐기 시각을 알 수 없으므로 배포 시점부터 보존 기간 적용
+UPDATE refresh_tokens SET revoked_at = NOW() WHERE revoked = TRUE;
+
+DROP INDEX IF EXISTS idx_refresh_tokens_revoked;
+CREATE INDEX idx_refresh_tokens_revoked_at ON refresh_tokens(revoked_at) WHERE revoked = TRUE;
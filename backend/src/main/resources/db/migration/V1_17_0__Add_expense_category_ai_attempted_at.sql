@@ -0,0 +1,3 @@
+-- AI 자동 분류 배치: 마지막 분류 시도 시각 (신뢰도 미달로 건너뛴 지출을 매 순회마다 다시 보내지 않도록)
+-- 설명이 바뀌면 NULL 로 초기화되어 다음 순회에서 다시 분류
+ALTER TABLE expenses ADD COLUMN category_ai_attempted_at TIMESTAMP;
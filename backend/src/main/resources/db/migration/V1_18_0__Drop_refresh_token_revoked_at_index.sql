@@ -0,0 +1,3 @@
+-- 폐기된 리프레시 토큰도 만료 시각까지 보존 (만료 전 재사용을 패밀리 폐기로 탐지)
+-- 정리 배치가 expires_at 만으로 삭제 대상을 고르므로 폐기 시각 인덱스는 쓰기 비용만 추가
+DROP INDEX IF EXISTS idx_refresh_tokens_revoked_at;
@@ -0,0 +1,3 @@
+-- code 조회는 UNIQUE 제약 인덱스가 단일 행으로 처리하므로 사용 가능 코드 부분 인덱스는 쓰기 비용만 추가
+-- (use_count 증가마다 인덱스 포함 여부가 바뀌어 HOT 갱신도 막힘)
+DROP INDEX IF EXISTS idx_settlement_invite_codes_redeemable;
@@ -0,0 +1,26 @@
+-- ============================================
+-- V1_6_0: 완료 정산 콜드 스토리지 아카이브
+-- 오래전 완료된 정산의 참가자/지출/분담/라운드/결과를
+-- 압축 번들 1행으로 옮기고 hot 테이블에서 제거
+-- ============================================
+
+ALTER TABLE settlements ADD COLUMN IF NOT EXISTS completed_at TIMESTAMP;
+ALTER TABLE settlements ADD COLUMN IF NOT EXISTS archived_at TIMESTAMP;
+
+-- 기존 완료 정산은 마지막 수정 시각을 완료 시각으로 간주
+UPDATE settlements SET completed_at = updated_at WHERE status = 'COMPLETED' AND completed_at IS NULL;
+
+-- 아카이브 대상 스캔용 (완료 + 미보관)
+CREATE INDEX idx_settlements_archive_candidates ON settlements(completed_at)
+    WHERE status = 'COMPLETED' AND archived_at IS NULL;
+
+CREATE TABLE IF NOT EXISTS settlement_archives (
+    id                UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    settlement_id     UUID           NOT NULL UNIQUE REFERENCES settlements(id) ON DELETE CASCADE,
+    format_version    INTEGER        NOT NULL,
+    bundle            BYTEA          NOT NULL,
+    total_expense     DECIMAL(12, 2) NOT NULL DEFAULT 0,
+    participant_count INTEGER        NOT NULL DEFAULT 0,
+    round_count       INTEGER        NOT NULL DEFAULT 0,
+    archived_at       TIMESTAMP      NOT NULL DEFAULT NOW()
+);
@@ -0,0 +1,11 @@
+-- ============================================
+-- V1_7_0: 리프레시 토큰 정리 배치 지원
+-- 조회는 활성 토큰만 대상으로 하므로 부분 인덱스로 교체
+-- ============================================
+
+-- 토큰 조회 (findByTokenAndRevokedFalse) - 폐기된 토큰은 인덱스에서 제외
+DROP INDEX IF EXISTS idx_refresh_tokens_token;
+CREATE INDEX idx_refresh_tokens_active_token ON refresh_tokens(token) WHERE revoked = FALSE;
+
+-- 정리 배치용 (폐기된 토큰 스캔)
+CREATE INDEX idx_refresh_tokens_revoked ON refresh_tokens(created_at) WHERE revoked = TRUE;
@@ -0,0 +1,23 @@
+-- ============================================
+-- V1_8_0: 리프레시 토큰 해시 저장 + 토큰 패밀리
+-- 원문 JWT 대신 SHA-256 해시만 보관하고,
+-- 같은 로그인에서 회전된 토큰은 family_id 로 묶어 재사용 탐지 시 일괄 폐기
+-- ============================================
+
+ALTER TABLE refresh_tokens ADD COLUMN IF NOT EXISTS token_hash VARCHAR(64);
+ALTER TABLE refresh_tokens ADD COLUMN IF NOT EXISTS family_id UUID;
+
+-- 기존 토큰: 해시 계산, 각 토큰을 독립 패밀리로 간주
+UPDATE refresh_tokens
+SET token_hash = encode(sha256(convert_to(token, 'UTF8')), 'hex'),
+    family_id  = id
+WHERE token_hash IS NULL;
+
+ALTER TABLE refresh_tokens ALTER COLUMN token_hash SET NOT NULL;
+ALTER TABLE refresh_tokens ALTER COLUMN family_id SET NOT NULL;
+
+-- 원문 토큰 컬럼 제거 (idx_refresh_tokens_active_token 도 함께 제거됨)
+ALTER TABLE refresh_tokens DROP COLUMN token;
+
+CREATE UNIQUE INDEX uq_refresh_tokens_token_hash ON refresh_tokens(token_hash);
+CREATE INDEX idx_refresh_tokens_family_id ON refresh_tokens(family_id) WHERE revoked = FALSE;
@@ -0,0 +1,27 @@
+-- Multi-use invite codes
+-- 코드 1개를 여러 명이 사용 (max_uses 까지 use_count 조건부 증가)
+
+ALTER TABLE settlement_invite_codes ADD COLUMN max_uses INTEGER NOT NULL DEFAULT 1;
+ALTER TABLE settlement_invite_codes ADD COLUMN use_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE settlement_invite_codes SET use_count = 1 WHERE used_by IS NOT NULL;
+
+ALTER TABLE settlement_invite_codes
+    ADD CONSTRAINT chk_settlement_invite_codes_use_count
+    CHECK (max_uses >= 1 AND use_count >= 0 AND use_count <= max_uses);
+
+COMMENT ON COLUMN settlement_invite_codes.used_by IS '마지막 사용자';
+COMMENT ON COLUMN settlement_invite_codes.used_at IS '마지막 사용 시각';
+
+-- Invite Code Redemptions Table
+-- 코드별 사용 이력 (settlement.invite.redemption-log.enabled 일 때 기록)
+
+CREATE TABLE IF NOT EXISTS settlement_invite_redemptions (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    invite_code_id UUID NOT NULL REFERENCES settlement_invite_codes(id) ON DELETE CASCADE,
+    settlement_id UUID NOT NULL REFERENCES settlements(id) ON DELETE CASCADE,
+    user_id UUID NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    redeemed_at TIMESTAMP NOT NULL DEFAULT NOW()
+);
+
+CREATE INDEX idx_settlement_invite_redemptions_invite_code_id ON settlement_invite_redemptions(invite_code_id);
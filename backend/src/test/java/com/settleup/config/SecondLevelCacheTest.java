@@ -0,0 +1,172 @@
+package com.settleup.config;
+
+import com.settleup.domain.participant.Participant;
+import com.settleup.domain.settlement.Settlement;
+import com.settleup.domain.settlement.SettlementStatus;
+import com.settleup.domain.settlement.SettlementType;
+import com.settleup.domain.user.User;
+import com.settleup.repository.ParticipantRepository;
+import com.settleup.repository.SettlementRepository;
+import com.settleup.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * Hibernate 2차 캐시 통합 테스트
+ * 다른 인스턴스나 JDBC 직접 변경은 JdbcTemplate UPDATE/DELETE 로 흉내 (Hibernate 캐시에는 반영되지 않음)
+ * 캐시 반영은 커밋 시점에 일어나므로 비트랜잭션 테스트
+ */
+@SpringBootTest
+@DisplayName("2차 캐시 통합 테스트")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private SettlementRepository settlementRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SecondLevelCacheEvictor cacheEvictor;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private Cache cache;
+    private Statistics statistics;
+    private User owner;
+    private Settlement settlement;
+    private Settlement otherSettlement;
+    private Participant participant;
+    private Participant otherParticipant;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        cache = sessionFactory.getCache();
+        statistics = sessionFactory.getStatistics();
+
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        owner = userRepository.save(User.builder().name("방장").email("l2-cache-" + suffix + "@example.com").build());
+        settlement = settlementRepository.save(settlement("제주 여행"));
+        otherSettlement = settlementRepository.save(settlement("부산 여행"));
+        participant = participantRepository.save(Participant.builder()
+                .settlementId(settlement.getId())
+                .name("철수")
+                .build());
+        otherParticipant = participantRepository.save(Participant.builder()
+                .settlementId(otherSettlement.getId())
+                .name("영희")
+                .build());
+
+        // 쿼리 캐시 유효성은 ms 단위 타임스탬프 비교 - 위 커밋과 같은 시각에 저장된 결과는 바로 무효로 판단됨
+        Thread.sleep(10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM participants WHERE settlement_id IN (?, ?)",
+                settlement.getId(), otherSettlement.getId());
+        jdbcTemplate.update("DELETE FROM settlements WHERE id IN (?, ?)", settlement.getId(), otherSettlement.getId());
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", owner.getId());
+        cache.evictAllRegions();
+    }
+
+    private Settlement settlement(String title) {
+        return Settlement.builder()
+                .title(title)
+                .type(SettlementType.TRAVEL)
+                .status(SettlementStatus.ACTIVE)
+                .creatorId(owner.getId())
+                .currency("KRW")
+                .build();
+    }
+
+    private SettlementStatus cachedStatus() {
+        return settlementRepository.findById(settlement.getId()).orElseThrow().getStatus();
+    }
+
+    @Test
+    @DisplayName("정산 조회는 2차 캐시에서 읽음 - 다른 인스턴스의 변경은 TTL 동안 보이지 않음")
+    void findById_ServedFromCache() {
+        cachedStatus();
+        assertThat(cache.containsEntity(Settlement.class, settlement.getId())).isTrue();
+
+        jdbcTemplate.update("UPDATE settlements SET status = 'COMPLETED' WHERE id = ?", settlement.getId());
+
+        assertThat(cachedStatus()).isEqualTo(SettlementStatus.ACTIVE);
+    }
+
+    @Test
+    @DisplayName("쓰기 경로 조회는 캐시를 우회해 최신 상태를 읽고 캐시 항목도 갱신")
+    void findByIdBypassingCache_ReadsLatestAndRefreshesCache() {
+        cachedStatus();
+        jdbcTemplate.update("UPDATE settlements SET status = 'COMPLETED' WHERE id = ?", settlement.getId());
+
+        Settlement fresh = settlementRepository.findByIdBypassingCache(settlement.getId()).orElseThrow();
+
+        assertThat(fresh.getStatus()).isEqualTo(SettlementStatus.COMPLETED);
+        assertThat(cachedStatus()).isEqualTo(SettlementStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("참가자 목록은 쿼리 캐시에서 읽음 - JDBC 변경만으로는 반영되지 않음")
+    void findBySettlementId_ServedFromQueryCache() {
+        participantRepository.findBySettlementId(settlement.getId());
+        long hits = statistics.getQueryCacheHitCount();
+
+        jdbcTemplate.update("DELETE FROM participants WHERE id = ?", participant.getId());
+
+        assertThat(participantRepository.findBySettlementId(settlement.getId()))
+                .extracting(Participant::getId)
+                .containsExactly(participant.getId());
+        assertThat(statistics.getQueryCacheHitCount()).isEqualTo(hits + 1);
+    }
+
+    @Test
+    @DisplayName("커밋 후 무효화 - 변경된 참가자 항목과 참가자 쿼리 결과만 비우고 다른 엔티티 항목은 유지")
+    void evictAfterCommit_EvictsOnlyAffectedEntries() {
+        participantRepository.findBySettlementId(settlement.getId());
+        participantRepository.findBySettlementId(otherSettlement.getId());
+        cachedStatus();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM participants WHERE id = ?", participant.getId());
+            cacheEvictor.evictAfterCommit(Participant.class, List.of(participant.getId()));
+            // 커밋 전에는 유지 (다른 트랜잭션이 변경 전 데이터를 다시 캐시하지 않도록)
+            assertThat(cache.containsEntity(Participant.class, participant.getId())).isTrue();
+        });
+
+        assertThat(cache.containsEntity(Participant.class, participant.getId())).isFalse();
+        assertThat(cache.containsEntity(Participant.class, otherParticipant.getId())).isTrue();
+        assertThat(cache.containsEntity(Settlement.class, settlement.getId())).isTrue();
+        assertThat(participantRepository.findBySettlementId(settlement.getId())).isEmpty();
+        assertThat(participantRepository.findBySettlementId(otherSettlement.getId()))
+                .extracting(Participant::getId)
+                .containsExactly(otherParticipant.getId());
+    }
+}
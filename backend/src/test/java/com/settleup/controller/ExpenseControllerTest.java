@@ -30,6 +30,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -340,4 +341,51 @@ class ExpenseControllerTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    @DisplayName("다른 정산의 지출을 자기 정산 경로로 조회·수정·삭제 (404)")
+    void expenseOfOtherSettlement_NotFound() throws Exception {
+        // given - 현재 사용자가 멤버가 아닌 정산의 지출
+        User otherUser = userRepository.save(User.builder()
+                .name("다른유저")
+                .email("other-expense@example.com")
+                .build());
+        Settlement otherSettlement = settlementRepository.save(Settlement.builder()
+                .title("부산 여행")
+                .type(SettlementType.TRAVEL)
+                .status(SettlementStatus.ACTIVE)
+                .creatorId(otherUser.getId())
+                .currency("KRW")
+                .build());
+        Participant otherPayer = participantRepository.save(Participant.builder()
+                .settlementId(otherSettlement.getId())
+                .name("이영희")
+                .isActive(true)
+                .build());
+        Expense otherExpense = expenseRepository.save(Expense.builder()
+                .settlement(otherSettlement)
+                .payer(otherPayer)
+                .amount(new BigDecimal("70000"))
+                .description("숙소")
+                .expenseDate(LocalDateTime.now())
+                .build());
+
+        // when & then
+        mockMvc.perform(get("/settlements/{settlementId}/expenses/{expenseId}",
+                        settlement.getId(), otherExpense.getId()))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(put("/settlements/{settlementId}/expenses/{expenseId}",
+                        settlement.getId(), otherExpense.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"description\":\"변경\"}"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/settlements/{settlementId}/expenses/{expenseId}",
+                        settlement.getId(), otherExpense.getId()))
+                .andExpect(status().isNotFound());
+
+        assertThat(expenseRepository.findById(otherExpense.getId()))
+                .get()
+                .extracting(Expense::getDescription)
+                .isEqualTo("숙소");
+    }
 }
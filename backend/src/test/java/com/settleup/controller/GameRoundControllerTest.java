@@ -0,0 +1,176 @@
+package com.settleup.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.settleup.domain.game.GameRound;
+import com.settleup.domain.settlement.Settlement;
+import com.settleup.domain.settlement.SettlementStatus;
+import com.settleup.domain.settlement.SettlementType;
+import com.settleup.domain.user.User;
+import com.settleup.dto.GameRoundDto.BulkRoundData;
+import com.settleup.dto.GameRoundDto.BulkRoundsRequest;
+import com.settleup.dto.GameRoundDto.EntryData;
+import com.settleup.dto.GameRoundDto.UpdateEntriesRequest;
+import com.settleup.repository.GameRoundRepository;
+import com.settleup.repository.SettlementRepository;
+import com.settleup.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * GameRound API 통합 테스트
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@Transactional
+@DisplayName("GameRound API 통합 테스트")
+class GameRoundControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SettlementRepository settlementRepository;
+
+    @Autowired
+    private GameRoundRepository gameRoundRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private User testUser;
+    private Settlement settlement;
+    private GameRound round;
+
+    @BeforeEach
+    void setUp() {
+        testUser = userRepository.save(User.builder()
+                .name("테스트유저")
+                .email("test-game-round@example.com")
+                .build());
+
+        settlement = settlementRepository.save(Settlement.builder()
+                .title("포커 모임")
+                .type(SettlementType.GAME)
+                .status(SettlementStatus.ACTIVE)
+                .creatorId(testUser.getId())
+                .currency("KRW")
+                .build());
+
+        round = gameRoundRepository.save(GameRound.builder()
+                .settlementId(settlement.getId())
+                .roundNumber(1)
+                .title("1라운드")
+                .build());
+
+        authenticate(testUser);
+    }
+
+    private void authenticate(User user) {
+        var auth = new UsernamePasswordAuthenticationToken(
+                user.getId(), "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        SecurityContextHolder.getContext().setAuthentication(auth);
+    }
+
+    private void authenticateAsOtherUser() {
+        authenticate(userRepository.save(User.builder()
+                .name("다른유저")
+                .email("other-game-round@example.com")
+                .build()));
+    }
+
+    @Test
+    @DisplayName("PUT /game-rounds/{roundId}/entries - 멤버가 아닌 사용자 접근 (403)")
+    void updateRoundEntries_NotMember() throws Exception {
+        // given
+        authenticateAsOtherUser();
+        UpdateEntriesRequest request = UpdateEntriesRequest.builder().entries(List.of()).build();
+
+        // when & then
+        mockMvc.perform(put("/game-rounds/{roundId}/entries", round.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("DELETE /game-rounds/{roundId} - 멤버가 아닌 사용자 접근 (403)")
+    void deleteGameRound_NotMember() throws Exception {
+        // given
+        authenticateAsOtherUser();
+
+        // when & then
+        mockMvc.perform(delete("/game-rounds/{roundId}", round.getId()))
+                .andExpect(status().isForbidden());
+        assertThat(gameRoundRepository.existsById(round.getId())).isTrue();
+    }
+
+    @Test
+    @DisplayName("POST /settlements/{settlementId}/game-rounds/bulk - 엔트리 금액 누락 (400)")
+    void bulkUpsertRounds_MissingAmount() throws Exception {
+        // given
+        BulkRoundsRequest request = BulkRoundsRequest.builder()
+                .rounds(List.of(BulkRoundData.builder()
+                        .entries(List.of(EntryData.builder().participantId(UUID.randomUUID()).build()))
+                        .build()))
+                .build();
+
+        // when & then
+        mockMvc.perform(post("/settlements/{settlementId}/game-rounds/bulk", settlement.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("POST /settlements/{settlementId}/game-rounds/bulk - 라운드 목록 누락 (400)")
+    void bulkUpsertRounds_MissingRounds() throws Exception {
+        mockMvc.perform(post("/settlements/{settlementId}/game-rounds/bulk", settlement.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("PUT /game-rounds/{roundId}/entries - 참가자 ID 누락 (400)")
+    void updateRoundEntries_MissingParticipantId() throws Exception {
+        // given
+        UpdateEntriesRequest request = UpdateEntriesRequest.builder()
+                .entries(List.of(EntryData.builder().amount(new BigDecimal("1000")).build()))
+                .build();
+
+        // when & then
+        mockMvc.perform(put("/game-rounds/{roundId}/entries", round.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("DELETE /game-rounds/{roundId} - 정산 소유자는 삭제 성공")
+    void deleteGameRound_Owner() throws Exception {
+        mockMvc.perform(delete("/game-rounds/{roundId}", round.getId()))
+                .andExpect(status().isNoContent());
+        assertThat(gameRoundRepository.existsById(round.getId())).isFalse();
+    }
+}
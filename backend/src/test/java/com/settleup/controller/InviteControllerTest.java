@@ -30,6 +30,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -218,6 +219,7 @@ class InviteControllerTest {
                 .expiresAt(LocalDateTime.now().plusHours(24))
                 .usedBy(UUID.randomUUID())
                 .usedAt(LocalDateTime.now().minusHours(1))
+                .useCount(1)
                 .build();
         inviteCodeRepository.save(usedCode);
 
@@ -255,4 +257,43 @@ class InviteControllerTest {
                         .content(objectMapper.writeValueAsString(request)))
                 .andExpect(status().isBadRequest());
     }
+
+    @Test
+    @DisplayName("POST /invites/join - 다회용 코드는 maxUses 명까지 참가")
+    void joinByInviteCode_MultiUseCode() throws Exception {
+        // given - 2명까지 사용 가능한 코드
+        SettlementInviteCode multiUseCode = SettlementInviteCode.builder()
+                .settlementId(settlement.getId())
+                .code("MULT1234")
+                .createdBy(ownerUser.getId())
+                .expiresAt(LocalDateTime.now().plusHours(24))
+                .maxUses(2)
+                .build();
+        inviteCodeRepository.save(multiUseCode);
+
+        User secondUser = userRepository.save(User.builder()
+                .name("참가자2").email("joiner2-invite@example.com").build());
+        User thirdUser = userRepository.save(User.builder()
+                .name("참가자3").email("joiner3-invite@example.com").build());
+
+        Map<String, String> request = new HashMap<>();
+        request.put("code", "MULT1234");
+        String body = objectMapper.writeValueAsString(request);
+
+        // when & then
+        mockMvc.perform(post("/invites/join").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated());
+
+        setAuthentication(secondUser.getId());
+        mockMvc.perform(post("/invites/join").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isCreated());
+
+        setAuthentication(thirdUser.getId());
+        mockMvc.perform(post("/invites/join").contentType(MediaType.APPLICATION_JSON).content(body))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("초대 코드 사용 가능 인원이 모두 찼습니다."));
+
+        SettlementInviteCode saved = inviteCodeRepository.findByCode("MULT1234").orElseThrow();
+        assertThat(saved.getUseCount()).isEqualTo(2);
+    }
 }
@@ -26,6 +26,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.UUID;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -216,4 +217,44 @@ class ParticipantControllerTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpect(status().isNotFound());
     }
+
+    @Test
+    @DisplayName("다른 정산의 참가자를 자기 정산 경로로 조회·토글·삭제 (404)")
+    void participantOfOtherSettlement_NotFound() throws Exception {
+        // given - 현재 사용자가 멤버가 아닌 정산의 참가자
+        User otherUser = userRepository.save(User.builder()
+                .name("다른유저")
+                .email("other-participant@example.com")
+                .build());
+        Settlement otherSettlement = settlementRepository.save(Settlement.builder()
+                .title("부산 여행")
+                .type(SettlementType.TRAVEL)
+                .status(SettlementStatus.ACTIVE)
+                .creatorId(otherUser.getId())
+                .currency("KRW")
+                .build());
+        Participant otherParticipant = participantRepository.save(Participant.builder()
+                .settlementId(otherSettlement.getId())
+                .name("이영희")
+                .isActive(true)
+                .build());
+
+        // when & then
+        mockMvc.perform(get("/settlements/{id}/participants/{participantId}",
+                        settlement.getId(), otherParticipant.getId()))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(patch("/settlements/{id}/participants/{participantId}/toggle",
+                        settlement.getId(), otherParticipant.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"isActive\":false}"))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(delete("/settlements/{id}/participants/{participantId}",
+                        settlement.getId(), otherParticipant.getId()))
+                .andExpect(status().isNotFound());
+
+        assertThat(participantRepository.findById(otherParticipant.getId()))
+                .get()
+                .extracting(Participant::getIsActive)
+                .isEqualTo(true);
+    }
 }
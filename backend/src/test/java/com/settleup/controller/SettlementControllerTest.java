@@ -183,6 +183,24 @@ class SettlementControllerTest {
                 .andExpect(status().isNotFound());
     }
 
+    @Test
+    @DisplayName("GET /settlements/{id} - 멤버가 아닌 사용자 접근 (403)")
+    void getSettlement_NotMember() throws Exception {
+        // given
+        User otherUser = userRepository.save(User.builder()
+                .name("다른유저")
+                .email("other-settlement@example.com")
+                .build());
+        var auth = new UsernamePasswordAuthenticationToken(
+                otherUser.getId(), "", List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        SecurityContextHolder.getContext().setAuthentication(auth);
+
+        // when & then
+        mockMvc.perform(get("/settlements/{id}", settlement.getId())
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isForbidden());
+    }
+
     @Test
     @DisplayName("PUT /settlements/{id} - 정산 업데이트 성공")
     void updateSettlement_Success() throws Exception {
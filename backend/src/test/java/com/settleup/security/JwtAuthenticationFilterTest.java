@@ -0,0 +1,47 @@
+package com.settleup.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * JwtAuthenticationFilter 단위 테스트
+ */
+@DisplayName("JwtAuthenticationFilter 테스트")
+class JwtAuthenticationFilterTest {
+
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new JwtAuthenticationFilter(mock(JwtTokenProvider.class));
+    }
+
+    private boolean skipped(String path) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1" + path);
+        request.setServletPath(path);
+        return filter.shouldNotFilter(request);
+    }
+
+    @Test
+    @DisplayName("SecurityConfig 공개 경로는 토큰 파싱 생략")
+    void shouldNotFilter_PublicPaths() {
+        assertThat(skipped("/auth/login/kakao")).isTrue();
+        assertThat(skipped("/auth/refresh")).isTrue();
+        assertThat(skipped("/admin/prediction-logs/export")).isTrue();
+        assertThat(skipped("/actuator/health")).isTrue();
+        assertThat(skipped("/settlements/health")).isTrue();
+    }
+
+    @Test
+    @DisplayName("로그아웃과 인증 필요 경로는 토큰 파싱")
+    void shouldNotFilter_ProtectedPaths() {
+        assertThat(skipped("/auth/logout")).isFalse();
+        assertThat(skipped("/settlements/123")).isFalse();
+        assertThat(skipped("/game-rounds/123/entries")).isFalse();
+    }
+}
@@ -0,0 +1,75 @@
+package com.settleup.security;
+
+import com.settleup.domain.user.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.Authentication;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * JwtTokenProvider 단위 테스트
+ */
+@DisplayName("JwtTokenProvider 테스트")
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "test-secret-key-must-be-at-least-256-bits-long-for-hs256-algorithm";
+
+    private JwtProperties jwtProperties;
+    private JwtTokenProvider jwtTokenProvider;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtProperties = new JwtProperties();
+        jwtProperties.setSecret(SECRET);
+        jwtTokenProvider = new JwtTokenProvider(jwtProperties);
+        jwtTokenProvider.init();
+        user = User.builder().id(UUID.randomUUID()).name("김철수").build();
+    }
+
+    @Test
+    @DisplayName("유효한 토큰 - 인증 객체 반환, 재요청 시 캐시에서 동일 사용자 반환")
+    void resolveAuthentication_ValidToken() {
+        String token = jwtTokenProvider.createAccessToken(user);
+
+        Authentication first = jwtTokenProvider.resolveAuthentication(token);
+        Authentication second = jwtTokenProvider.resolveAuthentication(token);
+
+        assertThat(first.getPrincipal()).isEqualTo(user.getId());
+        assertThat(second.getPrincipal()).isEqualTo(user.getId());
+        assertThat(second.getAuthorities()).extracting("authority").containsExactly("ROLE_USER");
+    }
+
+    @Test
+    @DisplayName("만료된 토큰 - null 반환")
+    void resolveAuthentication_ExpiredToken() {
+        jwtProperties.setAccessTokenExpiry(-1000);
+        String token = jwtTokenProvider.createAccessToken(user);
+
+        assertThat(jwtTokenProvider.resolveAuthentication(token)).isNull();
+        assertThat(jwtTokenProvider.validateToken(token)).isFalse();
+    }
+
+    @Test
+    @DisplayName("다른 키로 서명된 토큰 - null 반환")
+    void resolveAuthentication_ForeignSignature() {
+        JwtProperties otherProperties = new JwtProperties();
+        otherProperties.setSecret(SECRET + "-other");
+        JwtTokenProvider otherProvider = new JwtTokenProvider(otherProperties);
+        otherProvider.init();
+        String token = otherProvider.createAccessToken(user);
+
+        assertThat(jwtTokenProvider.resolveAuthentication(token)).isNull();
+        assertThat(jwtTokenProvider.validateToken(token)).isFalse();
+    }
+
+    @Test
+    @DisplayName("형식이 잘못된 토큰 - null 반환")
+    void resolveAuthentication_MalformedToken() {
+        assertThat(jwtTokenProvider.resolveAuthentication("not-a-jwt")).isNull();
+    }
+}
@@ -0,0 +1,148 @@
+package com.settleup.security;
+
+import com.settleup.domain.settlement.SettlementMember;
+import com.settleup.domain.settlement.SettlementMember.MemberRole;
+import com.settleup.exception.ForbiddenException;
+import com.settleup.exception.ResourceNotFoundException;
+import com.settleup.repository.SettlementMemberRepository;
+import com.settleup.repository.SettlementRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * SettlementAccessService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SettlementAccessService 테스트")
+class SettlementAccessServiceTest {
+
+    @Mock
+    private SettlementMemberRepository memberRepository;
+
+    @Mock
+    private SettlementRepository settlementRepository;
+
+    @InjectMocks
+    private SettlementAccessService accessService;
+
+    private UUID userId;
+    private UUID settlementId;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(accessService, "maxUsers", 100L);
+        ReflectionTestUtils.setField(accessService, "ttl", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(accessService, "missReloadInterval", Duration.ofMinutes(1));
+        accessService.init();
+        userId = UUID.randomUUID();
+        settlementId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("멤버십은 사용자당 한 번만 조회 후 캐시")
+    void checkAccess_CachesMemberships() {
+        when(memberRepository.findByUserId(userId)).thenReturn(List.of(member(settlementId, MemberRole.MEMBER)));
+        when(settlementRepository.findIdsByCreatorId(userId)).thenReturn(Collections.emptyList());
+
+        accessService.checkAccess(settlementId, userId, MemberRole.MEMBER);
+        accessService.checkAccess(settlementId, userId, MemberRole.MEMBER);
+
+        verify(memberRepository, times(1)).findByUserId(userId);
+    }
+
+    @Test
+    @DisplayName("정산 생성자는 멤버 행이 없어도 OWNER")
+    void findRole_CreatorIsOwner() {
+        when(memberRepository.findByUserId(userId)).thenReturn(Collections.emptyList());
+        when(settlementRepository.findIdsByCreatorId(userId)).thenReturn(List.of(settlementId));
+
+        assertThat(accessService.findRole(settlementId, userId)).isEqualTo(MemberRole.OWNER);
+    }
+
+    @Test
+    @DisplayName("OWNER 전용 작업에 MEMBER 접근 - ForbiddenException")
+    void checkAccess_OwnerRequired() {
+        when(memberRepository.findByUserId(userId)).thenReturn(List.of(member(settlementId, MemberRole.MEMBER)));
+        when(settlementRepository.findIdsByCreatorId(userId)).thenReturn(Collections.emptyList());
+
+        assertThatThrownBy(() -> accessService.checkAccess(settlementId, userId, MemberRole.OWNER))
+                .isInstanceOf(ForbiddenException.class);
+    }
+
+    @Test
+    @DisplayName("권한 없음 - 정산 존재 여부에 따라 403/404")
+    void checkAccess_NotMember() {
+        when(memberRepository.findByUserId(userId)).thenReturn(Collections.emptyList());
+        when(settlementRepository.findIdsByCreatorId(userId)).thenReturn(Collections.emptyList());
+        when(settlementRepository.existsById(settlementId)).thenReturn(true, false);
+
+        assertThatThrownBy(() -> accessService.checkAccess(settlementId, userId, MemberRole.MEMBER))
+                .isInstanceOf(ForbiddenException.class);
+        assertThatThrownBy(() -> accessService.checkAccess(settlementId, userId, MemberRole.MEMBER))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("참가 후 무효화 - 다음 요청에서 새 멤버십 반영")
+    void evict_ReloadsMemberships() {
+        when(settlementRepository.findIdsByCreatorId(userId)).thenReturn(Collections.emptyList());
+        when(memberRepository.findByUserId(userId))
+                .thenReturn(Collections.emptyList())
+                .thenReturn(List.of(member(settlementId, MemberRole.MEMBER)));
+
+        assertThat(accessService.findRole(settlementId, userId)).isNull();
+        accessService.evict(userId);
+
+        assertThat(accessService.findRole(settlementId, userId)).isEqualTo(MemberRole.MEMBER);
+    }
+
+    @Test
+    @DisplayName("권한 없는 정산 반복 요청 - 캐시 미스 직후와 재조회 간격 내에는 다시 조회하지 않음")
+    void findRole_MissDoesNotReloadWithinInterval() {
+        when(memberRepository.findByUserId(userId)).thenReturn(Collections.emptyList());
+        when(settlementRepository.findIdsByCreatorId(userId)).thenReturn(Collections.emptyList());
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(accessService.findRole(settlementId, userId)).isNull();
+        }
+
+        verify(memberRepository, times(1)).findByUserId(userId);
+        verify(settlementRepository, times(1)).findIdsByCreatorId(userId);
+    }
+
+    @Test
+    @DisplayName("재조회 간격이 지나면 캐시에 없는 정산은 다시 조회 (다른 인스턴스에서 참가한 경우)")
+    void findRole_MissReloadsAfterInterval() throws InterruptedException {
+        ReflectionTestUtils.setField(accessService, "missReloadInterval", Duration.ofMillis(10));
+        when(settlementRepository.findIdsByCreatorId(userId)).thenReturn(Collections.emptyList());
+        when(memberRepository.findByUserId(userId))
+                .thenReturn(Collections.emptyList())
+                .thenReturn(List.of(member(settlementId, MemberRole.MEMBER)));
+
+        assertThat(accessService.findRole(settlementId, userId)).isNull();
+        Thread.sleep(30);
+        assertThat(accessService.findRole(settlementId, userId)).isEqualTo(MemberRole.MEMBER);
+    }
+
+    private SettlementMember member(UUID settlementId, MemberRole role) {
+        return SettlementMember.builder()
+                .settlementId(settlementId)
+                .userId(userId)
+                .role(role)
+                .build();
+    }
+}
@@ -14,8 +14,9 @@ import com.settleup.exception.ResourceNotFoundException;
 import com.settleup.repository.ExpenseRepository;
 import com.settleup.repository.ExpenseSplitRepository;
 import com.settleup.repository.ParticipantRepository;
-import com.settleup.repository.PredictionLogRepository;
 import com.settleup.repository.SettlementRepository;
+import com.settleup.service.ai.PredictionLogWriter;
+import com.settleup.service.archive.SettlementArchiveService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -59,7 +60,10 @@ class ExpenseServiceTest {
     private SettlementService settlementService;
 
     @Mock
-    private PredictionLogRepository predictionLogRepository;
+    private PredictionLogWriter predictionLogWriter;
+
+    @Mock
+    private SettlementArchiveService settlementArchiveService;
 
     @InjectMocks
     private ExpenseService expenseService;
@@ -125,7 +129,7 @@ class ExpenseServiceTest {
                 .expenseDate(LocalDateTime.now())
                 .build();
 
-        when(settlementRepository.findById(settlementId)).thenReturn(Optional.of(settlement));
+        when(settlementRepository.findByIdBypassingCache(settlementId)).thenReturn(Optional.of(settlement));
         when(participantRepository.findById(participantId)).thenReturn(Optional.of(participant));
         when(expenseRepository.save(any(Expense.class))).thenReturn(expense);
 
@@ -142,7 +146,8 @@ class ExpenseServiceTest {
         assertThat(response.getCategory()).isEqualTo("식비");
         assertThat(response.getDescription()).isEqualTo("저녁 식사");
 
-        verify(settlementRepository, times(1)).findById(settlementId);
+        verify(settlementRepository, times(1)).findByIdBypassingCache(settlementId);
+        verify(settlementService).validateSettlementNotCompleted(settlement);
         verify(participantRepository, times(1)).findById(participantId);
         verify(expenseRepository, times(1)).save(any(Expense.class));
     }
@@ -158,7 +163,7 @@ class ExpenseServiceTest {
                 .expenseDate(LocalDateTime.now())
                 .build();
 
-        when(settlementRepository.findById(settlementId)).thenReturn(Optional.empty());
+        when(settlementRepository.findByIdBypassingCache(settlementId)).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> expenseService.createExpense(settlementId, request, null))
@@ -179,7 +184,7 @@ class ExpenseServiceTest {
                 .expenseDate(LocalDateTime.now())
                 .build();
 
-        when(settlementRepository.findById(settlementId)).thenReturn(Optional.of(settlement));
+        when(settlementRepository.findByIdBypassingCache(settlementId)).thenReturn(Optional.of(settlement));
         when(participantRepository.findById(participantId)).thenReturn(Optional.empty());
 
         // when & then
@@ -209,7 +214,7 @@ class ExpenseServiceTest {
                 .expenseDate(LocalDateTime.now())
                 .build();
 
-        when(settlementRepository.findById(settlementId)).thenReturn(Optional.of(settlement));
+        when(settlementRepository.findByIdBypassingCache(settlementId)).thenReturn(Optional.of(settlement));
         when(participantRepository.findById(participantId)).thenReturn(Optional.of(otherParticipant));
 
         // when & then
@@ -235,7 +240,7 @@ class ExpenseServiceTest {
 
         List<Expense> expenses = Arrays.asList(expense, expense2);
 
-        when(settlementRepository.existsById(settlementId)).thenReturn(true);
+        when(settlementRepository.findById(settlementId)).thenReturn(Optional.of(settlement));
         when(expenseRepository.findBySettlementIdOrderByExpenseDateDesc(settlementId)).thenReturn(expenses);
         when(expenseSplitRepository.findByExpenseId(any())).thenReturn(Arrays.asList());
 
@@ -247,7 +252,7 @@ class ExpenseServiceTest {
         assertThat(responses.get(0).getDescription()).isEqualTo("저녁 식사");
         assertThat(responses.get(1).getDescription()).isEqualTo("점심 식사");
 
-        verify(settlementRepository, times(1)).existsById(settlementId);
+        verify(settlementRepository, times(1)).findById(settlementId);
         verify(expenseRepository, times(1)).findBySettlementIdOrderByExpenseDateDesc(settlementId);
     }
 
@@ -255,7 +260,7 @@ class ExpenseServiceTest {
     @DisplayName("정산의 모든 지출 조회 - 정산을 찾을 수 없음")
     void getExpensesBySettlement_SettlementNotFound() {
         // given
-        when(settlementRepository.existsById(settlementId)).thenReturn(false);
+        when(settlementRepository.findById(settlementId)).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> expenseService.getExpensesBySettlement(settlementId))
@@ -269,14 +274,15 @@ class ExpenseServiceTest {
     @DisplayName("정산의 모든 지출 조회 - 빈 목록")
     void getExpensesBySettlement_EmptyList() {
         // given
-        when(settlementRepository.existsById(settlementId)).thenReturn(true);
+        when(settlementRepository.findById(settlementId)).thenReturn(Optional.of(settlement));
         when(expenseRepository.findBySettlementIdOrderByExpenseDateDesc(settlementId)).thenReturn(Arrays.asList());
 
         // when
         List<ExpenseResponse> responses = expenseService.getExpensesBySettlement(settlementId);
 
-        // then
+        // then - 보관되지 않은 정산은 결과가 비어도 아카이브를 조회하지 않음
         assertThat(responses).isEmpty();
+        verify(settlementArchiveService, never()).findArchived(any(UUID.class));
     }
 
     @Test
@@ -287,7 +293,7 @@ class ExpenseServiceTest {
         when(expenseSplitRepository.findByExpenseId(expenseId)).thenReturn(Arrays.asList());
 
         // when
-        ExpenseResponse response = expenseService.getExpense(expenseId);
+        ExpenseResponse response = expenseService.getExpense(settlementId, expenseId);
 
         // then
         assertThat(response).isNotNull();
@@ -304,7 +310,7 @@ class ExpenseServiceTest {
         when(expenseRepository.findById(expenseId)).thenReturn(Optional.empty());
 
         // when & then
-        assertThatThrownBy(() -> expenseService.getExpense(expenseId))
+        assertThatThrownBy(() -> expenseService.getExpense(settlementId, expenseId))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Expense");
 
@@ -320,7 +326,7 @@ class ExpenseServiceTest {
         doNothing().when(expenseRepository).deleteById(expenseId);
 
         // when
-        expenseService.deleteExpense(expenseId);
+        expenseService.deleteExpense(settlementId, expenseId);
 
         // then
         verify(expenseRepository, times(1)).findById(expenseId);
@@ -335,7 +341,7 @@ class ExpenseServiceTest {
         when(expenseRepository.findById(expenseId)).thenReturn(Optional.empty());
 
         // when & then
-        assertThatThrownBy(() -> expenseService.deleteExpense(expenseId))
+        assertThatThrownBy(() -> expenseService.deleteExpense(settlementId, expenseId))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Expense");
 
@@ -343,6 +349,21 @@ class ExpenseServiceTest {
         verify(expenseRepository, never()).deleteById(any());
     }
 
+    @Test
+    @DisplayName("지출 삭제 - 경로의 정산에 속하지 않은 지출")
+    void deleteExpense_OtherSettlement() {
+        // given
+        when(expenseRepository.findById(expenseId)).thenReturn(Optional.of(expense));
+
+        // when & then
+        assertThatThrownBy(() -> expenseService.deleteExpense(UUID.randomUUID(), expenseId))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Expense");
+
+        verify(settlementService, never()).validateSettlementNotCompleted(any(UUID.class));
+        verify(expenseRepository, never()).deleteById(any());
+    }
+
     @Test
     @DisplayName("지출 분담 설정 - 균등분할 성공")
     void setExpenseSplits_EqualSplit_Success() {
@@ -369,7 +390,7 @@ class ExpenseServiceTest {
         when(expenseSplitRepository.save(any(ExpenseSplit.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // when
-        ExpenseResponse response = expenseService.setExpenseSplits(expenseId, request);
+        ExpenseResponse response = expenseService.setExpenseSplits(settlementId, expenseId, request);
 
         // then
         assertThat(response).isNotNull();
@@ -408,7 +429,7 @@ class ExpenseServiceTest {
         when(expenseSplitRepository.save(any(ExpenseSplit.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // when
-        ExpenseResponse response = expenseService.setExpenseSplits(expenseId, request);
+        ExpenseResponse response = expenseService.setExpenseSplits(settlementId, expenseId, request);
 
         // then
         assertThat(response).isNotNull();
@@ -447,7 +468,7 @@ class ExpenseServiceTest {
         when(expenseSplitRepository.save(any(ExpenseSplit.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // when & then
-        assertThatThrownBy(() -> expenseService.setExpenseSplits(expenseId, request))
+        assertThatThrownBy(() -> expenseService.setExpenseSplits(settlementId, expenseId, request))
                 .isInstanceOf(BusinessException.class)
                 .hasMessageContaining("분담 금액 합계");
 
@@ -467,7 +488,7 @@ class ExpenseServiceTest {
         when(expenseRepository.findById(expenseId)).thenReturn(Optional.empty());
 
         // when & then
-        assertThatThrownBy(() -> expenseService.setExpenseSplits(expenseId, request))
+        assertThatThrownBy(() -> expenseService.setExpenseSplits(settlementId, expenseId, request))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Expense");
 
@@ -500,7 +521,7 @@ class ExpenseServiceTest {
         doNothing().when(expenseSplitRepository).deleteByExpenseId(expenseId);
 
         // when & then
-        assertThatThrownBy(() -> expenseService.setExpenseSplits(expenseId, request))
+        assertThatThrownBy(() -> expenseService.setExpenseSplits(settlementId, expenseId, request))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Participant");
 
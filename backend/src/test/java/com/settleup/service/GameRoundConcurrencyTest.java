@@ -0,0 +1,161 @@
+package com.settleup.service;
+
+import com.settleup.domain.game.GameRound;
+import com.settleup.domain.settlement.Settlement;
+import com.settleup.domain.settlement.SettlementStatus;
+import com.settleup.domain.settlement.SettlementType;
+import com.settleup.domain.user.User;
+import com.settleup.dto.GameRoundDto.BulkRoundData;
+import com.settleup.dto.GameRoundDto.BulkRoundsRequest;
+import com.settleup.dto.GameRoundDto.GameRoundWithEntriesResponse;
+import com.settleup.repository.GameRoundRepository;
+import com.settleup.repository.SettlementRepository;
+import com.settleup.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 게임 라운드 동시 생성 테스트
+ * 여러 요청이 동시에 라운드를 만들어도 번호가 중복·누락 없이 1..N 으로 배정되어야 함 (트랜잭션 커밋 필요 → 비트랜잭션 테스트)
+ */
+@SpringBootTest
+@DisplayName("게임 라운드 동시 생성 테스트")
+class GameRoundConcurrencyTest {
+
+    private static final int CREATORS = 32;
+
+    @Autowired
+    private GameRoundService gameRoundService;
+
+    @Autowired
+    private GameRoundRepository gameRoundRepository;
+
+    @Autowired
+    private SettlementRepository settlementRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private Settlement settlement;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        owner = userRepository.save(User.builder().name("방장").email("round-owner-" + suffix + "@example.com").build());
+        settlement = settlementRepository.save(Settlement.builder()
+                .title("단톡방 포커")
+                .type(SettlementType.GAME)
+                .status(SettlementStatus.ACTIVE)
+                .creatorId(owner.getId())
+                .currency("KRW")
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        gameRoundRepository.deleteAll(gameRoundRepository.findBySettlementIdOrderByRoundNumberAsc(settlement.getId()));
+        settlementRepository.deleteById(settlement.getId());
+        userRepository.delete(owner);
+    }
+
+    @Test
+    @DisplayName("동시 생성 - 모든 요청이 성공하고 라운드 번호는 1..N")
+    void parallelCreate_AssignsSequentialNumbers() throws Exception {
+        runAll(IntStream.range(0, CREATORS)
+                .<Callable<?>>mapToObj(i -> () -> gameRoundService.createGameRound(settlement.getId(), null))
+                .toList());
+
+        assertRoundNumbers(CREATORS);
+    }
+
+    @Test
+    @DisplayName("단건 생성과 일괄 업로드가 섞여도 라운드 번호는 중복 없이 연속")
+    void parallelCreateAndBulk_AssignsSequentialNumbers() throws Exception {
+        BulkRoundsRequest twoRounds = BulkRoundsRequest.builder()
+                .rounds(List.of(BulkRoundData.builder().build(), BulkRoundData.builder().build()))
+                .build();
+        List<Callable<?>> tasks = new ArrayList<>();
+        for (int i = 0; i < CREATORS; i++) {
+            tasks.add(i % 2 == 0
+                    ? () -> gameRoundService.createGameRound(settlement.getId(), null)
+                    : () -> gameRoundService.bulkUpsertRounds(settlement.getId(), twoRounds));
+        }
+
+        runAll(tasks);
+
+        // 단건 CREATORS/2 개 + 일괄 CREATORS/2 회 × 2개
+        assertRoundNumbers(CREATORS / 2 * 3);
+    }
+
+    @Test
+    @DisplayName("같은 clientRoundId 동시 재시도 - 라운드는 하나만 저장되고 모든 응답이 저장된 번호를 반환")
+    void parallelBulkRetry_RespondsWithStoredRound() throws Exception {
+        UUID clientRoundId = UUID.randomUUID();
+        BulkRoundsRequest retry = BulkRoundsRequest.builder()
+                .rounds(List.of(BulkRoundData.builder().clientRoundId(clientRoundId).build()))
+                .build();
+
+        List<Object> results = runAll(IntStream.range(0, CREATORS)
+                .<Callable<?>>mapToObj(i -> () -> gameRoundService.bulkUpsertRounds(settlement.getId(), retry))
+                .toList());
+
+        List<GameRound> stored = gameRoundRepository.findBySettlementIdOrderByRoundNumberAsc(settlement.getId());
+        assertThat(stored).extracting(GameRound::getId).containsExactly(clientRoundId);
+        assertThat(results)
+                .flatExtracting(result -> (List<?>) result)
+                .extracting(response -> ((GameRoundWithEntriesResponse) response).getRound().getRoundNumber())
+                .containsOnly(stored.get(0).getRoundNumber());
+    }
+
+    /**
+     * 모든 작업을 동시에 시작하고 전부 예외 없이 끝났는지 확인 (제약 조건 위반 등은 ExecutionException 으로 실패)
+     *
+     * @return 작업 순서대로의 결과
+     */
+    private List<Object> runAll(List<Callable<?>> tasks) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(tasks.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (Callable<?> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return task.call();
+                }));
+            }
+            start.countDown();
+
+            List<Object> results = new ArrayList<>();
+            for (Future<?> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void assertRoundNumbers(int expected) {
+        List<Integer> numbers = gameRoundRepository.findBySettlementIdOrderByRoundNumberAsc(settlement.getId()).stream()
+                .map(GameRound::getRoundNumber)
+                .toList();
+        assertThat(numbers).containsExactlyElementsOf(IntStream.rangeClosed(1, expected).boxed().toList());
+    }
+}
@@ -0,0 +1,549 @@
+package com.settleup.service;
+
+import com.settleup.domain.game.GameRound;
+import com.settleup.domain.game.GameRoundEntry;
+import com.settleup.dto.GameRoundDto.BulkRoundData;
+import com.settleup.dto.GameRoundDto.BulkRoundsRequest;
+import com.settleup.dto.GameRoundDto.EntryData;
+import com.settleup.domain.participant.Participant;
+import com.settleup.domain.settlement.Settlement;
+import com.settleup.dto.GameRoundDto.GameRoundResponse;
+import com.settleup.dto.GameRoundDto.GameRoundWithEntriesResponse;
+import com.settleup.dto.GameRoundDto.LeaderboardParticipant;
+import com.settleup.dto.GameRoundDto.LeaderboardResponse;
+import com.settleup.dto.GameRoundDto.LeaderboardRound;
+import com.settleup.dto.GameRoundDto.ParticipantTotalResponse;
+import com.settleup.dto.GameRoundDto.UpdateEntriesRequest;
+import com.settleup.exception.BusinessException;
+import com.settleup.exception.ForbiddenException;
+import com.settleup.exception.ResourceNotFoundException;
+import com.settleup.repository.GameRoundEntryRepository;
+import com.settleup.repository.GameRoundRepository;
+import com.settleup.repository.ParticipantRepository;
+import com.settleup.repository.SettlementRepository;
+import com.settleup.security.SettlementAccessService;
+import com.settleup.service.archive.ArchivedSettlement;
+import com.settleup.service.archive.SettlementArchiveService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * GameRoundService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("GameRoundService 테스트")
+class GameRoundServiceTest {
+
+    @Mock
+    private GameRoundRepository gameRoundRepository;
+
+    @Mock
+    private GameRoundEntryRepository gameRoundEntryRepository;
+
+    @Mock
+    private SettlementRepository settlementRepository;
+
+    @Mock
+    private ParticipantRepository participantRepository;
+
+    @Mock
+    private SettlementArchiveService settlementArchiveService;
+
+    @Mock
+    private SettlementAccessService settlementAccessService;
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private GameRoundService gameRoundService;
+
+    private UUID roundId;
+    private UUID userId;
+    private UUID alice;
+    private UUID bob;
+    private UUID carol;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        gameRoundService = new GameRoundService(gameRoundRepository, gameRoundEntryRepository,
+                settlementRepository, participantRepository, settlementArchiveService, settlementAccessService, jdbcTemplate,
+                meterRegistry);
+        gameRoundService.initMetrics();
+
+        roundId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+        alice = UUID.randomUUID();
+        bob = UUID.randomUUID();
+        carol = UUID.randomUUID();
+
+        GameRound round = GameRound.builder().id(roundId).settlementId(UUID.randomUUID()).roundNumber(1).build();
+        lenient().when(gameRoundRepository.findById(roundId)).thenReturn(Optional.of(round));
+        lenient().when(settlementRepository.findById(any())).thenReturn(Optional.of(Settlement.builder().build()));
+        lenient().when(settlementRepository.findByIdBypassingCache(any())).thenReturn(Optional.of(Settlement.builder().build()));
+        lenient().when(participantRepository.findBySettlementId(any())).thenReturn(Collections.emptyList());
+    }
+
+    private List<Participant> participants() {
+        return List.of(
+                Participant.builder().id(alice).name("앨리스").isActive(true).build(),
+                Participant.builder().id(bob).name("밥").isActive(true).build(),
+                Participant.builder().id(carol).name("캐롤").isActive(true).build());
+    }
+
+    private GameRoundEntry existing(UUID participantId, String amount) {
+        return GameRoundEntry.builder()
+                .id(UUID.randomUUID())
+                .roundId(roundId)
+                .participantId(participantId)
+                .amount(new BigDecimal(amount))
+                .createdAt(LocalDateTime.now().minusMinutes(5))
+                .build();
+    }
+
+    private Settlement archivedSettlement(UUID settlementId) {
+        return Settlement.builder().id(settlementId).archivedAt(LocalDateTime.now()).build();
+    }
+
+    private EntryData entry(UUID participantId, String amount) {
+        return EntryData.builder().participantId(participantId).amount(new BigDecimal(amount)).build();
+    }
+
+    @Test
+    @DisplayName("한 명의 점수만 바뀌면 해당 행만 upsert, 빠진 참가자만 삭제")
+    void updateRoundEntries_AppliesOnlyDiff() {
+        GameRoundEntry aliceEntry = existing(alice, "10000.00");
+        GameRoundEntry bobEntry = existing(bob, "-10000.00");
+        GameRoundEntry carolEntry = existing(carol, "0.00");
+        when(gameRoundEntryRepository.findByRoundId(roundId)).thenReturn(List.of(aliceEntry, bobEntry, carolEntry));
+        when(jdbcTemplate.update(startsWith("DELETE FROM game_round_entries"), any(SqlParameterSource.class)))
+                .thenReturn(1);
+
+        UpdateEntriesRequest request = UpdateEntriesRequest.builder()
+                .entries(List.of(entry(alice, "10000"), entry(bob, "-15000")))
+                .build();
+
+        GameRoundWithEntriesResponse response = gameRoundService.updateRoundEntries(roundId, request, userId);
+
+        ArgumentCaptor<MapSqlParameterSource[]> upserts = ArgumentCaptor.forClass(MapSqlParameterSource[].class);
+        verify(jdbcTemplate).batchUpdate(contains("ON CONFLICT (round_id, participant_id)"), upserts.capture());
+        assertThat(upserts.getValue()).hasSize(1);
+        assertThat(upserts.getValue()[0].getValue("id")).isEqualTo(bobEntry.getId());
+
+        ArgumentCaptor<MapSqlParameterSource> deleted = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(jdbcTemplate).update(startsWith("DELETE FROM game_round_entries"), deleted.capture());
+        assertThat((List<?>) deleted.getValue().getValue("ids")).containsExactly(carolEntry.getId());
+
+        verify(gameRoundEntryRepository, never()).deleteByRoundId(any());
+        assertThat(response.getEntries()).hasSize(2);
+        assertThat(response.getTotalAmount()).isEqualByComparingTo("-5000");
+        assertThat(meterRegistry.summary("settleup.game_round_entries.rows_touched").totalAmount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("변경 사항이 없으면 쓰기 없음")
+    void updateRoundEntries_NoChanges() {
+        when(gameRoundEntryRepository.findByRoundId(roundId))
+                .thenReturn(List.of(existing(alice, "5000.00"), existing(bob, "-5000.00")));
+
+        UpdateEntriesRequest request = UpdateEntriesRequest.builder()
+                .entries(List.of(entry(alice, "5000"), entry(bob, "-5000")))
+                .build();
+
+        gameRoundService.updateRoundEntries(roundId, request, userId);
+
+        verifyNoInteractions(jdbcTemplate);
+        assertThat(meterRegistry.summary("settleup.game_round_entries.rows_touched").count()).isEqualTo(1);
+        assertThat(meterRegistry.summary("settleup.game_round_entries.rows_touched").totalAmount()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 참가자 엔트리가 중복되면 거부")
+    void updateRoundEntries_DuplicateParticipant() {
+        when(gameRoundEntryRepository.findByRoundId(roundId)).thenReturn(Collections.emptyList());
+
+        UpdateEntriesRequest request = UpdateEntriesRequest.builder()
+                .entries(List.of(entry(alice, "1000"), entry(alice, "-1000")))
+                .build();
+
+        assertThatThrownBy(() -> gameRoundService.updateRoundEntries(roundId, request, userId))
+                .isInstanceOf(BusinessException.class);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("라운드 엔트리 수정 - 라운드가 속한 정산의 멤버가 아니면 거부")
+    void updateRoundEntries_NotMember() {
+        doThrow(new ForbiddenException("해당 정산에 접근 권한이 없습니다."))
+                .when(settlementAccessService).checkAccess(any(), eq(userId), any());
+
+        UpdateEntriesRequest request = UpdateEntriesRequest.builder()
+                .entries(List.of(entry(alice, "1000"), entry(bob, "-1000")))
+                .build();
+
+        assertThatThrownBy(() -> gameRoundService.updateRoundEntries(roundId, request, userId))
+                .isInstanceOf(ForbiddenException.class);
+        verify(gameRoundEntryRepository, never()).findByRoundId(any());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("참가자별 누적 금액 - DB 집계 결과를 금액 내림차순으로 반환")
+    void getParticipantTotals_UsesSqlAggregate() {
+        UUID settlementId = UUID.randomUUID();
+        when(gameRoundEntryRepository.sumIncludedAmountsByParticipant(settlementId)).thenReturn(List.of(
+                new Object[]{bob, new BigDecimal("-3000")},
+                new Object[]{alice, new BigDecimal("3000")}));
+        when(participantRepository.findBySettlementId(settlementId)).thenReturn(List.of(
+                Participant.builder().id(alice).name("앨리스").build(),
+                Participant.builder().id(bob).name("밥").build()));
+
+        List<ParticipantTotalResponse> totals = gameRoundService.getParticipantTotals(settlementId);
+
+        assertThat(totals).extracting(ParticipantTotalResponse::getParticipantName).containsExactly("앨리스", "밥");
+        verify(gameRoundEntryRepository, never()).findByRoundIdIn(any());
+        verify(settlementArchiveService, never()).findArchived(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("라운드 생성 - 정산 카운터 증가와 삽입을 한 문장으로 처리")
+    void createGameRound_UsesAtomicCounter() {
+        UUID settlementId = UUID.randomUUID();
+        GameRound created = GameRound.builder()
+                .id(UUID.randomUUID()).settlementId(settlementId).roundNumber(4).title("4라운드").build();
+        when(jdbcTemplate.query(contains("RETURNING next_round_number"), any(SqlParameterSource.class),
+                any(RowMapper.class))).thenReturn(List.of(created));
+
+        GameRoundResponse response = gameRoundService.createGameRound(settlementId, null);
+
+        assertThat(response.getRoundNumber()).isEqualTo(4);
+        assertThat(response.getTitle()).isEqualTo("4라운드");
+        verify(gameRoundRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("라운드 생성 - 보관 여부는 번호 증가 UPDATE 조건으로 확인하고 정산을 따로 조회하지 않음")
+    void createGameRound_ChecksArchivedInCounterUpdate() {
+        UUID settlementId = UUID.randomUUID();
+        GameRound created = GameRound.builder()
+                .id(UUID.randomUUID()).settlementId(settlementId).roundNumber(1).title("1라운드").build();
+        when(jdbcTemplate.query(contains("archived_at IS NULL"), any(SqlParameterSource.class),
+                any(RowMapper.class))).thenReturn(List.of(created));
+
+        gameRoundService.createGameRound(settlementId, null);
+
+        verifyNoInteractions(settlementRepository);
+    }
+
+    @Test
+    @DisplayName("라운드 생성 - 갱신된 정산 행이 없고 정산도 없으면 404")
+    void createGameRound_SettlementNotFound() {
+        UUID settlementId = UUID.randomUUID();
+        when(jdbcTemplate.query(contains("RETURNING next_round_number"), any(SqlParameterSource.class),
+                any(RowMapper.class))).thenReturn(List.of());
+        when(settlementRepository.existsById(settlementId)).thenReturn(false);
+
+        assertThatThrownBy(() -> gameRoundService.createGameRound(settlementId, null))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("라운드 생성 - 갱신된 정산 행이 없고 정산은 있으면 보관된 정산으로 거부")
+    void createGameRound_ArchivedSettlement() {
+        UUID settlementId = UUID.randomUUID();
+        when(jdbcTemplate.query(contains("RETURNING next_round_number"), any(SqlParameterSource.class),
+                any(RowMapper.class))).thenReturn(List.of());
+        when(settlementRepository.existsById(settlementId)).thenReturn(true);
+
+        assertThatThrownBy(() -> gameRoundService.createGameRound(settlementId, null))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("보관된 정산");
+        verify(settlementRepository, never()).findByIdBypassingCache(any());
+    }
+
+    @Test
+    @DisplayName("라운드 삭제 - 보관된 정산의 라운드면 거부")
+    void deleteGameRound_ArchivedSettlement() {
+        when(settlementRepository.findByIdBypassingCache(any())).thenReturn(Optional.of(archivedSettlement(UUID.randomUUID())));
+
+        assertThatThrownBy(() -> gameRoundService.deleteGameRound(roundId, userId))
+                .isInstanceOf(BusinessException.class);
+        verify(gameRoundRepository, never()).deleteById(any());
+    }
+
+    @Test
+    @DisplayName("라운드 목록 - 보관된 정산만 아카이브 번들에서 조회하고 hot 테이블은 조회하지 않음")
+    void getGameRounds_ArchivedSettlementReadsBundle() {
+        UUID settlementId = UUID.randomUUID();
+        Settlement settlement = archivedSettlement(settlementId);
+        when(settlementRepository.findById(settlementId)).thenReturn(Optional.of(settlement));
+        when(settlementArchiveService.findArchived(settlement)).thenReturn(Optional.of(
+                new ArchivedSettlement(List.of(), List.of(), Map.of(), List.of(), List.of(), List.of())));
+
+        assertThat(gameRoundService.getGameRounds(settlementId)).isEmpty();
+        verify(gameRoundRepository, never()).findBySettlementIdOrderByRoundNumberAsc(any());
+    }
+
+    @Test
+    @DisplayName("라운드 목록 - 라운드가 없는 보관 전 정산은 아카이브를 조회하지 않음")
+    void getGameRounds_LiveEmptySettlementSkipsArchive() {
+        UUID settlementId = UUID.randomUUID();
+        when(gameRoundRepository.findBySettlementIdOrderByRoundNumberAsc(settlementId))
+                .thenReturn(Collections.emptyList());
+
+        assertThat(gameRoundService.getGameRounds(settlementId)).isEmpty();
+        verify(settlementArchiveService, never()).findArchived(any(UUID.class));
+    }
+
+    @Test
+    @DisplayName("누적 순위표 - 윈도우 집계 행을 라운드별 totals 배열로 변환")
+    void getLeaderboard_PivotsWindowRows() {
+        UUID settlementId = UUID.randomUUID();
+        when(gameRoundEntryRepository.findCumulativeStandings(settlementId, 2, 3)).thenReturn(List.of(
+                new Object[]{2, alice, new BigDecimal("1000")},
+                new Object[]{2, bob, new BigDecimal("-1000")},
+                new Object[]{3, alice, new BigDecimal("-500")},
+                new Object[]{3, bob, new BigDecimal("500")}));
+        when(participantRepository.findBySettlementId(settlementId)).thenReturn(List.of(
+                Participant.builder().id(alice).name("앨리스").build(),
+                Participant.builder().id(bob).name("밥").build()));
+
+        LeaderboardResponse leaderboard = gameRoundService.getLeaderboard(settlementId, 2, 3);
+
+        // 마지막 라운드 누적 금액 순으로 열 정렬
+        assertThat(leaderboard.getParticipants()).extracting(LeaderboardParticipant::getName)
+                .containsExactly("밥", "앨리스");
+        assertThat(leaderboard.getRounds()).extracting(LeaderboardRound::getRoundNumber).containsExactly(2, 3);
+        assertThat(leaderboard.getRounds().get(0).getTotals())
+                .usingElementComparator(BigDecimal::compareTo)
+                .containsExactly(new BigDecimal("-1000"), new BigDecimal("1000"));
+    }
+
+    @Test
+    @DisplayName("누적 순위표 - 라운드 구간은 최대 개수로 제한")
+    void getLeaderboard_ClampsRange() {
+        UUID settlementId = UUID.randomUUID();
+        when(gameRoundEntryRepository.findCumulativeStandings(any(), anyInt(), anyInt()))
+                .thenReturn(Collections.emptyList());
+
+        LeaderboardResponse leaderboard = gameRoundService.getLeaderboard(settlementId, null, 100_000);
+
+        assertThat(leaderboard.getFromRound()).isEqualTo(1);
+        assertThat(leaderboard.getToRound()).isEqualTo(GameRoundService.MAX_LEADERBOARD_ROUNDS);
+        assertThat(leaderboard.getRounds()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("일괄 업로드 - 새 라운드 번호 일괄 예약, 라운드·엔트리 배치 INSERT, 참가자 조회 1회")
+    void bulkUpsertRounds_CreatesRoundsInBatches() {
+        UUID settlementId = UUID.randomUUID();
+        when(gameRoundRepository.findAllById(any())).thenReturn(Collections.emptyList());
+        when(jdbcTemplate.query(contains("next_round_number + :count"), any(SqlParameterSource.class),
+                any(RowMapper.class))).thenReturn(List.of(7));
+        when(participantRepository.findBySettlementId(settlementId)).thenReturn(participants());
+        when(jdbcTemplate.query(startsWith("INSERT INTO game_rounds"), any(SqlParameterSource.class),
+                any(RowMapper.class))).thenAnswer(insertedAll());
+
+        BulkRoundsRequest request = BulkRoundsRequest.builder()
+                .rounds(List.of(
+                        BulkRoundData.builder().entries(List.of(entry(alice, "100"), entry(bob, "-100"))).build(),
+                        BulkRoundData.builder().title("결승")
+                                .entries(List.of(entry(alice, "-300"), entry(bob, "300")))
+                                .excludedParticipantIds(List.of(carol))
+                                .build()))
+                .build();
+
+        List<GameRoundWithEntriesResponse> responses = gameRoundService.bulkUpsertRounds(settlementId, request);
+
+        assertThat(responses).extracting(r -> r.getRound().getRoundNumber()).containsExactly(7, 8);
+        assertThat(responses).extracting(r -> r.getRound().getTitle()).containsExactly("7라운드", "결승");
+        assertThat(responses.get(1).getExcludedParticipantIds()).containsExactly(carol.toString());
+
+        ArgumentCaptor<SqlParameterSource> rounds = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(jdbcTemplate, times(1)).query(startsWith("INSERT INTO game_rounds"), rounds.capture(),
+                any(RowMapper.class));
+        assertThat(rounds.getValue().getValue("roundNumber1")).isEqualTo(8);
+        assertThat(rounds.getValue().getValue("excluded1")).isEqualTo("{" + carol + "}");
+        verify(gameRoundRepository, times(1)).findAllById(any());
+
+        ArgumentCaptor<MapSqlParameterSource[]> entries = ArgumentCaptor.forClass(MapSqlParameterSource[].class);
+        verify(jdbcTemplate).batchUpdate(contains("ON CONFLICT (round_id, participant_id)"), entries.capture());
+        assertThat(entries.getValue()).hasSize(4);
+
+        verify(participantRepository, times(1)).findBySettlementId(settlementId);
+        verify(participantRepository, never()).findBySettlementIdAndIsActive(any(), anyBoolean());
+        verify(gameRoundEntryRepository, never()).findByRoundId(any());
+    }
+
+    @Test
+    @DisplayName("일괄 업로드 - 다른 정산의 참가자 엔트리는 번호 예약 전에 거부")
+    void bulkUpsertRounds_RejectsForeignEntryParticipant() {
+        UUID settlementId = UUID.randomUUID();
+        when(gameRoundRepository.findAllById(any())).thenReturn(Collections.emptyList());
+        when(participantRepository.findBySettlementId(settlementId)).thenReturn(participants());
+
+        BulkRoundsRequest request = BulkRoundsRequest.builder()
+                .rounds(List.of(BulkRoundData.builder()
+                        .entries(List.of(entry(alice, "100"), entry(UUID.randomUUID(), "-100")))
+                        .build()))
+                .build();
+
+        assertThatThrownBy(() -> gameRoundService.bulkUpsertRounds(settlementId, request))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("해당 정산에 속하지 않습니다");
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("일괄 업로드 - 다른 정산의 제외 참가자는 거부")
+    void bulkUpsertRounds_RejectsForeignExcludedParticipant() {
+        UUID settlementId = UUID.randomUUID();
+        when(gameRoundRepository.findAllById(any())).thenReturn(Collections.emptyList());
+        when(participantRepository.findBySettlementId(settlementId)).thenReturn(participants());
+
+        BulkRoundsRequest request = BulkRoundsRequest.builder()
+                .rounds(List.of(BulkRoundData.builder()
+                        .entries(List.of(entry(alice, "100"), entry(bob, "-100")))
+                        .excludedParticipantIds(List.of(UUID.randomUUID()))
+                        .build()))
+                .build();
+
+        assertThatThrownBy(() -> gameRoundService.bulkUpsertRounds(settlementId, request))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("해당 정산에 속하지 않습니다");
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("일괄 업로드 - 다른 정산의 라운드는 404")
+    void bulkUpsertRounds_RejectsForeignRound() {
+        GameRound foreign = GameRound.builder().id(roundId).settlementId(UUID.randomUUID()).roundNumber(1).build();
+        when(gameRoundRepository.findAllById(any())).thenReturn(List.of(foreign));
+
+        BulkRoundsRequest request = BulkRoundsRequest.builder()
+                .rounds(List.of(BulkRoundData.builder().roundId(roundId).build()))
+                .build();
+
+        assertThatThrownBy(() -> gameRoundService.bulkUpsertRounds(UUID.randomUUID(), request))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("일괄 업로드 재시도 - 이미 저장된 clientRoundId 는 새로 만들지 않고 번호도 다시 예약하지 않음")
+    void bulkUpsertRounds_RetryWithClientRoundIdIsIdempotent() {
+        UUID settlementId = UUID.randomUUID();
+        UUID savedClientId = UUID.randomUUID();
+        UUID newClientId = UUID.randomUUID();
+        GameRound saved = GameRound.builder()
+                .id(savedClientId).settlementId(settlementId).roundNumber(3).title("3라운드").build();
+        when(gameRoundRepository.findAllById(any())).thenReturn(List.of(saved));
+        when(gameRoundEntryRepository.findByRoundIdIn(List.of(savedClientId))).thenReturn(List.of(
+                GameRoundEntry.builder().id(UUID.randomUUID()).roundId(savedClientId)
+                        .participantId(alice).amount(new BigDecimal("100")).build(),
+                GameRoundEntry.builder().id(UUID.randomUUID()).roundId(savedClientId)
+                        .participantId(bob).amount(new BigDecimal("-100")).build()));
+        when(jdbcTemplate.query(contains("next_round_number + :count"), any(SqlParameterSource.class),
+                any(RowMapper.class))).thenReturn(List.of(4));
+        when(participantRepository.findBySettlementId(settlementId)).thenReturn(participants());
+        when(jdbcTemplate.query(startsWith("INSERT INTO game_rounds"), any(SqlParameterSource.class),
+                any(RowMapper.class))).thenAnswer(insertedAll());
+
+        BulkRoundsRequest request = BulkRoundsRequest.builder()
+                .rounds(List.of(
+                        BulkRoundData.builder().clientRoundId(savedClientId)
+                                .entries(List.of(entry(alice, "100"), entry(bob, "-100"))).build(),
+                        BulkRoundData.builder().clientRoundId(newClientId).build()))
+                .build();
+
+        List<GameRoundWithEntriesResponse> responses = gameRoundService.bulkUpsertRounds(settlementId, request);
+
+        assertThat(responses).extracting(r -> r.getRound().getRoundNumber()).containsExactly(3, 4);
+        ArgumentCaptor<SqlParameterSource> count = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(jdbcTemplate).query(contains("next_round_number + :count"), count.capture(), any(RowMapper.class));
+        assertThat(count.getValue().getValue("count")).isEqualTo(1);
+
+        ArgumentCaptor<SqlParameterSource> rounds = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(jdbcTemplate).query(contains("ON CONFLICT (id) DO NOTHING RETURNING id"), rounds.capture(),
+                any(RowMapper.class));
+        assertThat(rounds.getValue().getValue("id0")).isEqualTo(newClientId);
+        assertThat(rounds.getValue().hasValue("id1")).isFalse();
+        // 변경 없는 기존 엔트리는 다시 쓰지 않음
+        verify(jdbcTemplate, never()).batchUpdate(contains("ON CONFLICT (round_id, participant_id)"),
+                any(MapSqlParameterSource[].class));
+    }
+
+    @Test
+    @DisplayName("일괄 업로드 동시 재시도 - 삽입되지 않은 라운드는 먼저 저장된 라운드와 엔트리로 응답")
+    void bulkUpsertRounds_LostInsertRaceReturnsStoredRound() {
+        UUID settlementId = UUID.randomUUID();
+        UUID clientRoundId = UUID.randomUUID();
+        GameRound stored = GameRound.builder()
+                .id(clientRoundId).settlementId(settlementId).roundNumber(5).title("5라운드").build();
+        // 요청 시작 시점에는 없었으나 INSERT 시점에는 다른 요청이 먼저 저장
+        when(gameRoundRepository.findAllById(any()))
+                .thenReturn(Collections.emptyList())
+                .thenReturn(List.of(stored));
+        when(jdbcTemplate.query(contains("next_round_number + :count"), any(SqlParameterSource.class),
+                any(RowMapper.class))).thenReturn(List.of(6));
+        when(participantRepository.findBySettlementId(settlementId)).thenReturn(participants());
+        when(jdbcTemplate.query(startsWith("INSERT INTO game_rounds"), any(SqlParameterSource.class),
+                any(RowMapper.class))).thenReturn(List.of());
+        when(gameRoundEntryRepository.findByRoundIdIn(List.of(clientRoundId))).thenReturn(List.of(
+                GameRoundEntry.builder().id(UUID.randomUUID()).roundId(clientRoundId)
+                        .participantId(alice).amount(new BigDecimal("100")).build(),
+                GameRoundEntry.builder().id(UUID.randomUUID()).roundId(clientRoundId)
+                        .participantId(bob).amount(new BigDecimal("-100")).build()));
+
+        BulkRoundsRequest request = BulkRoundsRequest.builder()
+                .rounds(List.of(BulkRoundData.builder().clientRoundId(clientRoundId)
+                        .entries(List.of(entry(alice, "100"), entry(bob, "-100"))).build()))
+                .build();
+
+        List<GameRoundWithEntriesResponse> responses = gameRoundService.bulkUpsertRounds(settlementId, request);
+
+        assertThat(responses).hasSize(1);
+        assertThat(responses.get(0).getRound().getRoundNumber()).isEqualTo(5);
+        assertThat(responses.get(0).getRound().getTitle()).isEqualTo("5라운드");
+        assertThat(responses.get(0).getEntries()).hasSize(2);
+    }
+
+    /**
+     * 라운드 INSERT 가 요청한 id 를 모두 삽입했다고 응답
+     */
+    private Answer<List<UUID>> insertedAll() {
+        return invocation -> {
+            SqlParameterSource params = invocation.getArgument(1);
+            List<UUID> ids = new ArrayList<>();
+            for (int i = 0; params.hasValue("id" + i); i++) {
+                ids.add((UUID) params.getValue("id" + i));
+            }
+            return ids;
+        };
+    }
+}
@@ -0,0 +1,158 @@
+package com.settleup.service;
+
+import com.settleup.domain.settlement.Settlement;
+import com.settleup.domain.settlement.SettlementInviteCode;
+import com.settleup.domain.settlement.SettlementStatus;
+import com.settleup.domain.settlement.SettlementType;
+import com.settleup.domain.user.User;
+import com.settleup.exception.BusinessException;
+import com.settleup.repository.SettlementInviteCodeRepository;
+import com.settleup.repository.SettlementMemberRepository;
+import com.settleup.repository.SettlementRepository;
+import com.settleup.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 초대 코드 동시 참가 테스트
+ * 같은 코드로 다수가 동시에 참가해도 한 명만 성공해야 함 (트랜잭션 커밋 필요 → 비트랜잭션 테스트)
+ */
+@SpringBootTest
+@DisplayName("초대 코드 동시 참가 테스트")
+class InviteJoinConcurrencyTest {
+
+    private static final int JOINERS = 32;
+
+    @Autowired
+    private SettlementMemberService memberService;
+
+    @Autowired
+    private SettlementRepository settlementRepository;
+
+    @Autowired
+    private SettlementInviteCodeRepository inviteCodeRepository;
+
+    @Autowired
+    private SettlementMemberRepository memberRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private Settlement settlement;
+    private final List<User> joiners = new ArrayList<>();
+    private String code;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        owner = userRepository.save(User.builder().name("방장").email("owner-" + suffix + "@example.com").build());
+        for (int i = 0; i < JOINERS; i++) {
+            joiners.add(userRepository.save(User.builder()
+                    .name("참가자" + i)
+                    .email("joiner-" + i + "-" + suffix + "@example.com")
+                    .build()));
+        }
+
+        settlement = settlementRepository.save(Settlement.builder()
+                .title("단톡방 포커")
+                .type(SettlementType.GAME)
+                .status(SettlementStatus.ACTIVE)
+                .creatorId(owner.getId())
+                .currency("KRW")
+                .build());
+
+        code = suffix.toUpperCase();
+        inviteCodeRepository.save(SettlementInviteCode.builder()
+                .settlementId(settlement.getId())
+                .code(code)
+                .createdBy(owner.getId())
+                .expiresAt(LocalDateTime.now().plusHours(24))
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAll(memberRepository.findBySettlementId(settlement.getId()));
+        inviteCodeRepository.findByCode(code).ifPresent(inviteCodeRepository::delete);
+        settlementRepository.deleteById(settlement.getId());
+        userRepository.deleteAll(joiners);
+        userRepository.delete(owner);
+    }
+
+    @Test
+    @DisplayName("동시 참가 - 단일 사용 코드는 정확히 한 명만 성공")
+    void parallelJoin_SingleUseCode() throws Exception {
+        assertThat(joinAll()).isEqualTo(1);
+        assertThat(inviteCodeRepository.findByCode(code).orElseThrow().getUsedBy()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("동시 참가 - 다회용 코드는 maxUses 명까지만 성공")
+    void parallelJoin_MultiUseCode() throws Exception {
+        SettlementInviteCode inviteCode = inviteCodeRepository.findByCode(code).orElseThrow();
+        inviteCode.setMaxUses(5);
+        inviteCodeRepository.save(inviteCode);
+
+        assertThat(joinAll()).isEqualTo(5);
+        assertThat(inviteCodeRepository.findByCode(code).orElseThrow().getUseCount()).isEqualTo(5);
+    }
+
+    /**
+     * 참가자 전원이 같은 코드로 동시에 참가 시도
+     *
+     * @return 성공 인원 (멤버 수와 일치해야 함)
+     */
+    private int joinAll() throws Exception {
+        int maxUses = inviteCodeRepository.findByCode(code).orElseThrow().getMaxUses();
+        ExecutorService executor = Executors.newFixedThreadPool(JOINERS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (User joiner : joiners) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return memberService.joinByInviteCode(code, joiner.getId());
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            int rejected = 0;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                    succeeded++;
+                } catch (ExecutionException e) {
+                    assertThat(e.getCause()).isInstanceOf(BusinessException.class)
+                            .hasMessage(maxUses > 1
+                                    ? "초대 코드 사용 가능 인원이 모두 찼습니다."
+                                    : "이미 사용된 초대 코드입니다.");
+                    rejected++;
+                }
+            }
+
+            assertThat(succeeded + rejected).isEqualTo(JOINERS);
+            assertThat(memberRepository.findBySettlementId(settlement.getId())).hasSize(succeeded);
+            return succeeded;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
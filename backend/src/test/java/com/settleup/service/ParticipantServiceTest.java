@@ -12,6 +12,7 @@ import com.settleup.repository.ExpenseRepository;
 import com.settleup.repository.ExpenseSplitRepository;
 import com.settleup.repository.ParticipantRepository;
 import com.settleup.repository.SettlementRepository;
+import com.settleup.service.archive.SettlementArchiveService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,6 +21,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -49,6 +51,9 @@ class ParticipantServiceTest {
     @Mock
     private ExpenseSplitRepository expenseSplitRepository;
 
+    @Mock
+    private SettlementArchiveService settlementArchiveService;
+
     @InjectMocks
     private ParticipantService participantService;
 
@@ -86,7 +91,7 @@ class ParticipantServiceTest {
                 .userId(null)
                 .build();
 
-        when(settlementRepository.findById(settlementId)).thenReturn(Optional.of(settlement));
+        when(settlementRepository.findByIdBypassingCache(settlementId)).thenReturn(Optional.of(settlement));
         when(participantRepository.existsBySettlementIdAndName(settlementId, "김철수")).thenReturn(false);
         when(participantRepository.save(any(Participant.class))).thenReturn(participant);
 
@@ -100,7 +105,7 @@ class ParticipantServiceTest {
         assertThat(response.getSettlementId()).isEqualTo(settlementId);
         assertThat(response.getIsActive()).isTrue();
 
-        verify(settlementRepository, times(1)).findById(settlementId);
+        verify(settlementRepository, times(1)).findByIdBypassingCache(settlementId);
         verify(participantRepository, times(1)).existsBySettlementIdAndName(settlementId, "김철수");
         verify(participantRepository, times(1)).save(any(Participant.class));
     }
@@ -113,14 +118,34 @@ class ParticipantServiceTest {
                 .name("김철수")
                 .build();
 
-        when(settlementRepository.findById(settlementId)).thenReturn(Optional.empty());
+        when(settlementRepository.findByIdBypassingCache(settlementId)).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> participantService.addParticipant(settlementId, request))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Settlement");
 
-        verify(settlementRepository, times(1)).findById(settlementId);
+        verify(settlementRepository, times(1)).findByIdBypassingCache(settlementId);
+        verify(participantRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("참가자 추가 - 보관된 정산 (상태가 ARCHIVED 로 바뀐 경우 포함)")
+    void addParticipant_ArchivedSettlement() {
+        // given
+        settlement.setStatus(SettlementStatus.ARCHIVED);
+        settlement.setArchivedAt(LocalDateTime.now());
+        ParticipantRequest request = ParticipantRequest.builder()
+                .name("김철수")
+                .build();
+
+        when(settlementRepository.findByIdBypassingCache(settlementId)).thenReturn(Optional.of(settlement));
+
+        // when & then
+        assertThatThrownBy(() -> participantService.addParticipant(settlementId, request))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("보관된 정산");
+
         verify(participantRepository, never()).save(any());
     }
 
@@ -132,7 +157,7 @@ class ParticipantServiceTest {
                 .name("김철수")
                 .build();
 
-        when(settlementRepository.findById(settlementId)).thenReturn(Optional.of(settlement));
+        when(settlementRepository.findByIdBypassingCache(settlementId)).thenReturn(Optional.of(settlement));
         when(participantRepository.existsBySettlementIdAndName(settlementId, "김철수")).thenReturn(true);
 
         // when & then
@@ -157,7 +182,7 @@ class ParticipantServiceTest {
 
         List<Participant> participants = Arrays.asList(participant, participant2);
 
-        when(settlementRepository.existsById(settlementId)).thenReturn(true);
+        when(settlementRepository.findById(settlementId)).thenReturn(Optional.of(settlement));
         when(participantRepository.findBySettlementId(settlementId)).thenReturn(participants);
 
         // when
@@ -168,7 +193,7 @@ class ParticipantServiceTest {
         assertThat(responses.get(0).getName()).isEqualTo("김철수");
         assertThat(responses.get(1).getName()).isEqualTo("이영희");
 
-        verify(settlementRepository, times(1)).existsById(settlementId);
+        verify(settlementRepository, times(1)).findById(settlementId);
         verify(participantRepository, times(1)).findBySettlementId(settlementId);
     }
 
@@ -176,14 +201,14 @@ class ParticipantServiceTest {
     @DisplayName("정산의 모든 참가자 조회 - 정산을 찾을 수 없음")
     void getParticipantsBySettlement_SettlementNotFound() {
         // given
-        when(settlementRepository.existsById(settlementId)).thenReturn(false);
+        when(settlementRepository.findById(settlementId)).thenReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> participantService.getParticipantsBySettlement(settlementId))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Settlement");
 
-        verify(settlementRepository, times(1)).existsById(settlementId);
+        verify(settlementRepository, times(1)).findById(settlementId);
         verify(participantRepository, never()).findBySettlementId(any());
     }
 
@@ -191,14 +216,15 @@ class ParticipantServiceTest {
     @DisplayName("정산의 모든 참가자 조회 - 빈 목록")
     void getParticipantsBySettlement_EmptyList() {
         // given
-        when(settlementRepository.existsById(settlementId)).thenReturn(true);
+        when(settlementRepository.findById(settlementId)).thenReturn(Optional.of(settlement));
         when(participantRepository.findBySettlementId(settlementId)).thenReturn(Arrays.asList());
 
         // when
         List<ParticipantResponse> responses = participantService.getParticipantsBySettlement(settlementId);
 
-        // then
+        // then - 보관되지 않은 정산은 결과가 비어도 아카이브를 조회하지 않음
         assertThat(responses).isEmpty();
+        verify(settlementArchiveService, never()).findArchived(any(UUID.class));
     }
 
     @Test
@@ -206,17 +232,17 @@ class ParticipantServiceTest {
     void deleteParticipant_Success() {
         // given
         when(participantRepository.findById(participantId)).thenReturn(Optional.of(participant));
-        when(settlementRepository.findById(settlementId)).thenReturn(Optional.of(settlement));
+        when(settlementRepository.findByIdBypassingCache(settlementId)).thenReturn(Optional.of(settlement));
         when(expenseRepository.findByPayerIdOrderByExpenseDateDesc(participantId)).thenReturn(Collections.emptyList());
         when(expenseSplitRepository.findByParticipantId(participantId)).thenReturn(Collections.emptyList());
         doNothing().when(participantRepository).deleteById(participantId);
 
         // when
-        participantService.deleteParticipant(participantId);
+        participantService.deleteParticipant(settlementId, participantId);
 
         // then
         verify(participantRepository, times(1)).findById(participantId);
-        verify(settlementRepository, times(1)).findById(settlementId);
+        verify(settlementRepository, times(1)).findByIdBypassingCache(settlementId);
         verify(expenseRepository, times(1)).findByPayerIdOrderByExpenseDateDesc(participantId);
         verify(expenseSplitRepository, times(1)).findByParticipantId(participantId);
         verify(participantRepository, times(1)).deleteById(participantId);
@@ -229,11 +255,26 @@ class ParticipantServiceTest {
         when(participantRepository.findById(participantId)).thenReturn(Optional.empty());
 
         // when & then
-        assertThatThrownBy(() -> participantService.deleteParticipant(participantId))
+        assertThatThrownBy(() -> participantService.deleteParticipant(settlementId, participantId))
                 .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Participant");
 
         verify(participantRepository, times(1)).findById(participantId);
         verify(participantRepository, never()).deleteById(any());
     }
+
+    @Test
+    @DisplayName("참가자 삭제 - 경로의 정산에 속하지 않은 참가자")
+    void deleteParticipant_OtherSettlement() {
+        // given
+        when(participantRepository.findById(participantId)).thenReturn(Optional.of(participant));
+
+        // when & then
+        assertThatThrownBy(() -> participantService.deleteParticipant(UUID.randomUUID(), participantId))
+                .isInstanceOf(ResourceNotFoundException.class)
+                .hasMessageContaining("Participant");
+
+        verify(settlementRepository, never()).findByIdBypassingCache(any());
+        verify(participantRepository, never()).deleteById(any());
+    }
 }
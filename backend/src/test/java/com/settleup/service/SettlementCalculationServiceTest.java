@@ -9,6 +9,7 @@ import com.settleup.exception.ResourceNotFoundException;
 import com.settleup.repository.ExpenseRepository;
 import com.settleup.repository.ParticipantRepository;
 import com.settleup.repository.SettlementRepository;
+import com.settleup.service.archive.SettlementArchiveService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -42,6 +43,9 @@ class SettlementCalculationServiceTest {
     @Mock
     private ExpenseRepository expenseRepository;
 
+    @Mock
+    private SettlementArchiveService settlementArchiveService;
+
     @InjectMocks
     private SettlementCalculationService settlementCalculationService;
 
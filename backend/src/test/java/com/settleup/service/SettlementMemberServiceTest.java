@@ -0,0 +1,191 @@
+package com.settleup.service;
+
+import com.settleup.domain.settlement.SettlementInviteCode;
+import com.settleup.domain.settlement.SettlementMember;
+import com.settleup.domain.settlement.SettlementMember.MemberRole;
+import com.settleup.exception.BusinessException;
+import com.settleup.repository.SettlementInviteCodeRepository;
+import com.settleup.repository.SettlementMemberRepository;
+import com.settleup.repository.SettlementRepository;
+import com.settleup.security.SettlementAccessService;
+import com.settleup.service.invite.InviteCodeGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * SettlementMemberService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SettlementMemberService 테스트")
+class SettlementMemberServiceTest {
+
+    @Mock
+    private SettlementMemberRepository memberRepository;
+
+    @Mock
+    private SettlementInviteCodeRepository inviteCodeRepository;
+
+    @Mock
+    private SettlementRepository settlementRepository;
+
+    @Mock
+    private SettlementAccessService settlementAccessService;
+
+    @Mock
+    private InviteCodeGenerator inviteCodeGenerator;
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private SettlementMemberService memberService;
+
+    private UUID settlementId;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        settlementId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("초대 코드 생성 - 코드 충돌 시 다른 코드로 재시도")
+    @SuppressWarnings("unchecked")
+    void generateInviteCode_RetriesOnConflict() {
+        when(settlementRepository.existsById(settlementId)).thenReturn(true);
+        when(settlementAccessService.findRole(settlementId, userId)).thenReturn(MemberRole.OWNER);
+        when(inviteCodeGenerator.nextCode()).thenReturn("AAAAAAAA", "BBBBBBBB");
+        SettlementInviteCode issued = SettlementInviteCode.builder()
+                .settlementId(settlementId)
+                .code("BBBBBBBB")
+                .build();
+        when(jdbcTemplate.query(startsWith("INSERT INTO settlement_invite_codes"),
+                any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(Collections.emptyList(), List.of(issued));
+
+        SettlementInviteCode result = memberService.generateInviteCode(settlementId, userId);
+
+        assertThat(result.getCode()).isEqualTo("BBBBBBBB");
+        verify(inviteCodeGenerator, times(2)).nextCode();
+        verify(inviteCodeRepository, never()).findByCode(anyString());
+    }
+
+    @Test
+    @DisplayName("초대 코드 생성 - 재시도 한도 초과 시 실패")
+    @SuppressWarnings("unchecked")
+    void generateInviteCode_GivesUpAfterMaxAttempts() {
+        when(settlementRepository.existsById(settlementId)).thenReturn(true);
+        when(settlementAccessService.findRole(settlementId, userId)).thenReturn(MemberRole.MEMBER);
+        when(inviteCodeGenerator.nextCode()).thenReturn("AAAAAAAA");
+        when(jdbcTemplate.query(anyString(), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(Collections.emptyList());
+
+        assertThatThrownBy(() -> memberService.generateInviteCode(settlementId, userId))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("초대 코드 생성에 실패했습니다.");
+    }
+
+    @Test
+    @DisplayName("초대 코드로 참가 - 코드 사용 처리 후 멤버 추가")
+    void joinByInviteCode_Success() {
+        UUID memberId = UUID.randomUUID();
+        when(inviteCodeRepository.redeem("TEST1234", userId)).thenReturn(Optional.of(settlementId));
+        when(memberRepository.insertIfAbsent(eq(settlementId), eq(userId), eq("MEMBER"), any()))
+                .thenReturn(Optional.of(memberId));
+
+        SettlementMember member = memberService.joinByInviteCode("TEST1234", userId);
+
+        assertThat(member.getId()).isEqualTo(memberId);
+        assertThat(member.getSettlementId()).isEqualTo(settlementId);
+        assertThat(member.getRole()).isEqualTo(MemberRole.MEMBER);
+        verify(settlementAccessService).evict(userId);
+        verify(inviteCodeRepository, never()).findByCode(anyString());
+    }
+
+    @Test
+    @DisplayName("초대 코드로 참가 - 이미 멤버면 실패")
+    void joinByInviteCode_AlreadyMember() {
+        when(inviteCodeRepository.redeem("TEST1234", userId)).thenReturn(Optional.of(settlementId));
+        when(memberRepository.insertIfAbsent(eq(settlementId), eq(userId), eq("MEMBER"), any()))
+                .thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> memberService.joinByInviteCode("TEST1234", userId))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("이미 해당 정산의 멤버입니다.");
+    }
+
+    @Test
+    @DisplayName("초대 코드로 참가 - 사용 처리 실패 시 원인별 메시지")
+    void joinByInviteCode_Rejected() {
+        when(inviteCodeRepository.redeem(anyString(), eq(userId))).thenReturn(Optional.empty());
+        when(inviteCodeRepository.findByCode("NONE0000")).thenReturn(Optional.empty());
+        when(inviteCodeRepository.findByCode("EXPD1234")).thenReturn(Optional.of(SettlementInviteCode.builder()
+                .code("EXPD1234").expiresAt(LocalDateTime.now().minusHours(1)).build()));
+        when(inviteCodeRepository.findByCode("USED1234")).thenReturn(Optional.of(SettlementInviteCode.builder()
+                .code("USED1234").expiresAt(LocalDateTime.now().plusHours(1)).usedBy(UUID.randomUUID()).build()));
+
+        assertThatThrownBy(() -> memberService.joinByInviteCode("NONE0000", userId))
+                .hasMessage("유효하지 않은 초대 코드입니다.");
+        assertThatThrownBy(() -> memberService.joinByInviteCode("EXPD1234", userId))
+                .hasMessage("만료된 초대 코드입니다.");
+        assertThatThrownBy(() -> memberService.joinByInviteCode("USED1234", userId))
+                .hasMessage("이미 사용된 초대 코드입니다.");
+        verify(memberRepository, never()).insertIfAbsent(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("초대 코드로 참가 - 사용 이력 기록 시 CTE 한 문장으로 처리")
+    void joinByInviteCode_WithRedemptionLog() {
+        ReflectionTestUtils.setField(memberService, "redemptionLogEnabled", true);
+        when(inviteCodeRepository.redeemAndLog("TEST1234", userId)).thenReturn(Optional.of(settlementId));
+        when(memberRepository.insertIfAbsent(eq(settlementId), eq(userId), eq("MEMBER"), any()))
+                .thenReturn(Optional.of(UUID.randomUUID()));
+
+        memberService.joinByInviteCode("TEST1234", userId);
+
+        verify(inviteCodeRepository, never()).redeem(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("다회용 코드 - 인원이 찼으면 전용 메시지")
+    void joinByInviteCode_MultiUseExhausted() {
+        when(inviteCodeRepository.redeem("MULT1234", userId)).thenReturn(Optional.empty());
+        when(inviteCodeRepository.findByCode("MULT1234")).thenReturn(Optional.of(SettlementInviteCode.builder()
+                .code("MULT1234").expiresAt(LocalDateTime.now().plusHours(1)).maxUses(50).useCount(50).build()));
+
+        assertThatThrownBy(() -> memberService.joinByInviteCode("MULT1234", userId))
+                .isInstanceOf(BusinessException.class)
+                .hasMessage("초대 코드 사용 가능 인원이 모두 찼습니다.");
+    }
+
+    @Test
+    @DisplayName("다회용 코드 생성 - 허용 범위 밖의 maxUses 는 거부")
+    void generateInviteCode_RejectsInvalidMaxUses() {
+        assertThatThrownBy(() -> memberService.generateInviteCode(settlementId, userId, 0))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> memberService.generateInviteCode(settlementId, userId,
+                SettlementMemberService.MAX_INVITE_USES + 1))
+                .isInstanceOf(BusinessException.class);
+        verifyNoInteractions(settlementRepository, jdbcTemplate);
+    }
+}
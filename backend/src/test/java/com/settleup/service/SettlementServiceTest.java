@@ -5,6 +5,8 @@ import com.settleup.domain.settlement.SettlementStatus;
 import com.settleup.domain.settlement.SettlementType;
 import com.settleup.dto.SettlementCreateRequest;
 import com.settleup.dto.SettlementResponse;
+import com.settleup.dto.SettlementUpdateRequest;
+import com.settleup.exception.BusinessException;
 import com.settleup.exception.ResourceNotFoundException;
 import com.settleup.repository.ExpenseRepository;
 import com.settleup.repository.ExpenseSplitRepository;
@@ -15,6 +17,9 @@ import com.settleup.repository.SettlementMemberRepository;
 import com.settleup.repository.SettlementInviteCodeRepository;
 import com.settleup.repository.GameRoundRepository;
 import com.settleup.repository.GameRoundEntryRepository;
+import com.settleup.repository.SettlementArchiveRepository;
+import com.settleup.security.SettlementAccessService;
+import com.settleup.service.archive.SettlementArchiveService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -25,6 +30,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -72,6 +78,15 @@ class SettlementServiceTest {
     @Mock
     private GameRoundEntryRepository gameRoundEntryRepository;
 
+    @Mock
+    private SettlementArchiveRepository settlementArchiveRepository;
+
+    @Mock
+    private SettlementArchiveService settlementArchiveService;
+
+    @Mock
+    private SettlementAccessService settlementAccessService;
+
     @InjectMocks
     private SettlementService settlementService;
 
@@ -423,4 +438,33 @@ class SettlementServiceTest {
         verify(settlementRepository, times(1))
                 .findByUserAccessPaged(eq(creatorId), any(Pageable.class));
     }
+
+    @Test
+    @DisplayName("정산 수정 - 보관된 정산을 ARCHIVED 로 바꿔도 hot 테이블로 복원")
+    void updateSettlement_ArchivedToArchivedStatusRestores() {
+        // given
+        settlement.setStatus(SettlementStatus.COMPLETED);
+        settlement.setArchivedAt(LocalDateTime.now());
+        when(settlementRepository.findById(settlementId)).thenReturn(Optional.of(settlement));
+        when(settlementRepository.save(settlement)).thenReturn(settlement);
+
+        // when
+        settlementService.updateSettlement(settlementId,
+                SettlementUpdateRequest.builder().status(SettlementStatus.ARCHIVED).build());
+
+        // then
+        verify(settlementArchiveService).restore(settlement);
+        assertThat(settlement.getStatus()).isEqualTo(SettlementStatus.ARCHIVED);
+    }
+
+    @Test
+    @DisplayName("쓰기 검증 - 보관된 정산은 상태와 무관하게 수정 불가")
+    void validateSettlementNotCompleted_Archived() {
+        settlement.setStatus(SettlementStatus.ARCHIVED);
+        settlement.setArchivedAt(LocalDateTime.now());
+
+        assertThatThrownBy(() -> settlementService.validateSettlementNotCompleted(settlement))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("보관된 정산");
+    }
 }
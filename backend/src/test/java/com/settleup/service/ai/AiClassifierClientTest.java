@@ -0,0 +1,165 @@
+package com.settleup.service.ai;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import com.settleup.dto.AiCategoryDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * AiClassifierClient 테스트 (로컬 stub 분류 서버 사용)
+ */
+@DisplayName("AiClassifierClient 테스트")
+class AiClassifierClientTest {
+
+    private StubClassifierServer server;
+    private AiClassifierProperties properties;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new StubClassifierServer();
+        properties = new AiClassifierProperties();
+        properties.setUrl(server.url());
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.close();
+    }
+
+    private AiClassifierClient client() {
+        AiClassifierClient client = new AiClassifierClient(properties, new ObjectMapper(), new SimpleMeterRegistry());
+        client.init();
+        return client;
+    }
+
+    @Test
+    @DisplayName("ASYNC 모드 - 예측 결과를 CompletableFuture 로 반환하고 커넥션 재사용")
+    void async_ReusesConnections() {
+        AiClassifierClient client = client();
+
+        for (int i = 0; i < 20; i++) {
+            AiCategoryDto.ClassifierResponse response = client.predictCategoryAsync("점심").join();
+            assertThat(response.getCategory()).isEqualTo("FOOD");
+            assertThat(response.getConfidence()).isEqualTo(0.91);
+        }
+
+        assertThat(server.requestCount()).isEqualTo(20);
+        assertThat(server.connectionCount()).isEqualTo(1);
+        assertThat(client.availableSlots()).isEqualTo(properties.getMaxInFlight());
+    }
+
+    @Test
+    @DisplayName("BLOCKING 모드 - 기존 RestTemplate 경로 유지")
+    void blocking_StillWorks() {
+        properties.setMode(AiClassifierProperties.ClientMode.BLOCKING);
+        AiClassifierClient client = client();
+
+        assertThat(client.predictCategory("택시").getCategory()).isEqualTo("FOOD");
+        assertThat(client.predictCategoryAsync("택시").join().getCategory()).isEqualTo("FOOD");
+    }
+
+    @Test
+    @DisplayName("오류 응답이면 null")
+    void async_ErrorStatus() {
+        server.setStatus(500);
+
+        assertThat(client().predictCategoryAsync("점심").join()).isNull();
+    }
+
+    @Test
+    @DisplayName("동시 호출 상한 초과 시 대기 없이 null")
+    void async_BoundedInFlight() {
+        properties.setMaxInFlight(2);
+        server.setLatencyMillis(300);
+        AiClassifierClient client = client();
+
+        List<CompletableFuture<AiCategoryDto.ClassifierResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            futures.add(client.predictCategoryAsync("편의점 " + i));
+        }
+
+        // 상한 초과분은 즉시 완료
+        assertThat(futures.subList(2, 5)).allMatch(CompletableFuture::isDone);
+        assertThat(futures.subList(2, 5)).allMatch(f -> f.join() == null);
+        assertThat(futures.subList(0, 2)).allMatch(f -> f.join() != null);
+        assertThat(server.requestCount()).isEqualTo(2);
+        assertThat(client.availableSlots()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("연속 실패로 서킷이 열리면 분류 서버를 호출하지 않고 즉시 null")
+    void circuitOpen_FailsFast() {
+        properties.getCircuitBreaker().setMinimumCalls(5);
+        server.setStatus(500);
+        AiClassifierClient client = client();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(client.predictCategoryAsync("점심").join()).isNull();
+        }
+        assertThat(client.circuitBreaker().getState()).isEqualTo(ClassifierCircuitBreaker.State.OPEN);
+
+        server.setStatus(200);
+        assertThat(client.predictCategoryAsync("점심").join()).isNull();
+        assertThat(client.predictCategory("점심")).isNull();
+        assertThat(server.requestCount()).isEqualTo(5);
+        assertThat(client.rejectedCount()).isEqualTo(2);
+        assertThat(client.availableSlots()).isEqualTo(properties.getMaxInFlight());
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 서킷 실패로 집계하지 않음 - 잘못된 요청이 반복돼도 서킷 유지")
+    void clientError_DoesNotOpenCircuit() {
+        properties.getCircuitBreaker().setMinimumCalls(5);
+        server.setStatus(422);
+        AiClassifierClient client = client();
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(client.predictCategoryAsync("점심").join()).isNull();
+            assertThat(client.predictCategory("점심")).isNull();
+        }
+
+        assertThat(client.circuitBreaker().getState()).isEqualTo(ClassifierCircuitBreaker.State.CLOSED);
+        assertThat(client.circuitBreaker().getBufferedCalls()).isZero();
+        assertThat(server.requestCount()).isEqualTo(10);
+        assertThat(client.availableSlots()).isEqualTo(properties.getMaxInFlight());
+    }
+
+    @Test
+    @DisplayName("BLOCKING 모드도 동시 호출 상한 적용 - 요청 스레드를 max-in-flight 이상 점유하지 않음")
+    void blocking_BoundedInFlight() throws Exception {
+        properties.setMode(AiClassifierProperties.ClientMode.BLOCKING);
+        properties.setMaxInFlight(1);
+        server.setLatencyMillis(300);
+        AiClassifierClient client = client();
+
+        CompletableFuture<AiCategoryDto.ClassifierResponse> first =
+                CompletableFuture.supplyAsync(() -> client.predictCategory("편의점"));
+        while (client.availableSlots() > 0 && !first.isDone()) {
+            Thread.sleep(5);
+        }
+
+        assertThat(client.predictCategory("택시")).isNull();
+        assertThat(first.join()).isNotNull();
+        assertThat(server.requestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비활성화 시 호출하지 않음")
+    void disabled() {
+        properties.setEnabled(false);
+        AiClassifierClient client = client();
+
+        assertThat(client.predictCategory("점심")).isNull();
+        assertThat(client.predictCategoryAsync("점심").join()).isNull();
+        assertThat(server.requestCount()).isZero();
+    }
+}
@@ -0,0 +1,199 @@
+package com.settleup.service.ai;
+
+import com.settleup.dto.AiCategoryDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * CategoryPredictionService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("CategoryPredictionService 테스트")
+class CategoryPredictionServiceTest {
+
+    @Mock
+    private ClassifierRequestCoalescer coalescer;
+
+    @Mock
+    private FallbackCategoryClassifier fallbackClassifier;
+
+    private AiClassifierProperties properties;
+    private CategoryPredictionService service;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AiClassifierProperties();
+        service = new CategoryPredictionService(coalescer, fallbackClassifier, properties,
+                new SimpleMeterRegistry());
+    }
+
+    private static AiCategoryDto.PredictResponse fallbackResponse(String category) {
+        return AiCategoryDto.PredictResponse.builder().category(category).confidence(0.7).fallback(true).build();
+    }
+
+    private static CompletableFuture<AiCategoryDto.ClassifierResponse> response(
+            String category, double confidence, String modelVersion) {
+        AiCategoryDto.ClassifierResponse response = new AiCategoryDto.ClassifierResponse();
+        response.setCategory(category);
+        response.setConfidence(confidence);
+        response.setModelVersion(modelVersion);
+        return CompletableFuture.completedFuture(response);
+    }
+
+    @Test
+    @DisplayName("캐시 키 정규화 - 공백, 대소문자, 전각 문자, 한글 자모 조합 차이 무시")
+    void normalize_FoldsEquivalentDescriptions() {
+        assertThat(CategoryPredictionService.normalize("  Starbucks   커피 ")).isEqualTo("starbucks 커피");
+        assertThat(CategoryPredictionService.normalize("ＳＴＡＲＢＵＣＫＳ\t커피")).isEqualTo("starbucks 커피");
+        // 조합형 자모(ᄏ+ᅥ+ᄑ+ᅵ) → 완성형 '커피'
+        assertThat(CategoryPredictionService.normalize("\u110F\u1165\u1111\u1175")).isEqualTo("커피");
+    }
+
+    @Test
+    @DisplayName("정규화 결과가 같은 설명은 분류 서비스를 한 번만 호출")
+    void predict_HitsCacheForNormalizedDescription() {
+        when(coalescer.predictAsync(anyString())).thenReturn(response("FOOD", 0.91, "v1"));
+
+        AiCategoryDto.PredictResponse first = service.predict("스타벅스  커피");
+        AiCategoryDto.PredictResponse second = service.predict(" 스타벅스 커피 ");
+
+        assertThat(first.isCached()).isFalse();
+        assertThat(second.isCached()).isTrue();
+        assertThat(second.getCategory()).isEqualTo("FOOD");
+        assertThat(second.getConfidence()).isEqualTo(0.91);
+        verify(coalescer, times(1)).predictAsync(anyString());
+
+        AiCategoryDto.CacheStatsResponse stats = service.stats();
+        assertThat(stats.getHitCount()).isEqualTo(1);
+        assertThat(stats.getMissCount()).isEqualTo(1);
+        assertThat(stats.getHitRatio()).isEqualTo(0.5);
+        assertThat(stats.getModelVersion()).isEqualTo("v1");
+    }
+
+    @Test
+    @DisplayName("분류 실패(null)는 캐시하지 않음")
+    void predict_DoesNotCacheFailures() {
+        when(coalescer.predictAsync("택시"))
+                .thenReturn(CompletableFuture.completedFuture(null))
+                .thenReturn(response("TRANSPORT", 0.8, "v1"));
+
+        assertThat(service.predict("택시")).isNull();
+        assertThat(service.predict("택시").getCategory()).isEqualTo("TRANSPORT");
+
+        verify(coalescer, times(2)).predictAsync("택시");
+    }
+
+    @Test
+    @DisplayName("모델 버전이 바뀌면 기존 캐시 항목 전체 무효화")
+    void predict_InvalidatesOnModelVersionChange() {
+        when(coalescer.predictAsync("점심"))
+                .thenReturn(response("FOOD", 0.9, "v1"))
+                .thenReturn(response("FOOD", 0.93, "v2"));
+        when(coalescer.predictAsync("택시"))
+                .thenReturn(response("TRANSPORT", 0.8, "v2"));
+
+        service.predict("점심");
+        service.predict("택시");
+        AiCategoryDto.PredictResponse refreshed = service.predict("점심");
+
+        // v2 응답 관측 후 v1 으로 캐시된 '점심' 은 다시 조회
+        assertThat(refreshed.isCached()).isFalse();
+        assertThat(refreshed.getConfidence()).isEqualTo(0.93);
+        verify(coalescer, times(2)).predictCategoryAsync("점심");
+        assertThat(service.stats().getModelVersion()).isEqualTo("v2");
+        assertThat(service.stats().getSize()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("v1 → v2 → 늦게 도착한 v1 - 이전 버전 응답은 버리고 v2 캐시를 유지")
+    void predict_DropsLateResponseFromPreviousModelVersion() {
+        CompletableFuture<AiCategoryDto.ClassifierResponse> lateV1 = new CompletableFuture<>();
+        when(coalescer.predictAsync("점심")).thenReturn(response("FOOD", 0.9, "v1"));
+        when(coalescer.predictAsync("커피"))
+                .thenReturn(lateV1)
+                .thenReturn(response("FOOD", 0.95, "v2"));
+        when(coalescer.predictAsync("택시")).thenReturn(response("TRANSPORT", 0.8, "v2"));
+
+        service.predict("점심");
+        CompletableFuture<AiCategoryDto.PredictResponse> pending = service.predictAsync("커피");
+        service.predict("택시");
+        lateV1.complete(response("FOOD", 0.85, "v1").join());
+
+        // 늦은 v1 응답도 호출자에게는 반환하지만 캐시 버전을 되돌리거나 v2 항목을 비우지 않음
+        assertThat(pending.join().getCategory()).isEqualTo("FOOD");
+        assertThat(service.stats().getModelVersion()).isEqualTo("v2");
+        assertThat(service.stats().getSize()).isEqualTo(1);
+        assertThat(service.predict("택시").isCached()).isTrue();
+        assertThat(service.predict("커피").isCached()).isFalse();
+        verify(coalescer, times(2)).predictAsync("커피");
+    }
+
+    @Test
+    @DisplayName("일괄 예측 - 캐시 미스 항목만 한 번에 분류하고 입력 순서대로 반환")
+    void predictAll_ClassifiesOnlyMisses() {
+        when(coalescer.predictAsync("점심")).thenReturn(response("FOOD", 0.9, "v1"));
+        service.predict("점심");
+
+        AiCategoryDto.ClassifierResponse taxi = response("TRANSPORT", 0.8, "v1").join();
+        when(coalescer.predictAllAsync(List.of("택시", "호텔")))
+                .thenReturn(CompletableFuture.completedFuture(Arrays.asList(taxi, null)));
+
+        List<AiCategoryDto.PredictResponse> predictions =
+                service.predictAllAsync(List.of("택시", " 점심", "호텔")).join().getPredictions();
+
+        assertThat(predictions).extracting(AiCategoryDto.PredictResponse::getCategory)
+                .containsExactly("TRANSPORT", "FOOD", null);
+        assertThat(predictions.get(1).isCached()).isTrue();
+        assertThat(service.predict("택시").isCached()).isTrue();
+    }
+
+    @Test
+    @DisplayName("원격 분류 실패 시 폴백 분류기 결과 반환 (캐시하지 않음)")
+    void predict_FallsBackWhenRemoteFails() {
+        when(fallbackClassifier.isEnabled()).thenReturn(true);
+        when(coalescer.predictAsync("택시")).thenReturn(CompletableFuture.completedFuture(null));
+        when(fallbackClassifier.predict("택시")).thenReturn(fallbackResponse("TRANSPORT"));
+
+        AiCategoryDto.PredictResponse first = service.predict("택시");
+        AiCategoryDto.PredictResponse second = service.predict("택시");
+
+        assertThat(first.isFallback()).isTrue();
+        assertThat(first.getCategory()).isEqualTo("TRANSPORT");
+        assertThat(second.isCached()).isFalse();
+        verify(coalescer, times(2)).predictAsync("택시");
+    }
+
+    @Test
+    @DisplayName("원격 응답이 remote-deadline 을 넘기면 폴백 응답, 늦게 온 원격 결과는 캐시")
+    void predict_FallsBackOnDeadline() {
+        properties.getFallback().setRemoteDeadline(Duration.ofMillis(30));
+        service = new CategoryPredictionService(coalescer, fallbackClassifier, properties, new SimpleMeterRegistry());
+        CompletableFuture<AiCategoryDto.ClassifierResponse> slow = new CompletableFuture<>();
+        when(fallbackClassifier.isEnabled()).thenReturn(true);
+        when(coalescer.predictAsync("호텔")).thenReturn(slow);
+        when(fallbackClassifier.predict("호텔")).thenReturn(fallbackResponse("LODGING"));
+
+        AiCategoryDto.PredictResponse response = service.predict("호텔");
+        slow.complete(response("LODGING", 0.95, "v1").join());
+
+        assertThat(response.isFallback()).isTrue();
+        AiCategoryDto.PredictResponse cached = service.predict("호텔");
+        assertThat(cached.isCached()).isTrue();
+        assertThat(cached.getConfidence()).isEqualTo(0.95);
+        verify(fallbackClassifier).recordAgreement("호텔", "LODGING");
+    }
+}
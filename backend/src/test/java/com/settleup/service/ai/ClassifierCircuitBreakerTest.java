@@ -0,0 +1,165 @@
+package com.settleup.service.ai;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ClassifierCircuitBreaker 단위 테스트 (가짜 시계 사용)
+ */
+@DisplayName("ClassifierCircuitBreaker 테스트")
+class ClassifierCircuitBreakerTest {
+
+    private static final long FAST = TimeUnit.MILLISECONDS.toNanos(20);
+    private static final long SLOW = TimeUnit.SECONDS.toNanos(2);
+
+    private final AtomicLong clock = new AtomicLong();
+    private ClassifierCircuitBreaker circuitBreaker;
+
+    @BeforeEach
+    void setUp() {
+        AiClassifierProperties.CircuitBreaker config = new AiClassifierProperties.CircuitBreaker();
+        config.setWindowSize(10);
+        config.setMinimumCalls(4);
+        config.setFailureRateThreshold(0.5);
+        config.setSlowCallRateThreshold(0.8);
+        config.setSlowCallDuration(Duration.ofSeconds(1));
+        config.setWaitInOpen(Duration.ofSeconds(10));
+        config.setHalfOpenProbes(2);
+        circuitBreaker = new ClassifierCircuitBreaker(config, clock::get);
+    }
+
+    private void call(boolean success, long durationNanos) {
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        if (success) {
+            circuitBreaker.onSuccess(durationNanos);
+        } else {
+            circuitBreaker.onFailure();
+        }
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            call(false, FAST);
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(ClassifierCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("최소 호출 수 전에는 실패해도 CLOSED 유지")
+    void staysClosedBelowMinimumCalls() {
+        for (int i = 0; i < 3; i++) {
+            call(false, FAST);
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(ClassifierCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getFailureRate()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("실패율이 임계치를 넘으면 OPEN - 대기 시간 동안 호출 거절")
+    void opensOnFailureRate() {
+        call(true, FAST);
+        call(true, FAST);
+        call(false, FAST);
+        assertThat(circuitBreaker.getState()).isEqualTo(ClassifierCircuitBreaker.State.CLOSED);
+
+        call(false, FAST);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(ClassifierCircuitBreaker.State.OPEN);
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(9));
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    @DisplayName("느린 호출 비율이 임계치를 넘으면 OPEN")
+    void opensOnSlowCallRate() {
+        for (int i = 0; i < 4; i++) {
+            call(true, SLOW);
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(ClassifierCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    @DisplayName("오래된 결과는 window 밖으로 밀려남")
+    void slidesWindow() {
+        for (int i = 0; i < 3; i++) {
+            call(false, FAST);
+        }
+        for (int i = 0; i < 10; i++) {
+            call(true, FAST);
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(ClassifierCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getFailureRate()).isZero();
+        assertThat(circuitBreaker.getBufferedCalls()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN - probe 수만큼만 허용하고 모두 성공하면 CLOSED")
+    void halfOpenProbesClose() {
+        open();
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.getState()).isEqualTo(ClassifierCircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+
+        circuitBreaker.onSuccess(FAST);
+        circuitBreaker.onSuccess(FAST);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(ClassifierCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getBufferedCalls()).isZero();
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN - probe 실패 시 다시 OPEN")
+    void halfOpenFailureReopens() {
+        open();
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        call(false, FAST);
+
+        assertThat(circuitBreaker.getState()).isEqualTo(ClassifierCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+    }
+
+    @Test
+    @DisplayName("무시된 결과 (4xx, 파싱 실패) 는 실패율에 집계하지 않음")
+    void ignoredCallsNotRecorded() {
+        for (int i = 0; i < 4; i++) {
+            assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+            circuitBreaker.onIgnored();
+        }
+
+        assertThat(circuitBreaker.getState()).isEqualTo(ClassifierCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getBufferedCalls()).isZero();
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN - 무시된 probe 는 슬롯을 반환해 다른 호출이 probe 를 이어받음")
+    void halfOpenIgnoredProbeReturnsPermit() {
+        open();
+        clock.addAndGet(TimeUnit.SECONDS.toNanos(10));
+
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+        assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+
+        circuitBreaker.onIgnored();
+        assertThat(circuitBreaker.getState()).isEqualTo(ClassifierCircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+
+        circuitBreaker.onSuccess(FAST);
+        circuitBreaker.onSuccess(FAST);
+        assertThat(circuitBreaker.getState()).isEqualTo(ClassifierCircuitBreaker.State.CLOSED);
+    }
+}
@@ -0,0 +1,145 @@
+package com.settleup.service.ai;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.settleup.dto.AiCategoryDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * ClassifierRequestCoalescer 테스트 (로컬 stub 분류 서버 사용)
+ */
+@DisplayName("ClassifierRequestCoalescer 테스트")
+class ClassifierRequestCoalescerTest {
+
+    private StubClassifierServer server;
+    private AiClassifierProperties properties;
+    private ClassifierRequestCoalescer coalescer;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        server = new StubClassifierServer();
+        properties = new AiClassifierProperties();
+        properties.setUrl(server.url());
+        properties.getBatch().setEnabled(true);
+        properties.getBatch().setMaxSize(8);
+        properties.getBatch().setMaxWait(Duration.ofMillis(20));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (coalescer != null) {
+            coalescer.shutdown();
+        }
+        server.close();
+    }
+
+    private ClassifierRequestCoalescer coalescer() {
+        AiClassifierClient client = new AiClassifierClient(properties, new ObjectMapper(), new SimpleMeterRegistry());
+        client.init();
+        coalescer = new ClassifierRequestCoalescer(client, properties, new SimpleMeterRegistry());
+        return coalescer;
+    }
+
+    private static List<AiCategoryDto.ClassifierResponse> joinAll(
+            List<CompletableFuture<AiCategoryDto.ClassifierResponse>> futures) {
+        return futures.stream().map(CompletableFuture::join).toList();
+    }
+
+    @Test
+    @DisplayName("max-size 만큼 모이면 대기 없이 배치 호출 1회로 전송하고 결과를 각 호출자에게 전달")
+    void predict_SendsFullBatchImmediately() {
+        ClassifierRequestCoalescer coalescer = coalescer();
+        server.setLatencyMillis(50);
+
+        List<CompletableFuture<AiCategoryDto.ClassifierResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(coalescer.predictAsync("지출 " + i));
+        }
+
+        assertThat(joinAll(futures)).allSatisfy(r -> assertThat(r.getCategory()).isEqualTo("FOOD"));
+        assertThat(server.batchRequestCount()).isEqualTo(1);
+        assertThat(server.predictedCount()).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("max-size 미만이면 max-wait 후 모인 요청을 한 번에 전송")
+    void predict_FlushesPartialBatchAfterMaxWait() {
+        ClassifierRequestCoalescer coalescer = coalescer();
+
+        List<CompletableFuture<AiCategoryDto.ClassifierResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(coalescer.predictAsync("지출 " + i));
+        }
+
+        assertThat(joinAll(futures)).hasSize(3).doesNotContainNull();
+        assertThat(server.batchRequestCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("같은 배치 안의 중복 설명은 한 번만 분류")
+    void predict_DeduplicatesWithinBatch() {
+        ClassifierRequestCoalescer coalescer = coalescer();
+
+        List<CompletableFuture<AiCategoryDto.ClassifierResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            futures.add(coalescer.predictAsync("커피"));
+        }
+
+        assertThat(joinAll(futures)).doesNotContainNull();
+        assertThat(server.predictedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("배치 호출 실패 시 대기 중인 호출자 모두 null 로 완료")
+    void predict_FailsWholeBatchToNull() {
+        ClassifierRequestCoalescer coalescer = coalescer();
+        server.setStatus(500);
+
+        List<CompletableFuture<AiCategoryDto.ClassifierResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            futures.add(coalescer.predictAsync("지출 " + i));
+        }
+
+        assertThat(joinAll(futures)).containsOnlyNulls();
+    }
+
+    @Test
+    @DisplayName("다건 예측 - max-size 단위로 나눠 호출하고 입력 순서대로 반환")
+    void predictAll_ChunksByMaxSize() {
+        ClassifierRequestCoalescer coalescer = coalescer();
+
+        List<AiCategoryDto.ClassifierResponse> results = coalescer.predictAllAsync(
+                IntStream.range(0, 20).mapToObj(i -> "택시 " + i).toList()).join();
+
+        assertThat(results).hasSize(20).doesNotContainNull();
+        assertThat(server.batchRequestCount()).isEqualTo(3);
+        assertThat(server.predictedCount()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("배치 비활성화 시 단건 호출로 위임")
+    void predict_DelegatesWhenBatchDisabled() {
+        properties.getBatch().setEnabled(false);
+        ClassifierRequestCoalescer coalescer = coalescer();
+
+        List<CompletableFuture<AiCategoryDto.ClassifierResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            futures.add(coalescer.predictAsync("지출 " + i));
+        }
+
+        assertThat(joinAll(futures)).doesNotContainNull();
+        assertThat(server.batchRequestCount()).isZero();
+        assertThat(server.requestCount()).isEqualTo(3);
+    }
+}
@@ -0,0 +1,190 @@
+package com.settleup.service.ai;
+
+import com.settleup.dto.AiCategoryDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * ExpenseAutoCategorizationJob 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExpenseAutoCategorizationJob 테스트")
+class ExpenseAutoCategorizationJobTest {
+
+    private static final String CATEGORY_UPDATE = "SET category_ai = :category";
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private CategoryPredictionService categoryPredictionService;
+
+    private ExpenseAutoCategorizationJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new ExpenseAutoCategorizationJob(jdbcTemplate, categoryPredictionService, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(job, "chunkSize", 2);
+        ReflectionTestUtils.setField(job, "maxChunksPerRun", 10);
+        ReflectionTestUtils.setField(job, "maxRatePerSecond", 1_000_000.0);
+        ReflectionTestUtils.setField(job, "minConfidence", 0.5);
+        ReflectionTestUtils.setField(job, "retryAfter", Duration.ofDays(7));
+    }
+
+    private static AiCategoryDto.PredictResponse result(String category, double confidence) {
+        return AiCategoryDto.PredictResponse.builder().category(category).confidence(confidence).build();
+    }
+
+    private static CompletableFuture<AiCategoryDto.BatchPredictResponse> predictions(AiCategoryDto.PredictResponse... results) {
+        return CompletableFuture.completedFuture(AiCategoryDto.BatchPredictResponse.builder()
+                .predictions(Arrays.asList(results))
+                .build());
+    }
+
+    /**
+     * 커서 조회 결과와 chunk 조회 결과(순서대로)를 RowMapper 를 거쳐 반환
+     */
+    @SuppressWarnings("unchecked")
+    private List<SqlParameterSource> stubQueries(UUID savedCursor, List<List<Object[]>> chunks) throws Exception {
+        when(jdbcTemplate.query(startsWith("SELECT last_id"), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(savedCursor == null ? Collections.emptyList() : List.of(savedCursor));
+
+        List<SqlParameterSource> chunkParams = new ArrayList<>();
+        int[] call = {0};
+        when(jdbcTemplate.query(startsWith("SELECT id, description"), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenAnswer(inv -> {
+                    chunkParams.add(inv.getArgument(1));
+                    RowMapper<Object> mapper = inv.getArgument(2);
+                    List<Object> mapped = new ArrayList<>();
+                    for (Object[] row : call[0] < chunks.size() ? chunks.get(call[0]) : List.<Object[]>of()) {
+                        ResultSet rs = mock(ResultSet.class);
+                        when(rs.getObject("id", UUID.class)).thenReturn((UUID) row[0]);
+                        when(rs.getString("description")).thenReturn((String) row[1]);
+                        mapped.add(mapper.mapRow(rs, 0));
+                    }
+                    call[0]++;
+                    return mapped;
+                });
+        return chunkParams;
+    }
+
+    @Test
+    @DisplayName("keyset chunk 단위로 분류 후 일괄 갱신 - 신뢰도 미달은 건너뛰고 끝까지 돌면 커서 초기화")
+    void categorize_UpdatesInChunks() throws Exception {
+        UUID id1 = new UUID(0, 1);
+        UUID id2 = new UUID(0, 2);
+        UUID id3 = new UUID(0, 3);
+        List<SqlParameterSource> chunkParams = stubQueries(null, List.of(
+                List.of(new Object[]{id1, "택시"}, new Object[]{id2, "??"}),
+                List.<Object[]>of(new Object[]{id3, "점심"})));
+        when(categoryPredictionService.predictAllAsync(List.of("택시", "??")))
+                .thenReturn(predictions(result("교통", 0.9), result("기타", 0.2)));
+        when(categoryPredictionService.predictAllAsync(List.of("점심")))
+                .thenReturn(predictions(result("식사", 0.8)));
+        when(jdbcTemplate.batchUpdate(contains(CATEGORY_UPDATE), any(SqlParameterSource[].class)))
+                .thenAnswer(inv -> new int[((SqlParameterSource[]) inv.getArgument(1)).length]);
+
+        job.categorizeInChunks();
+
+        ArgumentCaptor<SqlParameterSource[]> updates = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(jdbcTemplate, times(2)).batchUpdate(contains(CATEGORY_UPDATE), updates.capture());
+        assertThat(updates.getAllValues().get(0)).hasSize(1);
+        assertThat(updates.getAllValues().get(0)[0].getValue("id")).isEqualTo(id1);
+        assertThat(updates.getAllValues().get(0)[0].getValue("category")).isEqualTo("교통");
+        assertThat(updates.getAllValues().get(1)[0].getValue("id")).isEqualTo(id3);
+
+        assertThat(chunkParams.get(0).getValue("afterId")).isEqualTo(new UUID(0, 0));
+        assertThat(chunkParams.get(1).getValue("afterId")).isEqualTo(id2);
+
+        // 신뢰도 미달은 시도 시각만 기록
+        ArgumentCaptor<SqlParameterSource[]> attempts = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(jdbcTemplate).batchUpdate(startsWith("UPDATE expenses SET category_ai_attempted_at"), attempts.capture());
+        assertThat(attempts.getValue()).extracting(p -> p.getValue("id")).containsExactly(id2);
+
+        ArgumentCaptor<SqlParameterSource> cursors = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(jdbcTemplate, times(2)).update(startsWith("INSERT INTO batch_job_cursors"), cursors.capture());
+        assertThat(cursors.getAllValues()).extracting(p -> p.getValue("lastId")).containsExactly(id2, null);
+    }
+
+    @Test
+    @DisplayName("저장된 커서 다음부터 재개")
+    void categorize_ResumesFromCursor() throws Exception {
+        UUID saved = UUID.randomUUID();
+        List<SqlParameterSource> chunkParams = stubQueries(saved, List.of());
+
+        job.categorizeInChunks();
+
+        assertThat(chunkParams.get(0).getValue("afterId")).isEqualTo(saved);
+        // retry-after 안에 시도한 지출은 조회 대상에서 제외
+        assertThat((LocalDateTime) chunkParams.get(0).getValue("retryBefore"))
+                .isBefore(LocalDateTime.now().minusDays(6));
+        verifyNoInteractions(categoryPredictionService);
+    }
+
+    @Test
+    @DisplayName("분류 서비스 불가 시 (폴백 결과 포함) 갱신하지 않고 커서도 옮기지 않음")
+    void categorize_PausesWhenClassifierUnavailable() throws Exception {
+        stubQueries(null, List.of(List.of(new Object[]{UUID.randomUUID(), "택시"}, new Object[]{UUID.randomUUID(), "점심"})));
+        when(categoryPredictionService.predictAllAsync(anyList()))
+                .thenReturn(predictions(AiCategoryDto.PredictResponse.builder().build(),
+                        AiCategoryDto.PredictResponse.builder().category("식사").confidence(0.9).fallback(true).build()));
+
+        assertThat(job.categorizeInChunks()).isZero();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(SqlParameterSource[].class));
+        verify(jdbcTemplate, never()).update(anyString(), any(SqlParameterSource.class));
+    }
+
+    @Test
+    @DisplayName("스케줄러 스레드는 전용 스레드에 실행을 넘기고 바로 반환 - 실행 중 호출은 건너뜀")
+    void categorize_RunsOffSchedulerThread() throws Exception {
+        ReflectionTestUtils.setField(job, "enabled", true);
+        ReflectionTestUtils.setField(job, "classifierEnabled", true);
+        stubQueries(null, List.of(List.<Object[]>of(new Object[]{UUID.randomUUID(), "택시"})));
+        CompletableFuture<AiCategoryDto.BatchPredictResponse> pending = new CompletableFuture<>();
+        when(categoryPredictionService.predictAllAsync(anyList())).thenReturn(pending);
+        when(jdbcTemplate.batchUpdate(contains(CATEGORY_UPDATE), any(SqlParameterSource[].class)))
+                .thenReturn(new int[]{1});
+
+        try {
+            // 분류 응답을 기다리는 중에도 스케줄러 호출은 바로 반환
+            job.categorize();
+            verify(categoryPredictionService, timeout(1000)).predictAllAsync(anyList());
+            job.categorize();
+
+            pending.complete(predictions(result("교통", 0.9)).join());
+
+            verify(jdbcTemplate, timeout(1000)).update(startsWith("INSERT INTO batch_job_cursors"),
+                    any(SqlParameterSource.class));
+            verify(jdbcTemplate, times(1)).query(startsWith("SELECT last_id"), any(SqlParameterSource.class),
+                    any(RowMapper.class));
+            verify(categoryPredictionService, times(1)).predictAllAsync(anyList());
+        } finally {
+            job.shutdown();
+        }
+    }
+}
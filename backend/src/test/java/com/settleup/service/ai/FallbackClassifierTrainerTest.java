@@ -0,0 +1,109 @@
+package com.settleup.service.ai;
+
+import com.settleup.repository.PredictionLogRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * FallbackClassifierTrainer 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("FallbackClassifierTrainer 테스트")
+class FallbackClassifierTrainerTest {
+
+    @Mock
+    private PredictionLogRepository predictionLogRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private AiClassifierProperties properties;
+    private FallbackCategoryClassifier fallbackClassifier;
+    private FallbackClassifierTrainer trainer;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AiClassifierProperties();
+        properties.getFallback().setMinSamples(5);
+        properties.getFallback().setMaxTrainingRows(30);
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        fallbackClassifier = new FallbackCategoryClassifier(properties, meterRegistry);
+        trainer = new FallbackClassifierTrainer(predictionLogRepository, fallbackClassifier, properties,
+                transactionManager, meterRegistry);
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+    }
+
+    private static PredictionLogRepository.TrainingSample sample(String description, String category) {
+        return new PredictionLogRepository.TrainingSample() {
+            @Override
+            public String getDescription() {
+                return description;
+            }
+
+            @Override
+            public String getFinalCategory() {
+                return category;
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("스트리밍 조회 결과로 학습 후 모델 교체 - max-training-rows 까지만 읽고 스트림 닫음")
+    void train_ReplacesModel() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<PredictionLogRepository.TrainingSample> samples = IntStream.range(0, 100)
+                .mapToObj(i -> i % 2 == 0 ? sample("택시 " + i, "교통") : sample("점심 " + i, "식사"))
+                .onClose(() -> closed.set(true));
+        when(predictionLogRepository.streamTrainingSamples(any())).thenReturn(samples);
+
+        NaiveBayesCategoryModel model = trainer.train();
+
+        assertThat(model.getSampleCount()).isEqualTo(30);
+        assertThat(closed).isTrue();
+        assertThat(fallbackClassifier.predict("택시").getCategory()).isEqualTo("교통");
+        assertThat(fallbackClassifier.predict("택시").isFallback()).isTrue();
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("학습 데이터가 min-samples 미만이면 기존 모델 유지")
+    void train_KeepsModelWhenTooFewSamples() {
+        when(predictionLogRepository.streamTrainingSamples(any()))
+                .thenReturn(Stream.of(sample("택시", "교통"), sample("점심", "식사")));
+
+        assertThat(trainer.train()).isNull();
+        assertThat(fallbackClassifier.stats().isTrained()).isFalse();
+        assertThat(fallbackClassifier.predict("택시")).isNull();
+    }
+
+    @Test
+    @DisplayName("원격 예측과의 일치율 집계")
+    void recordAgreement_TracksRate() {
+        when(predictionLogRepository.streamTrainingSamples(any())).thenReturn(IntStream.range(0, 10)
+                .mapToObj(i -> i % 2 == 0 ? sample("택시 " + i, "교통") : sample("점심 " + i, "식사")));
+        trainer.train();
+
+        fallbackClassifier.recordAgreement("택시", "교통");
+        fallbackClassifier.recordAgreement("점심", "식사");
+        fallbackClassifier.recordAgreement("택시", "식사");
+        fallbackClassifier.recordAgreement("호텔", "숙박");
+
+        assertThat(fallbackClassifier.stats().getComparedCount()).isEqualTo(4);
+        assertThat(fallbackClassifier.stats().getAgreementRate()).isEqualTo(0.5);
+    }
+}
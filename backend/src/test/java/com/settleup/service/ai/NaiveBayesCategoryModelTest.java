@@ -0,0 +1,58 @@
+package com.settleup.service.ai;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * NaiveBayesCategoryModel 단위 테스트
+ */
+@DisplayName("NaiveBayesCategoryModel 테스트")
+class NaiveBayesCategoryModelTest {
+
+    private NaiveBayesCategoryModel model;
+
+    @BeforeEach
+    void setUp() {
+        NaiveBayesCategoryModel.Trainer trainer = new NaiveBayesCategoryModel.Trainer();
+        trainer.add("스타벅스 아메리카노", "식사");
+        trainer.add("점심 김치찌개", "식사");
+        trainer.add("저녁 삼겹살", "식사");
+        trainer.add("카페 라떼", "식사");
+        trainer.add("택시 공항", "교통");
+        trainer.add("카카오 택시", "교통");
+        trainer.add("KTX 부산행", "교통");
+        trainer.add("지하철 교통카드 충전", "교통");
+        trainer.add("제주 호텔 1박", "숙박");
+        trainer.add("에어비앤비 숙소", "숙박");
+        trainer.add("   ", "기타");
+        model = trainer.build();
+    }
+
+    @Test
+    @DisplayName("학습한 n-gram 으로 처음 보는 설명도 분류")
+    void predict_UnseenDescription() {
+        assertThat(model.predict("공항 택시비").category()).isEqualTo("교통");
+        assertThat(model.predict("스타벅스 라떼").category()).isEqualTo("식사");
+        assertThat(model.predict("부산 호텔").category()).isEqualTo("숙박");
+    }
+
+    @Test
+    @DisplayName("키는 캐시와 같은 방식으로 정규화 - 대소문자, 공백 차이 무시")
+    void predict_NormalizesInput() {
+        NaiveBayesCategoryModel.Prediction prediction = model.predict("  ktx   부산행 ");
+
+        assertThat(prediction.category()).isEqualTo("교통");
+        assertThat(prediction.confidence()).isBetween(0.5, 1.0);
+    }
+
+    @Test
+    @DisplayName("알려진 특징이 없으면 null, 빈 설명은 학습에서 제외")
+    void predict_UnknownReturnsNull() {
+        assertThat(model.predict("xyz")).isNull();
+        assertThat(model.getSampleCount()).isEqualTo(10);
+        assertThat(model.getCategories()).containsExactly("식사", "교통", "숙박");
+    }
+}
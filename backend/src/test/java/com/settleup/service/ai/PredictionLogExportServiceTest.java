@@ -0,0 +1,211 @@
+package com.settleup.service.ai;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.settleup.exception.BusinessException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * PredictionLogExportService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PredictionLogExportService 테스트")
+class PredictionLogExportServiceTest {
+
+    private static final LocalDateTime T1 = LocalDateTime.of(2026, 10, 1, 9, 0);
+    private static final LocalDateTime T2 = LocalDateTime.of(2026, 10, 1, 9, 5);
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private PredictionLogExportService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PredictionLogExportService(jdbcTemplate, new TransactionTemplate(transactionManager),
+                objectMapper, new SimpleMeterRegistry(), Duration.ofMinutes(5));
+    }
+
+    /**
+     * 내보내기 조회에 주어진 행(id, 설명, 예측 신뢰도, 생성 시각)을 RowCallbackHandler 로 전달
+     */
+    private List<String> stubExportQuery(List<Object[]> rows) throws Exception {
+        List<String> executedSql = new ArrayList<>();
+        doAnswer(inv -> {
+            executedSql.add(inv.getArgument(0));
+            RowCallbackHandler handler = inv.getArgument(2);
+            for (Object[] row : rows) {
+                ResultSet rs = mock(ResultSet.class);
+                when(rs.getObject("id", UUID.class)).thenReturn((UUID) row[0]);
+                when(rs.getObject("created_at", LocalDateTime.class)).thenReturn((LocalDateTime) row[3]);
+                when(rs.getString("description")).thenReturn((String) row[1]);
+                when(rs.getString("predicted_category")).thenReturn("FOOD");
+                when(rs.getDouble("predicted_confidence")).thenReturn(row[2] == null ? 0.0 : (Double) row[2]);
+                when(rs.wasNull()).thenReturn(row[2] == null);
+                when(rs.getString("final_category")).thenReturn("FOOD");
+                when(rs.getString("source")).thenReturn("AI");
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT id, description"), any(SqlParameterSource.class),
+                any(RowCallbackHandler.class));
+        return executedSql;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubWatermark(LocalDateTime createdAt, UUID id) {
+        when(jdbcTemplate.query(startsWith("SELECT last_created_at"), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenAnswer(inv -> {
+                    if (createdAt == null) {
+                        return List.of();
+                    }
+                    ResultSet rs = mock(ResultSet.class);
+                    when(rs.getObject("last_created_at", LocalDateTime.class)).thenReturn(createdAt);
+                    when(rs.getObject("last_id", UUID.class)).thenReturn(id);
+                    RowMapper<Object> mapper = inv.getArgument(2);
+                    return List.of(mapper.mapRow(rs, 0));
+                });
+    }
+
+    private List<JsonNode> readNdjson(byte[] gzipped) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(gzipped))) {
+            String text = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            List<JsonNode> lines = new ArrayList<>();
+            for (String line : text.split("\n")) {
+                if (!line.isEmpty()) {
+                    lines.add(objectMapper.readTree(line));
+                }
+            }
+            return lines;
+        }
+    }
+
+    @Test
+    @DisplayName("조회한 행을 한 줄에 하나씩 gzip NDJSON 으로 기록 (user_id 제외)")
+    void export_WritesGzippedNdjson() throws Exception {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        List<String> executedSql = stubExportQuery(List.of(
+                new Object[]{first, "스타벅스", 0.91, T1},
+                new Object[]{second, "김밥천국", null, T2}));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long exported = service.export(new PredictionLogExportService.ExportRequest(
+                T1, T2.plusHours(1), "AI", false, null), out);
+
+        assertThat(exported).isEqualTo(2);
+        List<JsonNode> lines = readNdjson(out.toByteArray());
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0).get("id").asText()).isEqualTo(first.toString());
+        assertThat(lines.get(0).get("description").asText()).isEqualTo("스타벅스");
+        assertThat(lines.get(0).get("predictedConfidence").asDouble()).isEqualTo(0.91);
+        assertThat(lines.get(0).get("createdAt").asText()).isEqualTo(T1.toString());
+        assertThat(lines.get(0).has("userId")).isFalse();
+        assertThat(lines.get(1).get("predictedConfidence").isNull()).isTrue();
+
+        assertThat(executedSql.get(0)).contains("created_at >= :from", "source = :source")
+                .doesNotContain("(created_at, id) >");
+        verify(jdbcTemplate, never()).update(anyString(), any(SqlParameterSource.class));
+    }
+
+    @Test
+    @DisplayName("증분 내보내기 - 워터마크 이후만 조회하고 마지막 행으로 워터마크 전진")
+    void export_IncrementalAdvancesWatermark() throws Exception {
+        UUID last = UUID.randomUUID();
+        stubWatermark(T1, UUID.randomUUID());
+        List<String> executedSql = stubExportQuery(List.<Object[]>of(new Object[]{last, "택시", 0.8, T2}));
+
+        service.export(new PredictionLogExportService.ExportRequest(null, null, null, true, "retrain"),
+                new ByteArrayOutputStream());
+
+        assertThat(executedSql.get(0)).contains("(created_at, id) > (:wmCreatedAt, :wmId)");
+        ArgumentCaptor<SqlParameterSource> params = ArgumentCaptor.forClass(SqlParameterSource.class);
+        verify(jdbcTemplate).update(startsWith("INSERT INTO batch_job_cursors"), params.capture());
+        assertThat(params.getValue().getValue("jobName"))
+                .isEqualTo(PredictionLogExportService.WATERMARK_JOB_PREFIX + "retrain");
+        assertThat(params.getValue().getValue("lastId")).isEqualTo(last);
+        assertThat(params.getValue().getValue("lastCreatedAt")).isEqualTo(T2);
+    }
+
+    @Test
+    @DisplayName("증분 내보내기 - 첫 실행은 워터마크 조건 없이 전체 조회, 내보낸 행이 없으면 워터마크 유지")
+    void export_IncrementalFirstRunWithoutRows() throws Exception {
+        stubWatermark(null, null);
+        List<String> executedSql = stubExportQuery(List.of());
+
+        long exported = service.export(new PredictionLogExportService.ExportRequest(null, null, null, true, "retrain"),
+                new ByteArrayOutputStream());
+
+        assertThat(exported).isZero();
+        assertThat(executedSql.get(0)).doesNotContain("(created_at, id) >");
+        verify(jdbcTemplate, never()).update(anyString(), any(SqlParameterSource.class));
+    }
+
+    @Test
+    @DisplayName("전송 중 연결이 끊기면 IOException 을 전파하고 워터마크를 저장하지 않음")
+    void export_ClientDisconnectKeepsWatermark() throws Exception {
+        stubWatermark(null, null);
+        stubExportQuery(List.<Object[]>of(new Object[]{UUID.randomUUID(), "택시", 0.8, T2}));
+        // gzip 헤더까지만 받고 끊기는 연결
+        OutputStream broken = new OutputStream() {
+            private int written;
+
+            @Override
+            public void write(int b) throws IOException {
+                if (++written > 10) {
+                    throw new IOException("Broken pipe");
+                }
+            }
+        };
+
+        assertThatThrownBy(() -> service.export(
+                new PredictionLogExportService.ExportRequest(null, null, null, true, "retrain"), broken))
+                .isInstanceOf(IOException.class);
+        verify(jdbcTemplate, never()).update(anyString(), any(SqlParameterSource.class));
+    }
+
+    @Test
+    @DisplayName("시작 시각이 종료 시각 이후이거나 증분 요청에 consumer 가 없으면 예외")
+    void validate_RejectsInvalidRequest() {
+        assertThatThrownBy(() -> service.validate(
+                new PredictionLogExportService.ExportRequest(T2, T1, null, false, null)))
+                .isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> service.validate(
+                new PredictionLogExportService.ExportRequest(null, null, null, true, "bad consumer!")))
+                .isInstanceOf(BusinessException.class);
+    }
+}
@@ -0,0 +1,197 @@
+package com.settleup.service.ai;
+
+import com.settleup.domain.prediction.PredictionLog;
+import com.settleup.repository.PredictionLogRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * PredictionLogWriter 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PredictionLogWriter 테스트")
+class PredictionLogWriterTest {
+
+    @Mock
+    private PredictionLogRepository predictionLogRepository;
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private PredictionLogWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        writer.shutdown();
+    }
+
+    private PredictionLogWriter writer(boolean asyncEnabled, int capacity) {
+        writer = new PredictionLogWriter(predictionLogRepository, jdbcTemplate, meterRegistry, asyncEnabled,
+                capacity, PredictionLogWriter.OverflowPolicy.DROP, Duration.ofMillis(10), 100,
+                Duration.ofMillis(20), Duration.ofSeconds(5));
+        writer.start();
+        return writer;
+    }
+
+    private static PredictionLog predictionLog(String description) {
+        return PredictionLog.builder()
+                .description(description)
+                .predictedCategory("식사")
+                .predictedConfidence(0.9)
+                .finalCategory("식사")
+                .source("AI")
+                .userId(UUID.randomUUID())
+                .build();
+    }
+
+    private double dropped(String reason) {
+        return meterRegistry.get("settleup.prediction_logs.dropped").tag("reason", reason).counter().count();
+    }
+
+    @Test
+    @DisplayName("큐에 넣은 로그를 백그라운드에서 JDBC 배치 INSERT")
+    void submit_WritesInBatches() {
+        PredictionLogWriter writer = writer(true, 100);
+
+        for (int i = 0; i < 5; i++) {
+            writer.submit(predictionLog("점심 " + i));
+        }
+
+        ArgumentCaptor<SqlParameterSource[]> captor = ArgumentCaptor.forClass(SqlParameterSource[].class);
+        verify(jdbcTemplate, timeout(1000).atLeastOnce()).batchUpdate(eq(PredictionLogWriter.INSERT_SQL), captor.capture());
+        assertThat(captor.getAllValues().stream().mapToInt(p -> p.length).sum()).isEqualTo(5);
+        verify(predictionLogRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("큐가 가득 차면 요청 스레드를 막지 않고 버린 뒤 drop 카운터 증가")
+    void submit_DropsWhenQueueFull() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(jdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class))).thenAnswer(inv -> {
+            writing.countDown();
+            release.await();
+            return new int[0];
+        });
+        PredictionLogWriter writer = writer(true, 2);
+
+        writer.submit(predictionLog("첫 배치"));
+        writing.await();
+        for (int i = 0; i < 5; i++) {
+            writer.submit(predictionLog("대기 " + i));
+        }
+
+        assertThat(writer.queueDepth()).isEqualTo(2);
+        assertThat(dropped("queue_full")).isEqualTo(3);
+        assertThat(meterRegistry.get("settleup.prediction_logs.queue.depth").gauge().value()).isEqualTo(2);
+        release.countDown();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 이후에만 큐에 넣음")
+    void submit_EnqueuesAfterCommit() {
+        when(jdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class))).thenReturn(new int[0]);
+        PredictionLogWriter writer = writer(true, 100);
+        TransactionSynchronizationManager.initSynchronization();
+
+        writer.submit(predictionLog("택시"));
+
+        assertThat(writer.queueDepth()).isZero();
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertThat(synchronizations).hasSize(1);
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        verify(jdbcTemplate, timeout(1000)).batchUpdate(anyString(), any(SqlParameterSource[].class));
+    }
+
+    @Test
+    @DisplayName("종료 시 남은 로그를 모두 기록하고 이후 요청은 shutdown 으로 집계")
+    void shutdown_FlushesPendingLogs() {
+        PredictionLogWriter writer = writer(true, 100);
+
+        for (int i = 0; i < 10; i++) {
+            writer.submit(predictionLog("대기 " + i));
+        }
+        writer.shutdown();
+        writer.submit(predictionLog("종료 후"));
+
+        assertThat(writer.queueDepth()).isZero();
+        assertThat(meterRegistry.get("settleup.prediction_logs.written").counter().count()).isEqualTo(10);
+        assertThat(dropped("shutdown")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("종료 시 진행 중인 배치 INSERT 를 인터럽트하지 않고 끝까지 기록")
+    void shutdown_DoesNotInterruptInFlightBatch() throws Exception {
+        CountDownLatch writing = new CountDownLatch(1);
+        when(jdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class))).thenAnswer(inv -> {
+            writing.countDown();
+            Thread.sleep(100);
+            return new int[0];
+        });
+        PredictionLogWriter writer = writer(true, 100);
+
+        writer.submit(predictionLog("진행 중"));
+        writing.await();
+        writer.submit(predictionLog("대기"));
+        writer.shutdown();
+
+        assertThat(meterRegistry.get("settleup.prediction_logs.written").counter().count()).isEqualTo(2);
+        assertThat(dropped("write_failed")).isZero();
+    }
+
+    @Test
+    @DisplayName("배치 INSERT 실패 시 건별로 다시 기록하고 실패한 행만 버림")
+    void writeBatch_RetriesRowsIndividually() {
+        when(jdbcTemplate.batchUpdate(anyString(), any(SqlParameterSource[].class)))
+                .thenThrow(new DataIntegrityViolationException("fk_prediction_logs_user"));
+        when(jdbcTemplate.update(anyString(), any(SqlParameterSource.class)))
+                .thenReturn(1)
+                .thenThrow(new DataIntegrityViolationException("fk_prediction_logs_user"))
+                .thenReturn(1);
+        PredictionLogWriter writer = writer(true, 100);
+
+        writer.writeBatch(new ArrayList<>(List.of(predictionLog("a"), predictionLog("b"), predictionLog("c"))));
+
+        verify(jdbcTemplate, times(3)).update(eq(PredictionLogWriter.INSERT_SQL), any(SqlParameterSource.class));
+        assertThat(meterRegistry.get("settleup.prediction_logs.written").counter().count()).isEqualTo(2);
+        assertThat(dropped("write_failed")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("비동기 비활성화 시 기존처럼 즉시 저장")
+    void submit_SavesSynchronouslyWhenDisabled() {
+        PredictionLogWriter writer = writer(false, 100);
+        PredictionLog predictionLog = predictionLog("호텔");
+
+        writer.submit(predictionLog);
+
+        verify(predictionLogRepository).save(predictionLog);
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,120 @@
+package com.settleup.service.ai;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로컬 stub 분류 서버 (테스트·벤치마크용)
+ * POST /predict, /predict/batch 에 latency 만큼 지연 후 고정 카테고리 응답, 요청 수와 클라이언트 커넥션 수 집계
+ */
+public class StubClassifierServer implements AutoCloseable {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+    private static final String PREDICTION = "{\"description\":\"stub\",\"category\":\"FOOD\",\"confidence\":0.91}";
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final AtomicLong latencyMillis = new AtomicLong();
+    private final AtomicInteger status = new AtomicInteger(200);
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger batchRequestCount = new AtomicInteger();
+    private final AtomicInteger predictedCount = new AtomicInteger();
+    private final Set<InetSocketAddress> clientAddresses = ConcurrentHashMap.newKeySet();
+
+    public StubClassifierServer() throws IOException {
+        executor = Executors.newFixedThreadPool(128);
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(executor);
+        server.createContext("/predict", exchange -> {
+            requestCount.incrementAndGet();
+            predictedCount.incrementAndGet();
+            clientAddresses.add(exchange.getRemoteAddress());
+            exchange.getRequestBody().readAllBytes();
+            sleep(latencyMillis.get());
+            respond(exchange, PREDICTION);
+        });
+        server.createContext("/predict/batch", exchange -> {
+            requestCount.incrementAndGet();
+            batchRequestCount.incrementAndGet();
+            clientAddresses.add(exchange.getRemoteAddress());
+            JsonNode request = MAPPER.readTree(exchange.getRequestBody());
+            int size = request.path("descriptions").size();
+            predictedCount.addAndGet(size);
+            sleep(latencyMillis.get());
+            respond(exchange, "{\"predictions\":[" + String.join(",", Collections.nCopies(size, PREDICTION)) + "]}");
+        });
+        server.start();
+    }
+
+    public String url() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public void setLatencyMillis(long millis) {
+        latencyMillis.set(millis);
+    }
+
+    public void setStatus(int code) {
+        status.set(code);
+    }
+
+    public int requestCount() {
+        return requestCount.get();
+    }
+
+    public int batchRequestCount() {
+        return batchRequestCount.get();
+    }
+
+    /**
+     * 단건·배치 요청에 포함된 설명 수 합계
+     */
+    public int predictedCount() {
+        return predictedCount.get();
+    }
+
+    /**
+     * 요청을 보낸 서로 다른 클라이언트 소켓 수 (keep-alive 재사용 여부 확인용)
+     */
+    public int connectionCount() {
+        return clientAddresses.size();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    private void respond(HttpExchange exchange, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status.get(), body.length);
+        exchange.getResponseBody().write(body);
+        exchange.close();
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.settleup.service.archive;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.settleup.config.SecondLevelCacheEvictor;
+import com.settleup.domain.expense.Expense;
+import com.settleup.domain.expense.ExpenseSplit;
+import com.settleup.domain.participant.Participant;
+import com.settleup.domain.settlement.*;
+import com.settleup.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * SettlementArchiveService 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("SettlementArchiveService 테스트")
+class SettlementArchiveServiceTest {
+
+    @Mock
+    private SettlementRepository settlementRepository;
+
+    @Mock
+    private SettlementArchiveRepository archiveRepository;
+
+    @Mock
+    private ParticipantRepository participantRepository;
+
+    @Mock
+    private ExpenseRepository expenseRepository;
+
+    @Mock
+    private ExpenseSplitRepository expenseSplitRepository;
+
+    @Mock
+    private GameRoundRepository gameRoundRepository;
+
+    @Mock
+    private GameRoundEntryRepository gameRoundEntryRepository;
+
+    @Mock
+    private SettlementResultRepository settlementResultRepository;
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private SecondLevelCacheEvictor cacheEvictor;
+
+    @InjectMocks
+    private SettlementArchiveService archiveService;
+
+    private UUID settlementId;
+    private Settlement settlement;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(archiveService, "deleteBatchSize", 2);
+        settlementId = UUID.randomUUID();
+        settlement = Settlement.builder()
+                .id(settlementId)
+                .title("제주도 여행")
+                .type(SettlementType.TRAVEL)
+                .status(SettlementStatus.COMPLETED)
+                .creatorId(UUID.randomUUID())
+                .completedAt(LocalDateTime.now().minusDays(200))
+                .build();
+    }
+
+    @Test
+    @DisplayName("진행 중인 정산은 아카이브하지 않음")
+    void archive_SkipsActiveSettlement() {
+        settlement.setStatus(SettlementStatus.ACTIVE);
+        when(settlementRepository.findById(settlementId)).thenReturn(Optional.of(settlement));
+
+        boolean archived = archiveService.archive(settlementId);
+
+        assertThat(archived).isFalse();
+        verify(archiveRepository, never()).save(any());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("완료 정산 아카이브 - 번들 저장 후 hot 테이블 배치 삭제")
+    void archive_CompletedSettlement() {
+        List<Participant> participants = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            participants.add(Participant.builder()
+                    .id(UUID.randomUUID())
+                    .settlementId(settlementId)
+                    .name("참가자" + i)
+                    .isActive(i < 2)
+                    .build());
+        }
+        Expense expense = Expense.builder()
+                .id(UUID.randomUUID())
+                .settlement(settlement)
+                .payer(participants.get(0))
+                .amount(new BigDecimal("30000"))
+                .description("저녁 식사")
+                .expenseDate(LocalDateTime.now().minusDays(210))
+                .build();
+        ExpenseSplit split = ExpenseSplit.builder()
+                .id(UUID.randomUUID())
+                .expense(expense)
+                .participant(participants.get(1))
+                .share(new BigDecimal("30000"))
+                .build();
+
+        when(settlementRepository.findById(settlementId)).thenReturn(Optional.of(settlement));
+        when(participantRepository.findBySettlementId(settlementId)).thenReturn(participants);
+        when(expenseRepository.findBySettlementIdOrderByExpenseDateDesc(settlementId)).thenReturn(List.of(expense));
+        when(expenseSplitRepository.findBySettlementId(settlementId)).thenReturn(List.of(split));
+        when(gameRoundRepository.findBySettlementIdOrderByRoundNumberAsc(settlementId)).thenReturn(Collections.emptyList());
+        when(settlementResultRepository.findBySettlementIdOrderByCalculatedAtDesc(settlementId))
+                .thenReturn(Collections.emptyList());
+
+        boolean archived = archiveService.archive(settlementId);
+
+        assertThat(archived).isTrue();
+        assertThat(settlement.getArchivedAt()).isNotNull();
+
+        ArgumentCaptor<SettlementArchive> captor = ArgumentCaptor.forClass(SettlementArchive.class);
+        verify(archiveRepository).save(captor.capture());
+        SettlementArchive saved = captor.getValue();
+        assertThat(saved.getTotalExpense()).isEqualByComparingTo("30000");
+        assertThat(saved.getParticipantCount()).isEqualTo(2);
+        assertThat(saved.getBundle().getParticipants()).hasSize(3);
+        assertThat(saved.getBundle().getExpenses().get(0).getPayerId()).isEqualTo(participants.get(0).getId());
+
+        // 참가자 3명은 배치 크기 2로 두 번에 나눠 삭제
+        verify(jdbcTemplate, times(2)).update(startsWith("DELETE FROM participants"), any(SqlParameterSource.class));
+        verify(jdbcTemplate).update(startsWith("DELETE FROM expenses"), any(SqlParameterSource.class));
+        verify(jdbcTemplate).update(startsWith("DELETE FROM expense_splits"), any(SqlParameterSource.class));
+        verify(jdbcTemplate, never()).update(startsWith("DELETE FROM game_rounds"), any(SqlParameterSource.class));
+        verify(cacheEvictor).evictAfterCommit(Participant.class, participants.stream().map(Participant::getId).toList());
+    }
+
+    @Test
+    @DisplayName("아카이브 번들 하이드레이션 - 압축 왕복 후 엔티티 관계 복원")
+    void findArchived_HydratesFromBundle() {
+        UUID payerId = UUID.randomUUID();
+        UUID expenseId = UUID.randomUUID();
+        SettlementArchiveBundle bundle = SettlementArchiveBundle.builder()
+                .settlementId(settlementId)
+                .participants(List.of(SettlementArchiveBundle.ParticipantRecord.builder()
+                        .id(payerId).name("김철수").isActive(true).joinedAt(LocalDateTime.now()).build()))
+                .expenses(List.of(SettlementArchiveBundle.ExpenseRecord.builder()
+                        .id(expenseId).payerId(payerId).amount(new BigDecimal("12000"))
+                        .description("택시").expenseDate(LocalDateTime.now()).version(0).build()))
+                .splits(List.of(SettlementArchiveBundle.ExpenseSplitRecord.builder()
+                        .id(UUID.randomUUID()).expenseId(expenseId).participantId(payerId)
+                        .share(new BigDecimal("12000")).build()))
+                .rounds(Collections.emptyList())
+                .entries(Collections.emptyList())
+                .results(Collections.emptyList())
+                .build();
+
+        // DB 저장 형태(gzip JSON)로 왕복
+        SettlementArchiveBundleConverter converter = new SettlementArchiveBundleConverter();
+        SettlementArchiveBundle restored = converter.convertToEntityAttribute(converter.convertToDatabaseColumn(bundle));
+        when(archiveRepository.findBySettlementId(settlementId)).thenReturn(Optional.of(
+                SettlementArchive.builder().settlementId(settlementId).bundle(restored).build()));
+
+        ArchivedSettlement archived = archiveService.findArchived(settlementId).orElseThrow();
+
+        assertThat(archived.getExpenses()).hasSize(1);
+        Expense expense = archived.getExpenses().get(0);
+        assertThat(expense.getSettlement().getId()).isEqualTo(settlementId);
+        assertThat(expense.getPayer().getName()).isEqualTo("김철수");
+        assertThat(archived.getSplits(expenseId)).hasSize(1);
+        assertThat(archived.getSplits(expenseId).get(0).getShare()).isEqualByComparingTo("12000");
+    }
+
+    @Test
+    @DisplayName("버전 1 번들 - JSON 문자열로 저장된 제외 참가자 목록도 읽음")
+    void bundle_ReadsLegacyExcludedParticipantIds() throws Exception {
+        UUID excluded = UUID.randomUUID();
+        ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+
+        SettlementArchiveBundle.GameRoundRecord legacy = mapper.readValue(
+                "{\"roundNumber\":1,\"excludedParticipantIds\":\"[\\\"" + excluded + "\\\"]\"}",
+                SettlementArchiveBundle.GameRoundRecord.class);
+        SettlementArchiveBundle.GameRoundRecord current = mapper.readValue(
+                "{\"roundNumber\":1,\"excludedParticipantIds\":[\"" + excluded + "\"]}",
+                SettlementArchiveBundle.GameRoundRecord.class);
+
+        assertThat(legacy.getExcludedParticipantIds()).containsExactly(excluded);
+        assertThat(current.getExcludedParticipantIds()).containsExactly(excluded);
+    }
+}
@@ -0,0 +1,134 @@
+package com.settleup.service.auth;
+
+import com.settleup.domain.user.RefreshToken;
+import com.settleup.domain.user.User;
+import com.settleup.dto.auth.TokenResponse;
+import com.settleup.repository.RefreshTokenRepository;
+import com.settleup.repository.SocialAccountRepository;
+import com.settleup.repository.UserRepository;
+import com.settleup.security.JwtProperties;
+import com.settleup.security.JwtTokenProvider;
+import com.settleup.security.TokenHasher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * AuthService 단위 테스트 (refresh token rotation)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthService 테스트")
+class AuthServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SocialAccountRepository socialAccountRepository;
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Mock
+    private SocialUserResolver socialUserResolver;
+
+    private AuthService authService;
+
+    private UUID userId;
+    private UUID familyId;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties jwtProperties = new JwtProperties();
+        authService = new AuthService(userRepository, socialAccountRepository, refreshTokenRepository,
+                jwtTokenProvider, jwtProperties, Collections.emptyList(), jdbcTemplate, socialUserResolver);
+        userId = UUID.randomUUID();
+        familyId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("토큰 회전 성공 - 같은 패밀리로 새 토큰 해시 저장")
+    @SuppressWarnings("unchecked")
+    void refreshToken_RotatesWithinFamily() {
+        when(jdbcTemplate.query(contains("revoked_at = NOW()"), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(List.of(new AuthService.RotatedToken(userId, familyId, "김철수", "kim@settleup.com")));
+        when(jwtTokenProvider.createAccessToken(any(User.class))).thenReturn("access");
+        when(jwtTokenProvider.createRefreshToken(any(User.class))).thenReturn("new-refresh");
+        when(userRepository.getReferenceById(userId)).thenReturn(User.builder().id(userId).build());
+
+        TokenResponse response = authService.refreshToken("old-refresh");
+
+        assertThat(response.getRefreshToken()).isEqualTo("new-refresh");
+        assertThat(response.getUserId()).isEqualTo(userId);
+        assertThat(response.getUserName()).isEqualTo("김철수");
+
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        assertThat(captor.getValue().getFamilyId()).isEqualTo(familyId);
+        assertThat(captor.getValue().getTokenHash()).isEqualTo(TokenHasher.sha256Hex("new-refresh"));
+        verify(refreshTokenRepository, never()).revokeFamily(any());
+    }
+
+    @Test
+    @DisplayName("폐기된 토큰 재사용 - 패밀리 전체 폐기 후 실패")
+    @SuppressWarnings("unchecked")
+    void refreshToken_ReuseRevokesFamily() {
+        when(jdbcTemplate.query(startsWith("UPDATE refresh_tokens"), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(Collections.emptyList());
+        when(refreshTokenRepository.findByTokenHash(TokenHasher.sha256Hex("reused")))
+                .thenReturn(Optional.of(RefreshToken.builder()
+                        .familyId(familyId)
+                        .revoked(true)
+                        .expiresAt(LocalDateTime.now().plusDays(1))
+                        .build()));
+
+        assertThatThrownBy(() -> authService.refreshToken("reused"))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Invalid refresh token");
+
+        verify(refreshTokenRepository).revokeFamily(familyId);
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("만료된 토큰 - 패밀리 폐기 없이 실패")
+    @SuppressWarnings("unchecked")
+    void refreshToken_Expired() {
+        when(jdbcTemplate.query(startsWith("UPDATE refresh_tokens"), any(SqlParameterSource.class), any(RowMapper.class)))
+                .thenReturn(Collections.emptyList());
+        when(refreshTokenRepository.findByTokenHash(anyString()))
+                .thenReturn(Optional.of(RefreshToken.builder()
+                        .familyId(familyId)
+                        .revoked(false)
+                        .expiresAt(LocalDateTime.now().minusDays(1))
+                        .build()));
+
+        assertThatThrownBy(() -> authService.refreshToken("expired"))
+                .hasMessage("Refresh token expired");
+
+        verify(refreshTokenRepository, never()).revokeFamily(any());
+    }
+}
@@ -0,0 +1,72 @@
+package com.settleup.service.auth;
+
+import com.settleup.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * RefreshTokenCleanupJob 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("RefreshTokenCleanupJob 테스트")
+class RefreshTokenCleanupJobTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RefreshTokenCleanupJob job;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        job = new RefreshTokenCleanupJob(refreshTokenRepository, meterRegistry);
+        ReflectionTestUtils.setField(job, "enabled", true);
+        ReflectionTestUtils.setField(job, "chunkSize", 100);
+        ReflectionTestUtils.setField(job, "maxChunksPerRun", 10);
+    }
+
+    @Test
+    @DisplayName("마지막 청크가 chunk-size 미만이면 종료 - 삭제 건수 메트릭 기록")
+    void cleanup_StopsOnPartialChunk() {
+        when(refreshTokenRepository.deleteExpiredChunk(any(), eq(100)))
+                .thenReturn(100, 100, 37);
+
+        job.cleanup();
+
+        verify(refreshTokenRepository, times(3)).deleteExpiredChunk(any(), eq(100));
+        assertThat(meterRegistry.counter("settleup.refresh_tokens.cleanup.deleted").count()).isEqualTo(237);
+        assertThat(meterRegistry.timer("settleup.refresh_tokens.cleanup.duration").count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실행당 최대 청크 수 초과 시 중단")
+    void cleanup_RespectsMaxChunks() {
+        when(refreshTokenRepository.deleteExpiredChunk(any(), eq(100))).thenReturn(100);
+
+        int deleted = job.deleteInChunks();
+
+        assertThat(deleted).isEqualTo(1000);
+        verify(refreshTokenRepository, times(10)).deleteExpiredChunk(any(), eq(100));
+    }
+
+    @Test
+    @DisplayName("비활성화 시 삭제하지 않음")
+    void cleanup_Disabled() {
+        ReflectionTestUtils.setField(job, "enabled", false);
+
+        job.cleanup();
+
+        verifyNoInteractions(refreshTokenRepository);
+    }
+}
@@ -0,0 +1,137 @@
+package com.settleup.service.auth;
+
+import com.settleup.domain.user.SocialProvider;
+import com.settleup.dto.auth.TokenResponse;
+import com.settleup.repository.SocialAccountRepository;
+import com.settleup.repository.UserRepository;
+import com.settleup.service.social.KakaoTokenValidator;
+import com.settleup.service.social.SocialUserInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * 소셜 로그인 동시 최초 로그인 테스트
+ * 같은 계정으로 병렬 로그인해도 사용자/소셜 계정이 하나만 생성되어야 함 (트랜잭션 커밋 필요 → 비트랜잭션 테스트)
+ */
+@SpringBootTest
+@DisplayName("소셜 로그인 동시성 테스트")
+class SocialLoginConcurrencyTest {
+
+    private static final int THREADS = 8;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private SocialAccountRepository socialAccountRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private KakaoTokenValidator kakaoTokenValidator;
+
+    private String providerUserId;
+
+    @BeforeEach
+    void setUp() {
+        providerUserId = "kakao-" + UUID.randomUUID();
+        when(kakaoTokenValidator.getProvider()).thenReturn("KAKAO");
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM users WHERE id IN (SELECT user_id FROM social_accounts WHERE provider_user_id = ?)",
+                providerUserId);
+        jdbcTemplate.update("DELETE FROM users WHERE email = ?", providerUserId + "@kakao.test");
+    }
+
+    @Test
+    @DisplayName("이메일 있는 계정 - 병렬 최초 로그인 시 사용자 1명, 소셜 계정 1개")
+    void parallelFirstLogin_WithEmail() throws Exception {
+        mockValidator(providerUserId + "@kakao.test");
+
+        List<TokenResponse> responses = loginInParallel();
+
+        assertSingleIdentity(responses);
+        assertThat(userRepository.findByEmail(providerUserId + "@kakao.test")).isPresent();
+    }
+
+    @Test
+    @DisplayName("이메일 없는 계정 - 병렬 최초 로그인 시 사용자 1명, 소셜 계정 1개")
+    void parallelFirstLogin_WithoutEmail() throws Exception {
+        mockValidator(null);
+
+        List<TokenResponse> responses = loginInParallel();
+
+        assertSingleIdentity(responses);
+        Integer orphanUsers = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM users u WHERE u.name = ? AND NOT EXISTS " +
+                        "(SELECT 1 FROM social_accounts sa WHERE sa.user_id = u.id)",
+                Integer.class, providerUserId);
+        assertThat(orphanUsers).isZero();
+    }
+
+    private void mockValidator(String email) {
+        when(kakaoTokenValidator.validateToken(anyString())).thenReturn(SocialUserInfo.builder()
+                .providerId(providerUserId)
+                .email(email)
+                .name(providerUserId)
+                .provider("KAKAO")
+                .build());
+    }
+
+    private List<TokenResponse> loginInParallel() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<TokenResponse>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return authService.socialLogin("KAKAO", "id-token");
+                }));
+            }
+            start.countDown();
+
+            List<TokenResponse> responses = new ArrayList<>();
+            for (Future<TokenResponse> future : futures) {
+                responses.add(future.get());
+            }
+            return responses;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void assertSingleIdentity(List<TokenResponse> responses) {
+        assertThat(responses).hasSize(THREADS);
+        assertThat(responses.stream().map(TokenResponse::getUserId).distinct()).hasSize(1);
+        assertThat(socialAccountRepository.findByProviderAndProviderUserId(SocialProvider.KAKAO, providerUserId))
+                .isPresent();
+        Integer accounts = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM social_accounts WHERE provider_user_id = ?", Integer.class, providerUserId);
+        assertThat(accounts).isEqualTo(1);
+    }
+}
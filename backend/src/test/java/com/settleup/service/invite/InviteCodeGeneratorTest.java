@@ -0,0 +1,68 @@
+package com.settleup.service.invite;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * InviteCodeGenerator 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InviteCodeGenerator 테스트")
+class InviteCodeGeneratorTest {
+
+    @Mock
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private InviteCodeGenerator generator;
+
+    @Test
+    @DisplayName("풀 비활성화 - DB 조회 없이 8자리 코드 생성")
+    void nextCode_WithoutPool() {
+        ReflectionTestUtils.setField(generator, "poolEnabled", false);
+        ReflectionTestUtils.setField(generator, "poolSize", 16);
+        generator.init();
+
+        String code = generator.nextCode();
+
+        assertThat(code).hasSize(InviteCodeGenerator.CODE_LENGTH).matches("[A-HJ-NP-Z2-9]+");
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("풀 활성화 - 이미 발급된 코드는 제외하고 채움")
+    void refillPool_SkipsTakenCodes() {
+        ReflectionTestUtils.setField(generator, "poolEnabled", true);
+        ReflectionTestUtils.setField(generator, "poolSize", 16);
+        when(jdbcTemplate.queryForList(anyString(), any(SqlParameterSource.class), eq(String.class)))
+                .thenAnswer(invocation -> {
+                    SqlParameterSource params = invocation.getArgument(1);
+                    Set<String> candidates = (Set<String>) params.getValue("codes");
+                    return List.of(candidates.iterator().next());
+                });
+
+        generator.init();
+
+        assertThat(generator.pooledCount()).isEqualTo(15);
+        Set<String> issued = new HashSet<>();
+        for (int i = 0; i < 15; i++) {
+            issued.add(generator.nextCode());
+        }
+        assertThat(issued).hasSize(15);
+    }
+}
@@ -0,0 +1,74 @@
+package com.settleup.service.invite;
+
+import com.settleup.repository.SettlementInviteCodeRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * InviteCodePurgeJob 단위 테스트
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InviteCodePurgeJob 테스트")
+class InviteCodePurgeJobTest {
+
+    @Mock
+    private SettlementInviteCodeRepository inviteCodeRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private InviteCodePurgeJob job;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        job = new InviteCodePurgeJob(inviteCodeRepository, meterRegistry);
+        ReflectionTestUtils.setField(job, "enabled", true);
+        ReflectionTestUtils.setField(job, "retentionDays", 7);
+        ReflectionTestUtils.setField(job, "chunkSize", 100);
+        ReflectionTestUtils.setField(job, "maxChunksPerRun", 10);
+    }
+
+    @Test
+    @DisplayName("보존 기간 이전 코드를 청크 단위로 삭제 - 삭제 건수 메트릭 기록")
+    void purge_DeletesInChunks() {
+        when(inviteCodeRepository.deleteStaleChunk(any(), eq(100))).thenReturn(100, 12);
+
+        job.purge();
+
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(inviteCodeRepository, times(2)).deleteStaleChunk(cutoff.capture(), eq(100));
+        assertThat(cutoff.getValue()).isBefore(LocalDateTime.now().minusDays(6));
+        assertThat(meterRegistry.counter("settleup.invite_codes.purge.deleted").count()).isEqualTo(112);
+    }
+
+    @Test
+    @DisplayName("실행당 최대 청크 수 초과 시 중단")
+    void purge_RespectsMaxChunks() {
+        when(inviteCodeRepository.deleteStaleChunk(any(), eq(100))).thenReturn(100);
+
+        assertThat(job.deleteInChunks()).isEqualTo(1000);
+        verify(inviteCodeRepository, times(10)).deleteStaleChunk(any(), eq(100));
+    }
+
+    @Test
+    @DisplayName("비활성화 시 삭제하지 않음")
+    void purge_Disabled() {
+        ReflectionTestUtils.setField(job, "enabled", false);
+
+        job.purge();
+
+        verifyNoInteractions(inviteCodeRepository);
+    }
+}
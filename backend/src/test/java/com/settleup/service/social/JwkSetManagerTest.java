@@ -0,0 +1,181 @@
+package com.settleup.service.social;
+
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * JwkSetManager 테스트 (로컬 stub JWKS 서버 사용)
+ */
+@DisplayName("JwkSetManager 테스트")
+class JwkSetManagerTest {
+
+    private HttpServer server;
+    private final AtomicInteger requestCount = new AtomicInteger();
+    private final AtomicInteger status = new AtomicInteger(200);
+    private final AtomicReference<String> body = new AtomicReference<>();
+
+    private MutableClock clock;
+    private SimpleMeterRegistry meterRegistry;
+    private JwkSetManager manager;
+    private JWKSource<SecurityContext> keySource;
+
+    private RSAKey key1;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        key1 = new RSAKeyGenerator(2048).keyID("key-1").generate();
+        body.set(new JWKSet(key1.toPublicJWK()).toString());
+
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/jwks", exchange -> {
+            requestCount.incrementAndGet();
+            byte[] bytes = body.get().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Cache-Control", "public, max-age=600");
+            exchange.sendResponseHeaders(status.get(), bytes.length);
+            exchange.getResponseBody().write(bytes);
+            exchange.close();
+        });
+        server.start();
+
+        JwksProperties properties = new JwksProperties();
+        properties.setRefreshAhead(Duration.ofMinutes(2));
+        properties.setStaleGrace(Duration.ofMinutes(30));
+        properties.setCheckInterval(Duration.ofHours(1)); // 테스트에서는 refreshDue() 직접 호출
+        clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        meterRegistry = new SimpleMeterRegistry();
+        manager = new JwkSetManager(properties, meterRegistry, clock);
+
+        URI uri = URI.create("http://127.0.0.1:" + server.getAddress().getPort() + "/jwks");
+        keySource = manager.register("TEST", uri);
+    }
+
+    @AfterEach
+    void tearDown() {
+        manager.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("등록 시 선조회 - 이후 조회는 네트워크 요청 없음")
+    void register_PrefetchesKeys() throws Exception {
+        awaitRequests(1);
+
+        assertThat(select("key-1")).isEqualTo(1);
+        assertThat(select("key-1")).isEqualTo(1);
+        assertThat(requestCount.get()).isEqualTo(1);
+        assertThat(meterRegistry.find("settleup.jwks.fetch").tag("outcome", "success").timer().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("만료 임박 시 백그라운드 갱신 (max-age 반영)")
+    void refreshDue_RefreshesBeforeExpiry() throws Exception {
+        awaitRequests(1);
+
+        clock.advance(Duration.ofMinutes(5));
+        manager.refreshDue();
+        assertThat(requestCount.get()).isEqualTo(1);
+
+        clock.advance(Duration.ofMinutes(4)); // 만료(10분) 2분 전 이내
+        manager.refreshDue();
+        assertThat(requestCount.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("제공자 장애 - grace 기간 내 stale 키셋 사용, 초과 시 실패")
+    void select_ServesStaleWithinGrace() throws Exception {
+        awaitRequests(1);
+        status.set(503);
+
+        clock.advance(Duration.ofMinutes(20)); // 만료 후 10분
+        manager.refreshDue();
+        assertThat(select("key-1")).isEqualTo(1);
+        assertThat(meterRegistry.find("settleup.jwks.fetch").tag("outcome", "failure").timer().count())
+                .isEqualTo(1);
+
+        clock.advance(Duration.ofMinutes(30)); // grace 초과
+        assertThatThrownBy(() -> select("key-1")).isInstanceOf(KeySourceException.class);
+    }
+
+    @Test
+    @DisplayName("알 수 없는 kid - 즉시 재조회 후 최소 간격 동안은 재조회하지 않음")
+    void select_UnknownKidTriggersForcedRefresh() throws Exception {
+        awaitRequests(1);
+        RSAKey key2 = new RSAKeyGenerator(2048).keyID("key-2").generate();
+        body.set(new JWKSet(List.of(key1.toPublicJWK(), key2.toPublicJWK())).toString());
+
+        assertThat(select("key-2")).isEqualTo(1);
+        assertThat(requestCount.get()).isEqualTo(2);
+
+        assertThat(select("key-3")).isZero();
+        assertThat(requestCount.get()).isEqualTo(2);
+    }
+
+    private int select(String kid) throws KeySourceException {
+        JWKSelector selector = new JWKSelector(new JWKMatcher.Builder().keyID(kid).build());
+        return keySource.get(selector, null).size();
+    }
+
+    private void awaitRequests(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (requestCount.get() < expected && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        // 응답 반영 대기
+        Thread.sleep(50);
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}